@@ -0,0 +1,53 @@
+package com.example.tournament.bench;
+
+import com.example.tournament.service.BracketTopology;
+import com.example.tournament.service.SeedPlacementUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// The in-memory part of generateSingleElimination: ordering, placement, BYE advancement, id linking
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BracketSkeletonBenchmark {
+
+    @Param({"8", "13", "64", "100", "512", "1000", "4096"})
+    public int participants;
+
+    @Param({"false", "true"})
+    public boolean seeded;
+
+    private long[] regs;
+    private int[] seeds;
+    private long[] ids;
+
+    @Setup
+    public void setUp() {
+        regs = DrawFixtures.registrations(participants);
+        seeds = DrawFixtures.seeds(participants, seeded);
+        ids = new long[SeedPlacementUtil.nextPowerOfTwo(participants) - 1];
+        for (int i = 0; i < ids.length; i++) ids[i] = i + 1;
+    }
+
+    @Benchmark
+    public BracketTopology buildSkeleton() {
+        long[] ordered = SeedPlacementUtil.orderBySeedOrNatural(regs, seeds);
+        int n = ordered.length;
+        int effective = SeedPlacementUtil.nextPowerOfTwo(n);
+        BracketTopology topology = new BracketTopology(effective);
+        for (int pos = 0; pos < (effective >> 1); pos++) {
+            int idx1 = SeedPlacementUtil.seedIndexAtLine(2 * pos, effective);
+            int idx2 = SeedPlacementUtil.seedIndexAtLine(2 * pos + 1, effective);
+            topology.seat(topology.indexOf(1, pos),
+                    idx1 < n ? ordered[idx1] : BracketTopology.NONE,
+                    idx2 < n ? ordered[idx2] : BracketTopology.NONE);
+        }
+        topology.advanceByes();
+        topology.assignIds(ids);
+        return topology;
+    }
+}
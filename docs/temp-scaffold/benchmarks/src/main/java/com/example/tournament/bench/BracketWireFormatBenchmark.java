@@ -0,0 +1,59 @@
+package com.example.tournament.bench;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.service.BracketWireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// GET /categories/{cId}/bracket bodies: JSON through Jackson against application/x-bracket, both directions.
+// Body sizes do not depend on timing and are printed by BracketWireFormatSizes instead.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BracketWireFormatBenchmark {
+
+    @Param({"8", "13", "64", "100", "512", "1000", "4096"})
+    public int participants;
+
+    // 0 = fresh draw, 2 = first two rounds played with scores
+    @Param({"0", "2"})
+    public int playedRounds;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private BracketSummaryResponse bracket;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws IOException {
+        bracket = DrawFixtures.bracket(participants, playedRounds);
+        json = mapper.writeValueAsBytes(bracket);
+        binary = BracketWireFormat.encode(bracket);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return mapper.writeValueAsBytes(bracket);
+    }
+
+    @Benchmark
+    public BracketSummaryResponse jsonDecode() throws IOException {
+        return mapper.readValue(json, BracketSummaryResponse.class);
+    }
+
+    @Benchmark
+    public byte[] binaryEncode() {
+        return BracketWireFormat.encode(bracket);
+    }
+
+    @Benchmark
+    public BracketSummaryResponse binaryDecode() {
+        return BracketWireFormat.decode(binary);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.tournament.bench;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.service.BracketWireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Prints raw and gzipped body sizes for the {@link BracketWireFormatBenchmark} parameter grid.
+ * Kept out of the benchmark so the table is produced once, not mixed into every fork's JMH output.
+ */
+public class BracketWireFormatSizes {
+
+    private static final int[] PARTICIPANTS = {8, 13, 64, 100, 512, 1000, 4096};
+    private static final int[] PLAYED_ROUNDS = {0, 2};
+
+    public static void main(String[] args) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        System.out.printf("%-12s %-12s %10s %10s %10s %10s%n",
+                "participants", "playedRounds", "json", "json.gz", "binary", "binary.gz");
+        for (int participants : PARTICIPANTS) {
+            for (int playedRounds : PLAYED_ROUNDS) {
+                BracketSummaryResponse bracket = DrawFixtures.bracket(participants, playedRounds);
+                byte[] json = mapper.writeValueAsBytes(bracket);
+                byte[] binary = BracketWireFormat.encode(bracket);
+                System.out.printf("%-12d %-12d %10d %10d %10d %10d%n", participants, playedRounds,
+                        json.length, gzip(json).length, binary.length, gzip(binary).length);
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] raw) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(raw);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.tournament.bench;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.MatchDto;
+import com.example.tournament.service.BracketTopology;
+import com.example.tournament.service.SeedPlacementUtil;
+
+import java.util.*;
+
+// Deterministic registrations/seeds shared by the benchmarks
+final class DrawFixtures {
+
+    static final long FIRST_REG_ID = 1_000L;
+
+    private DrawFixtures() {}
+
+    static long[] registrations(int n) {
+        long[] regs = new long[n];
+        for (int i = 0; i < n; i++) regs[i] = FIRST_REG_ID + i;
+        return regs;
+    }
+
+    // Seeds 1..seedCount(n) on random registrations, 0 elsewhere
+    static int[] seeds(int n, boolean seeded) {
+        int[] seeds = new int[n];
+        if (!seeded) return seeds;
+        int[] order = shuffledIndexes(n);
+        for (int s = 0; s < seedCount(n); s++) seeds[order[s]] = s + 1;
+        return seeds;
+    }
+
+    // Usual practice: a quarter of the field, capped at 32 seeds
+    static int seedCount(int n) {
+        return Math.min(32, Math.max(1, n / 4));
+    }
+
+    static List<Long> registrationList(long[] regs) {
+        List<Long> list = new ArrayList<>(regs.length);
+        for (long r : regs) list.add(r);
+        return list;
+    }
+
+    static Map<Long, Integer> seedMap(long[] regs, int[] seeds) {
+        Map<Long, Integer> map = new HashMap<>();
+        for (int i = 0; i < regs.length; i++) {
+            if (seeds[i] > 0) map.put(regs[i], seeds[i]);
+        }
+        return map;
+    }
+
+    // Natural placement with BYEs advanced and the first `playedRounds` rounds won by participant 1, as getBracket returns it
+    static BracketSummaryResponse bracket(int n, int playedRounds) {
+        int size = SeedPlacementUtil.nextPowerOfTwo(n);
+        BracketTopology t = new BracketTopology(size);
+        for (int pos = 0; pos < size / 2; pos++) {
+            t.seat(t.indexOf(1, pos), 2 * pos < n ? FIRST_REG_ID + 2 * pos : BracketTopology.NONE,
+                    2 * pos + 1 < n ? FIRST_REG_ID + 2 * pos + 1 : BracketTopology.NONE);
+        }
+        t.advanceByes();
+        long[] ids = new long[size - 1];
+        for (int k = 0; k < ids.length; k++) ids[k] = 50_000L + k;
+        t.assignIds(ids);
+
+        List<MatchDto> matches = new ArrayList<>(size - 1);
+        for (int r = 1; r <= t.rounds(); r++) {
+            for (int p = 0; p < size >>> r; p++) {
+                int i = t.indexOf(r, p);
+                boolean play = r <= playedRounds && !t.isBye(i)
+                        && t.participant1(i) != BracketTopology.NONE && t.participant2(i) != BracketTopology.NONE;
+                if (play) t.advance(i, t.participant1(i));
+                MatchDto m = new MatchDto();
+                m.setId(t.matchId(i));
+                m.setRound(r);
+                m.setPosition(p);
+                m.setParticipant1RegistrationId(orNull(t.participant1(i)));
+                m.setParticipant2RegistrationId(orNull(t.participant2(i)));
+                m.setBye(t.isBye(i));
+                m.setNextMatchId(orNull(t.nextMatchId(i)));
+                m.setWinnerAdvancesAs(i > 1 ? BracketTopology.winnerAdvancesAs(i) : null);
+                m.setWinnerRegistrationId(orNull(t.winner(i)));
+                m.setStatus(t.winner(i) != BracketTopology.NONE ? "COMPLETED" : "SCHEDULED");
+                if (play) {
+                    m.setScore1(21);
+                    m.setScore2(p % 20);
+                }
+                matches.add(m);
+            }
+        }
+        BracketSummaryResponse resp = new BracketSummaryResponse();
+        resp.setCategoryId(1L);
+        resp.setTotalParticipants(n);
+        resp.setEffectiveSize(size);
+        resp.setRounds(t.rounds());
+        resp.setMatches(matches);
+        return resp;
+    }
+
+    private static Long orNull(long id) {
+        return id == BracketTopology.NONE ? null : id;
+    }
+
+    private static int[] shuffledIndexes(int n) {
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) idx[i] = i;
+        Random rnd = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = idx[i]; idx[i] = idx[j]; idx[j] = t;
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.tournament.bench;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.domain.Category;
+import com.example.tournament.domain.Player;
+import com.example.tournament.domain.Registration;
+import com.example.tournament.domain.Tournament;
+import com.example.tournament.service.BracketCache;
+import com.example.tournament.service.BracketService;
+import com.example.tournament.service.BracketServiceImpl;
+import com.example.tournament.service.DrawDataAccessCounter;
+import com.example.tournament.service.DrawMetrics;
+import com.example.tournament.service.StandingsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code generateSingleElimination} against an in-memory H2 database: registration load,
+ * seeding, planning, id allocation and the batched insert, in one transaction per invocation.
+ * Every invocation regenerates the same category with {@code overwriteIfDraft}, so the draft delete
+ * is part of the measured path just like an admin re-running a draw.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerateDrawBenchmark {
+
+    @Param({"8", "13", "64", "100", "512", "1000", "4096"})
+    public int participants;
+
+    @Param({"false", "true"})
+    public boolean seeded;
+
+    private ConfigurableApplicationContext context;
+    private BracketService bracketService;
+    private Long tournamentId;
+    private Long categoryId;
+    private DrawGenerateRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchConfig.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.open-in-view=false",
+                        "spring.flyway.enabled=false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+                        "app.bracket.metrics.count-statements=true",
+                        "app.bracket.match-id-allocation-sql=SELECT NEXT VALUE FOR bench_match_id_seq FROM SYSTEM_RANGE(1, ?)")
+                .run();
+        bracketService = context.getBean(BracketService.class);
+        context.getBean(JdbcTemplate.class).execute("CREATE SEQUENCE IF NOT EXISTS bench_match_id_seq START WITH 1000000");
+
+        List<Long> regIds = new ArrayList<>(participants);
+        EntityManager em = context.getBean(EntityManager.class);
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class)).executeWithoutResult(tx -> {
+            Tournament t = new Tournament();
+            t.setName("Bench Open");
+            t.setLocation("Bench Hall");
+            t.setStartDate(LocalDate.now());
+            t.setEndDate(LocalDate.now().plusDays(2));
+            em.persist(t);
+            Category c = new Category();
+            c.setTournament(t);
+            c.setName("MS-" + participants);
+            em.persist(c);
+            for (int i = 0; i < participants; i++) {
+                Player p = new Player();
+                p.setFirstName("Player");
+                p.setLastName(Integer.toString(i));
+                p.setGender("M");
+                em.persist(p);
+                Registration r = new Registration();
+                r.setTournament(t);
+                r.setCategory(c);
+                r.setPlayer(p);
+                em.persist(r);
+                regIds.add(r.getId());
+            }
+            tournamentId = t.getId();
+            categoryId = c.getId();
+        });
+
+        request = new DrawGenerateRequest();
+        request.setOverwriteIfDraft(true);
+        if (seeded) {
+            int[] seeds = DrawFixtures.seeds(participants, true);
+            List<DrawGenerateRequest.SeedEntry> entries = new ArrayList<>();
+            for (int i = 0; i < participants; i++) {
+                if (seeds[i] == 0) continue;
+                DrawGenerateRequest.SeedEntry e = new DrawGenerateRequest.SeedEntry();
+                e.setRegistrationId(regIds.get(i));
+                e.setSeedNumber(seeds[i]);
+                entries.add(e);
+            }
+            request.setSeeds(entries);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BracketSummaryResponse generateSingleElimination() {
+        return bracketService.generateSingleElimination(tournamentId, categoryId, request);
+    }
+
+    // Only the draw slice of the application: entities, repositories, the bracket service and its collaborators
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.example.tournament.domain")
+    @EnableJpaRepositories("com.example.tournament.repository")
+    @Import({BracketServiceImpl.class, BracketCache.class, StandingsService.class, DrawMetrics.class, DrawDataAccessCounter.class})
+    static class BenchConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
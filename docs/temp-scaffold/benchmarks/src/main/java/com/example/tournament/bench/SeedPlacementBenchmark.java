@@ -0,0 +1,65 @@
+package com.example.tournament.bench;
+
+import com.example.tournament.service.SeedPlacementUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SeedPlacementBenchmark {
+
+    // Powers of two and BYE-heavy sizes just above them
+    @Param({"8", "13", "64", "100", "512", "1000", "4096"})
+    public int participants;
+
+    @Param({"false", "true"})
+    public boolean seeded;
+
+    private long[] regs;
+    private int[] seeds;
+    private List<Long> regList;
+    private Map<Long, Integer> seedMap;
+    private int effective;
+
+    @Setup
+    public void setUp() {
+        regs = DrawFixtures.registrations(participants);
+        seeds = DrawFixtures.seeds(participants, seeded);
+        regList = DrawFixtures.registrationList(regs);
+        seedMap = DrawFixtures.seedMap(regs, seeds);
+        effective = SeedPlacementUtil.nextPowerOfTwo(participants);
+    }
+
+    @Benchmark
+    public void nextPowerOfTwo(Blackhole bh) {
+        for (int n = 1; n <= participants; n++) bh.consume(SeedPlacementUtil.nextPowerOfTwo(n));
+    }
+
+    @Benchmark
+    public long[] orderBySeedOrNatural() {
+        return SeedPlacementUtil.orderBySeedOrNatural(regs, seeds);
+    }
+
+    // Boxed List/Map variant kept for callers outside the draw path
+    @Benchmark
+    public List<Long> orderBySeedOrNaturalBoxed() {
+        return SeedPlacementUtil.orderBySeedOrNatural(regList, seedMap);
+    }
+
+    @Benchmark
+    public void nextFor(Blackhole bh) {
+        int rounds = Integer.numberOfTrailingZeros(effective);
+        for (int r = 1; r < rounds; r++) {
+            int matches = effective >> r;
+            for (int p = 0; p < matches; p++) bh.consume(SeedPlacementUtil.nextFor(r, p));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+-- V10__registration_unique_player.sql
+-- A player holds at most one registration per category; the CSV import inserts with ON CONFLICT DO NOTHING
+-- against this index. Creating it fails if duplicates already exist, remove those first.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_registration_category_player ON registration (category_id, player_id);
@@ -0,0 +1,8 @@
+-- V5__matches_winner_column.sql
+-- Winner of a bracket match; lets results propagate along next_match_id and makes retries idempotent.
+ALTER TABLE matches
+  ADD COLUMN IF NOT EXISTS winner_registration_id BIGINT;
+
+ALTER TABLE matches
+  ADD CONSTRAINT fk_matches_winner_registration
+  FOREIGN KEY (winner_registration_id) REFERENCES registration(id);
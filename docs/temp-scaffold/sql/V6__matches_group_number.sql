@@ -0,0 +1,6 @@
+-- V6__matches_group_number.sql
+-- Round-robin group of a fixture (1-based); NULL for knockout matches.
+ALTER TABLE matches
+  ADD COLUMN IF NOT EXISTS group_number INT;
+
+CREATE INDEX IF NOT EXISTS idx_match_category_group_round ON matches (category_id, group_number, round);
@@ -0,0 +1,17 @@
+-- V7__standings.sql
+-- Round-robin standings, one row per (category, group, registration), maintained incrementally on every result.
+CREATE TABLE IF NOT EXISTS standings (
+    id BIGSERIAL PRIMARY KEY,
+    category_id BIGINT NOT NULL,
+    group_number INT NOT NULL,
+    registration_id BIGINT NOT NULL,
+    played INT NOT NULL DEFAULT 0,
+    wins INT NOT NULL DEFAULT 0,
+    losses INT NOT NULL DEFAULT 0,
+    games_for INT NOT NULL DEFAULT 0,
+    games_against INT NOT NULL DEFAULT 0,
+    points INT NOT NULL DEFAULT 0,
+    CONSTRAINT uq_standings_category_group_registration UNIQUE (category_id, group_number, registration_id),
+    CONSTRAINT fk_standings_category FOREIGN KEY (category_id) REFERENCES category(id),
+    CONSTRAINT fk_standings_registration FOREIGN KEY (registration_id) REFERENCES registration(id)
+);
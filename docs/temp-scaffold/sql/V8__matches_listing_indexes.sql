@@ -0,0 +1,7 @@
+-- V8__matches_listing_indexes.sql
+-- Keyset listing of matches seeks on (tournament_id, id); each filter gets an index ending in the same key,
+-- so a filtered page is one index range scan in ORDER BY order with no sort and no OFFSET.
+CREATE INDEX IF NOT EXISTS idx_matches_tournament_id_id ON matches (tournament_id, id);
+CREATE INDEX IF NOT EXISTS idx_matches_category_tournament_id ON matches (category_id, tournament_id, id);
+CREATE INDEX IF NOT EXISTS idx_matches_court_tournament_id ON matches (court_id, tournament_id, id);
+CREATE INDEX IF NOT EXISTS idx_matches_status_tournament_id ON matches (status, tournament_id, id);
@@ -0,0 +1,12 @@
+-- V9__matches_loser_routing.sql
+-- Double elimination: the part of the draw a match is in, and where its loser drops to.
+ALTER TABLE matches
+  ADD COLUMN IF NOT EXISTS bracket VARCHAR(16),
+  ADD COLUMN IF NOT EXISTS loser_next_match_id BIGINT,
+  ADD COLUMN IF NOT EXISTS loser_advances_as SMALLINT;
+
+ALTER TABLE matches
+  ADD CONSTRAINT fk_matches_loser_next
+  FOREIGN KEY (loser_next_match_id) REFERENCES matches(id);
+
+CREATE INDEX IF NOT EXISTS idx_match_loser_next ON matches (loser_next_match_id);
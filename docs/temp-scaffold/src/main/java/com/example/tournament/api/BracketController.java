@@ -1,20 +1,58 @@
 package com.example.tournament.api;
 
+import com.example.tournament.api.dto.BracketSimulationRequest;
+import com.example.tournament.api.dto.BracketSimulationResponse;
 import com.example.tournament.api.dto.BracketSummaryResponse;
 import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.api.dto.DrawJobDto;
+import com.example.tournament.api.dto.MatchDto;
+import com.example.tournament.api.dto.MatchResultRequest;
+import com.example.tournament.api.dto.RoundRobinSummaryResponse;
+import com.example.tournament.api.dto.StandingsResponse;
 import com.example.tournament.service.BracketService;
+import com.example.tournament.service.BracketSimulationService;
+import com.example.tournament.service.BracketSnapshot;
+import com.example.tournament.service.BracketStreamHub;
+import com.example.tournament.service.BracketWireFormat;
+import com.example.tournament.service.DrawGenerationGuard;
+import com.example.tournament.service.DrawInProgressException;
+import com.example.tournament.service.DrawJobService;
+import com.example.tournament.service.StandingsService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1")
 public class BracketController {
 
+    private static final MediaType BINARY = MediaType.parseMediaType(BracketWireFormat.MEDIA_TYPE);
+
     private final BracketService bracketService;
+    private final BracketStreamHub bracketStreamHub;
+    private final DrawJobService drawJobService;
+    private final StandingsService standingsService;
+    private final DrawGenerationGuard drawGenerationGuard;
+    private final BracketSimulationService bracketSimulationService;
 
-    public BracketController(BracketService bracketService) {
+    public BracketController(BracketService bracketService, BracketStreamHub bracketStreamHub,
+                             DrawJobService drawJobService, StandingsService standingsService,
+                             DrawGenerationGuard drawGenerationGuard, BracketSimulationService bracketSimulationService) {
         this.bracketService = bracketService;
+        this.bracketStreamHub = bracketStreamHub;
+        this.drawJobService = drawJobService;
+        this.standingsService = standingsService;
+        this.drawGenerationGuard = drawGenerationGuard;
+        this.bracketSimulationService = bracketSimulationService;
     }
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -23,20 +61,169 @@ public class BracketController {
             @PathVariable Long tId,
             @PathVariable Long cId,
             @RequestBody(required = false) DrawGenerateRequest req) {
-        return ResponseEntity.ok(bracketService.generateSingleElimination(tId, cId, req));
+        return ResponseEntity.ok(drawGenerationGuard.generateSingleElimination(tId, cId, req));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/tournaments/{tId}/categories/{cId}/draw:generate-double-elimination")
+    public ResponseEntity<BracketSummaryResponse> generateDoubleElimination(
+            @PathVariable Long tId,
+            @PathVariable Long cId,
+            @RequestBody(required = false) DrawGenerateRequest req) {
+        return ResponseEntity.ok(drawGenerationGuard.generateDoubleElimination(tId, cId, req));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/tournaments/{tId}/categories/{cId}/draw:generate-round-robin")
+    public ResponseEntity<RoundRobinSummaryResponse> generateRoundRobin(
+            @PathVariable Long tId,
+            @PathVariable Long cId,
+            @RequestBody(required = false) DrawGenerateRequest req) {
+        return ResponseEntity.ok(drawGenerationGuard.generateRoundRobin(tId, cId, req));
+    }
+
+    // Generates every category of the tournament in the background; poll the returned job for progress
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/tournaments/{tId}/draws:generate-all")
+    public ResponseEntity<DrawJobDto> generateAll(@PathVariable Long tId,
+                                                  @RequestParam(defaultValue = "false") boolean overwriteIfDraft) {
+        DrawJobDto job = drawJobService.generateAll(tId, overwriteIfDraft);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/draw-jobs/" + job.getJobId()))
+                .body(job);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/draw-jobs/{jobId}")
+    public ResponseEntity<DrawJobDto> drawJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(drawJobService.getJob(jobId));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping(value = "/categories/{cId}/bracket", produces = {MediaType.APPLICATION_JSON_VALUE, BracketWireFormat.MEDIA_TYPE})
+    public ResponseEntity<byte[]> get(@PathVariable Long cId,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                      WebRequest request) {
+        boolean binary = prefersBinary(accept);
+        // Unchanged bracket: answered from the in-memory version, no database work
+        String etag = bracketService.getBracketETag(cId);
+        if (binary) etag = binaryETag(etag);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        // Pre-rendered bytes go straight to the response, no per-request object mapping
+        BracketSnapshot snapshot = bracketService.getBracketSnapshot(cId);
+        if (binary) {
+            byte[] body = snapshot.getBinary();
+            if (body != null) {
+                return ResponseEntity.ok()
+                        .eTag(binaryETag(snapshot.getETag()))
+                        .cacheControl(CacheControl.noCache())
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .contentType(BINARY)
+                        .body(body);
+            }
+            // Round-robin, double-elimination and irregular brackets have no compact form
+            if (!acceptsJson(accept)) return ResponseEntity.status(HttpStatus.NOT_ACCEPTABLE).build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                .eTag(snapshot.getETag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (acceptsGzip(acceptEncoding)) {
+            return ok.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.getGzip());
+        }
+        return ok.body(snapshot.getJson());
     }
 
+    // Live updates: a "snapshot" event first (or replayed "delta" events after Last-Event-ID), then one "delta" per change
     @PreAuthorize("hasAnyRole('ADMIN','USER')")
-    @GetMapping("/categories/{cId}/bracket")
-    public ResponseEntity<BracketSummaryResponse> get(@PathVariable Long cId) {
-        return ResponseEntity.ok(bracketService.getBracket(cId));
+    @GetMapping(value = "/categories/{cId}/bracket/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable Long cId,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return bracketStreamHub.subscribe(cId, lastEventId);
     }
 
     @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/categories/{cId}/bracket")
     public ResponseEntity<Void> deleteDraft(@PathVariable Long cId, @RequestParam(defaultValue = "true") boolean draft) {
         if (!draft) return ResponseEntity.badRequest().build();
-        bracketService.deleteDraftBracket(cId);
+        drawGenerationGuard.deleteDraftBracket(cId);
         return ResponseEntity.noContent().build();
     }
+
+    // Odds only; nothing is generated or written
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/categories/{cId}/bracket:simulate")
+    public ResponseEntity<BracketSimulationResponse> simulate(@PathVariable Long cId,
+                                                              @RequestBody(required = false) BracketSimulationRequest req) {
+        return ResponseEntity.ok(bracketSimulationService.simulate(cId, req));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','REFEREE')")
+    @PostMapping("/matches/{mId}/result")
+    public ResponseEntity<List<MatchDto>> recordResult(@PathVariable Long mId, @RequestBody MatchResultRequest req) {
+        if (req == null || req.getWinnerRegistrationId() == null) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(bracketService.recordResult(mId, req.getWinnerRegistrationId(), req.getScore1(), req.getScore2()));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','REFEREE')")
+    @PutMapping("/matches/{mId}/result")
+    public ResponseEntity<List<MatchDto>> correctResult(@PathVariable Long mId, @RequestBody MatchResultRequest req) {
+        if (req == null || req.getWinnerRegistrationId() == null) return ResponseEntity.badRequest().build();
+        return ResponseEntity.ok(bracketService.correctResult(mId, req.getWinnerRegistrationId(), req.getScore1(), req.getScore2()));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/categories/{cId}/standings")
+    public ResponseEntity<StandingsResponse> standings(@PathVariable Long cId) {
+        return ResponseEntity.ok(standingsService.getStandings(cId));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/categories/{cId}/standings:rebuild")
+    public ResponseEntity<StandingsResponse> rebuildStandings(@PathVariable Long cId) {
+        return ResponseEntity.ok(standingsService.rebuild(cId));
+    }
+
+    // The compact form only when it is asked for explicitly and at least as strongly as JSON
+    private static boolean prefersBinary(String accept) {
+        if (accept == null || !accept.contains(BracketWireFormat.MEDIA_TYPE)) return false;
+        double binary = 0;
+        double json = 0;
+        for (MediaType t : MediaType.parseMediaTypes(accept)) {
+            if (t.equalsTypeAndSubtype(BINARY)) binary = Math.max(binary, t.getQualityValue());
+            else if (t.equalsTypeAndSubtype(MediaType.APPLICATION_JSON)) json = Math.max(json, t.getQualityValue());
+        }
+        return binary > 0 && binary >= json;
+    }
+
+    private static boolean acceptsJson(String accept) {
+        for (MediaType t : MediaType.parseMediaTypes(accept)) {
+            if (t.isCompatibleWith(MediaType.APPLICATION_JSON) && t.getQualityValue() > 0) return true;
+        }
+        return false;
+    }
+
+    // Both representations share the bracket version, so the binary one gets its own validator
+    private static String binaryETag(String etag) {
+        int end = etag.lastIndexOf('"');
+        return end < 0 ? etag + "-bin" : etag.substring(0, end) + "-bin\"";
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String coding : acceptEncoding.split(",")) {
+            String c = coding.trim();
+            if (c.startsWith("gzip") && !c.replace(" ", "").endsWith(";q=0")) return true;
+        }
+        return false;
+    }
+
+    @ExceptionHandler(DrawInProgressException.class)
+    public ResponseEntity<String> drawInProgress(DrawInProgressException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+    }
 }
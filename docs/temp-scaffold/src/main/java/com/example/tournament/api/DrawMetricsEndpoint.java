@@ -0,0 +1,71 @@
+package com.example.tournament.api;
+
+import com.example.tournament.service.DrawMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// GET /actuator/draws: per operation and size bucket, mean/max time, mean time per stage and mean data-access
+// counts, plus the most recent slow calls with their breakdown
+@Component
+@Endpoint(id = "draws")
+public class DrawMetricsEndpoint {
+
+    private final MeterRegistry registry;
+    private final DrawMetrics drawMetrics;
+
+    public DrawMetricsEndpoint(MeterRegistry registry, DrawMetrics drawMetrics) {
+        this.registry = registry;
+        this.drawMetrics = drawMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Object> draws() {
+        Map<String, Map<String, Object>> operations = new TreeMap<>();
+        for (Timer t : registry.find("bracket.operation").timers()) {
+            Map<String, Object> op = entry(operations, t.getId().getTag("operation"), t.getId().getTag("size"));
+            Map<String, Object> outcome = new LinkedHashMap<>();
+            outcome.put("count", t.count());
+            outcome.put("meanMillis", round(t.mean(TimeUnit.MILLISECONDS)));
+            outcome.put("maxMillis", round(t.max(TimeUnit.MILLISECONDS)));
+            op.put(t.getId().getTag("outcome"), outcome);
+        }
+        for (Timer t : registry.find("bracket.stage").timers()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> stages = (Map<String, Object>) entry(operations, t.getId().getTag("operation"), t.getId().getTag("size"))
+                    .computeIfAbsent("stageMeanMillis", k -> new LinkedHashMap<String, Object>());
+            stages.put(t.getId().getTag("stage"), round(t.mean(TimeUnit.MILLISECONDS)));
+        }
+        for (DistributionSummary s : registry.find("bracket.repository.calls").summaries()) {
+            entry(operations, s.getId().getTag("operation"), s.getId().getTag("size")).put("repositoryCallsMean", round(s.mean()));
+        }
+        for (DistributionSummary s : registry.find("bracket.sql.statements").summaries()) {
+            entry(operations, s.getId().getTag("operation"), s.getId().getTag("size")).put("sqlStatementsMean", round(s.mean()));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("slowThresholdMillis", drawMetrics.slowThresholdMillis());
+        body.put("operations", operations.values());
+        body.put("recentSlow", drawMetrics.recentSlowDraws());
+        return body;
+    }
+
+    private static Map<String, Object> entry(Map<String, Map<String, Object>> operations, String operation, String size) {
+        return operations.computeIfAbsent(operation + "/" + size, k -> {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("operation", operation);
+            m.put("size", size);
+            return m;
+        });
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+}
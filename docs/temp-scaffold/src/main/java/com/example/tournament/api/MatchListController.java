@@ -0,0 +1,49 @@
+package com.example.tournament.api;
+
+import com.example.tournament.api.dto.MatchPageResponse;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.repository.MatchListingOperations;
+import com.example.tournament.service.MatchListingService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1")
+public class MatchListController {
+
+    private final MatchListingService matchListingService;
+
+    public MatchListController(MatchListingService matchListingService) {
+        this.matchListingService = matchListingService;
+    }
+
+    // Keyset pages; pass the returned nextCursor as `after` to continue
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/matches")
+    public ResponseEntity<MatchPageResponse> list(
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long courtId,
+            @RequestParam(required = false) MatchStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(tournamentId, categoryId, courtId, status);
+        return ResponseEntity.ok(matchListingService.page(filter, after, limit));
+    }
+
+    // One JSON object per line, written while the rows are read
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/matches:export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) Long tournamentId,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long courtId,
+            @RequestParam(required = false) MatchStatus status) {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(tournamentId, categoryId, courtId, status);
+        StreamingResponseBody body = out -> matchListingService.export(filter, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
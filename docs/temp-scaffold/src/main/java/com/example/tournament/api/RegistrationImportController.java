@@ -0,0 +1,29 @@
+package com.example.tournament.api;
+
+import com.example.tournament.api.dto.RegistrationImportResponse;
+import com.example.tournament.service.RegistrationImportService;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1")
+public class RegistrationImportController {
+
+    private final RegistrationImportService registrationImportService;
+
+    public RegistrationImportController(RegistrationImportService registrationImportService) {
+        this.registrationImportService = registrationImportService;
+    }
+
+    // Raw CSV body, read straight from the request stream; rows that fail are listed in the response, the rest are imported
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/tournaments/{tId}/categories/{cId}/registrations:import",
+            consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<RegistrationImportResponse> importCsv(@PathVariable Long tId, @PathVariable Long cId, InputStream body) {
+        return ResponseEntity.ok(registrationImportService.importCsv(tId, cId, body));
+    }
+}
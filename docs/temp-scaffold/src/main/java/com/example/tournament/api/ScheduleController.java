@@ -0,0 +1,38 @@
+package com.example.tournament.api;
+
+import com.example.tournament.api.dto.AutoScheduleRequest;
+import com.example.tournament.api.dto.AutoScheduleResponse;
+import com.example.tournament.api.dto.DelayPropagationResponse;
+import com.example.tournament.api.dto.MatchEndRequest;
+import com.example.tournament.service.AutoSchedulingService;
+import com.example.tournament.service.DelayPropagationService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1")
+public class ScheduleController {
+
+    private final AutoSchedulingService autoSchedulingService;
+    private final DelayPropagationService delayPropagationService;
+
+    public ScheduleController(AutoSchedulingService autoSchedulingService, DelayPropagationService delayPropagationService) {
+        this.autoSchedulingService = autoSchedulingService;
+        this.delayPropagationService = delayPropagationService;
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/tournaments/{tId}/matches:auto-schedule")
+    public ResponseEntity<AutoScheduleResponse> autoSchedule(@PathVariable Long tId, @RequestBody AutoScheduleRequest req) {
+        req.setTournamentId(tId);
+        return ResponseEntity.ok(autoSchedulingService.autoSchedule(req));
+    }
+
+    // Reports when a match actually finished and pushes back the matches it delays
+    @PreAuthorize("hasAnyRole('ADMIN','REFEREE')")
+    @PostMapping("/matches/{mId}:report-end")
+    public ResponseEntity<DelayPropagationResponse> reportEnd(@PathVariable Long mId, @RequestBody MatchEndRequest req) {
+        return ResponseEntity.ok(delayPropagationService.reportEnd(mId, req));
+    }
+}
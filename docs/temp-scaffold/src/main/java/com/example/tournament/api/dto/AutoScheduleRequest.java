@@ -0,0 +1,28 @@
+package com.example.tournament.api.dto;
+
+import java.time.LocalDateTime;
+
+public class AutoScheduleRequest {
+    private Long tournamentId;
+    private LocalDateTime startDateTime;
+    private LocalDateTime endDateTime;
+    private Integer defaultDurationMinutes; // optional, defaults to 45
+    private Integer bufferMinutes;          // optional, defaults to 15
+    private boolean optimize;               // improve on the greedy plan within timeBudgetMillis
+    private Long timeBudgetMillis;          // optional, defaults to 2000, capped by app.schedule.optimize.max-budget-ms
+
+    public Long getTournamentId() { return tournamentId; }
+    public void setTournamentId(Long tournamentId) { this.tournamentId = tournamentId; }
+    public LocalDateTime getStartDateTime() { return startDateTime; }
+    public void setStartDateTime(LocalDateTime startDateTime) { this.startDateTime = startDateTime; }
+    public LocalDateTime getEndDateTime() { return endDateTime; }
+    public void setEndDateTime(LocalDateTime endDateTime) { this.endDateTime = endDateTime; }
+    public Integer getDefaultDurationMinutes() { return defaultDurationMinutes; }
+    public void setDefaultDurationMinutes(Integer defaultDurationMinutes) { this.defaultDurationMinutes = defaultDurationMinutes; }
+    public Integer getBufferMinutes() { return bufferMinutes; }
+    public void setBufferMinutes(Integer bufferMinutes) { this.bufferMinutes = bufferMinutes; }
+    public boolean isOptimize() { return optimize; }
+    public void setOptimize(boolean optimize) { this.optimize = optimize; }
+    public Long getTimeBudgetMillis() { return timeBudgetMillis; }
+    public void setTimeBudgetMillis(Long timeBudgetMillis) { this.timeBudgetMillis = timeBudgetMillis; }
+}
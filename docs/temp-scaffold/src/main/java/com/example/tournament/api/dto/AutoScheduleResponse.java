@@ -0,0 +1,35 @@
+package com.example.tournament.api.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class AutoScheduleResponse {
+    private int scheduledCount;
+    private List<Long> unscheduledMatchIds;
+    private LocalDateTime lastMatchEndsAt;
+    private long elapsedMillis;
+    private long score;              // lower is better: unplaced matches, then makespan, then idle court minutes
+    private Long greedyScore;        // only in optimize mode
+    private int makespanMinutes;
+    private long idleCourtMinutes;
+    private long evaluatedSchedules;
+
+    public int getScheduledCount() { return scheduledCount; }
+    public void setScheduledCount(int scheduledCount) { this.scheduledCount = scheduledCount; }
+    public List<Long> getUnscheduledMatchIds() { return unscheduledMatchIds; }
+    public void setUnscheduledMatchIds(List<Long> unscheduledMatchIds) { this.unscheduledMatchIds = unscheduledMatchIds; }
+    public LocalDateTime getLastMatchEndsAt() { return lastMatchEndsAt; }
+    public void setLastMatchEndsAt(LocalDateTime lastMatchEndsAt) { this.lastMatchEndsAt = lastMatchEndsAt; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    public long getScore() { return score; }
+    public void setScore(long score) { this.score = score; }
+    public Long getGreedyScore() { return greedyScore; }
+    public void setGreedyScore(Long greedyScore) { this.greedyScore = greedyScore; }
+    public int getMakespanMinutes() { return makespanMinutes; }
+    public void setMakespanMinutes(int makespanMinutes) { this.makespanMinutes = makespanMinutes; }
+    public long getIdleCourtMinutes() { return idleCourtMinutes; }
+    public void setIdleCourtMinutes(long idleCourtMinutes) { this.idleCourtMinutes = idleCourtMinutes; }
+    public long getEvaluatedSchedules() { return evaluatedSchedules; }
+    public void setEvaluatedSchedules(long evaluatedSchedules) { this.evaluatedSchedules = evaluatedSchedules; }
+}
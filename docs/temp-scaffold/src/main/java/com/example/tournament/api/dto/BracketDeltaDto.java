@@ -0,0 +1,16 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class BracketDeltaDto {
+    private Long categoryId;
+    private long version;
+    private List<MatchDto> matches;
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+    public List<MatchDto> getMatches() { return matches; }
+    public void setMatches(List<MatchDto> matches) { this.matches = matches; }
+}
@@ -0,0 +1,41 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class BracketSimulationRequest {
+    private List<RatingEntry> ratings;          // optional; unrated registrations get the default, none at all derives them from seeds
+    private List<DrawGenerateRequest.SeedEntry> seeds; // optional, defaults to the category's stored seeds
+    private List<Layout> layouts;               // optional, defaults to STANDARD
+    private Long iterations;                    // simulated tournaments per layout, defaults to 1,000,000
+    private Long timeBudgetMillis;              // for all layouts together, defaults to 2000
+    private Long randomSeed;                    // optional; fixes the simulated outcomes, a fresh seed per call otherwise
+
+    // How the seed order is placed on the draw lines
+    public enum Layout {
+        STANDARD,   // SeedPlacementUtil placement, the one draw generation uses
+        SEQUENTIAL, // seed order straight down the lines: 1 v 2, 3 v 4, ...
+        RANDOM      // a fresh unseeded draw for every simulated tournament, BYEs where STANDARD has them
+    }
+
+    public static class RatingEntry {
+        private Long registrationId;
+        private Double rating; // Elo scale: 400 points make a 10:1 favourite
+        public Long getRegistrationId() { return registrationId; }
+        public void setRegistrationId(Long registrationId) { this.registrationId = registrationId; }
+        public Double getRating() { return rating; }
+        public void setRating(Double rating) { this.rating = rating; }
+    }
+
+    public List<RatingEntry> getRatings() { return ratings; }
+    public void setRatings(List<RatingEntry> ratings) { this.ratings = ratings; }
+    public List<DrawGenerateRequest.SeedEntry> getSeeds() { return seeds; }
+    public void setSeeds(List<DrawGenerateRequest.SeedEntry> seeds) { this.seeds = seeds; }
+    public List<Layout> getLayouts() { return layouts; }
+    public void setLayouts(List<Layout> layouts) { this.layouts = layouts; }
+    public Long getIterations() { return iterations; }
+    public void setIterations(Long iterations) { this.iterations = iterations; }
+    public Long getTimeBudgetMillis() { return timeBudgetMillis; }
+    public void setTimeBudgetMillis(Long timeBudgetMillis) { this.timeBudgetMillis = timeBudgetMillis; }
+    public Long getRandomSeed() { return randomSeed; }
+    public void setRandomSeed(Long randomSeed) { this.randomSeed = randomSeed; }
+}
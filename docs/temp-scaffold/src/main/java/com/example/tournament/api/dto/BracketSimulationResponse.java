@@ -0,0 +1,57 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class BracketSimulationResponse {
+    private Long categoryId;
+    private int totalParticipants;
+    private int effectiveSize;
+    private int rounds;
+    private List<LayoutResult> layouts;
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public int getTotalParticipants() { return totalParticipants; }
+    public void setTotalParticipants(int totalParticipants) { this.totalParticipants = totalParticipants; }
+    public int getEffectiveSize() { return effectiveSize; }
+    public void setEffectiveSize(int effectiveSize) { this.effectiveSize = effectiveSize; }
+    public int getRounds() { return rounds; }
+    public void setRounds(int rounds) { this.rounds = rounds; }
+    public List<LayoutResult> getLayouts() { return layouts; }
+    public void setLayouts(List<LayoutResult> layouts) { this.layouts = layouts; }
+
+    public static class LayoutResult {
+        private String layout;
+        private long iterations; // fewer than requested when the time budget ran out first
+        private long elapsedMillis;
+        private List<ParticipantOdds> participants; // in seed order
+
+        public String getLayout() { return layout; }
+        public void setLayout(String layout) { this.layout = layout; }
+        public long getIterations() { return iterations; }
+        public void setIterations(long iterations) { this.iterations = iterations; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+        public List<ParticipantOdds> getParticipants() { return participants; }
+        public void setParticipants(List<ParticipantOdds> participants) { this.participants = participants; }
+    }
+
+    public static class ParticipantOdds {
+        private Long registrationId;
+        private Integer seedNumber;
+        private double rating;
+        private List<Double> reachRound; // [r - 1]: probability of reaching round r
+        private double win;
+
+        public Long getRegistrationId() { return registrationId; }
+        public void setRegistrationId(Long registrationId) { this.registrationId = registrationId; }
+        public Integer getSeedNumber() { return seedNumber; }
+        public void setSeedNumber(Integer seedNumber) { this.seedNumber = seedNumber; }
+        public double getRating() { return rating; }
+        public void setRating(double rating) { this.rating = rating; }
+        public List<Double> getReachRound() { return reachRound; }
+        public void setReachRound(List<Double> reachRound) { this.reachRound = reachRound; }
+        public double getWin() { return win; }
+        public void setWin(double win) { this.win = win; }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class DelayPropagationResponse {
+    private Long matchId;
+    private int delayMinutes;
+    private List<MatchShiftDto> movedMatches;
+    private long elapsedMillis;
+
+    public Long getMatchId() { return matchId; }
+    public void setMatchId(Long matchId) { this.matchId = matchId; }
+    public int getDelayMinutes() { return delayMinutes; }
+    public void setDelayMinutes(int delayMinutes) { this.delayMinutes = delayMinutes; }
+    public List<MatchShiftDto> getMovedMatches() { return movedMatches; }
+    public void setMovedMatches(List<MatchShiftDto> movedMatches) { this.movedMatches = movedMatches; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 public class DrawGenerateRequest {
     private List<SeedEntry> seeds;
     private boolean overwriteIfDraft;
+    private Integer groups; // round robin only: number of groups, default 1
 
     public static class SeedEntry {
         private Long registrationId;
@@ -19,4 +20,6 @@ public class DrawGenerateRequest {
     public void setSeeds(List<SeedEntry> seeds) { this.seeds = seeds; }
     public boolean isOverwriteIfDraft() { return overwriteIfDraft; }
     public void setOverwriteIfDraft(boolean overwriteIfDraft) { this.overwriteIfDraft = overwriteIfDraft; }
+    public Integer getGroups() { return groups; }
+    public void setGroups(Integer groups) { this.groups = groups; }
 }
@@ -0,0 +1,53 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class DrawJobDto {
+    private String jobId;
+    private Long tournamentId;
+    private String status; // RUNNING, COMPLETED, COMPLETED_WITH_ERRORS
+    private int total;
+    private int completed;
+    private int failed;
+    private long elapsedMillis;
+    private List<CategoryProgress> categories;
+
+    public static class CategoryProgress {
+        private Long categoryId;
+        private String status; // PENDING, RUNNING, COMPLETED, FAILED, SKIPPED
+        private int participants;
+        private int matches;
+        private long elapsedMillis;
+        private String error;
+
+        public Long getCategoryId() { return categoryId; }
+        public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public int getParticipants() { return participants; }
+        public void setParticipants(int participants) { this.participants = participants; }
+        public int getMatches() { return matches; }
+        public void setMatches(int matches) { this.matches = matches; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+        public String getError() { return error; }
+        public void setError(String error) { this.error = error; }
+    }
+
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+    public Long getTournamentId() { return tournamentId; }
+    public void setTournamentId(Long tournamentId) { this.tournamentId = tournamentId; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+    public int getCompleted() { return completed; }
+    public void setCompleted(int completed) { this.completed = completed; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+    public List<CategoryProgress> getCategories() { return categories; }
+    public void setCategories(List<CategoryProgress> categories) { this.categories = categories; }
+}
@@ -1,7 +1,12 @@
 package com.example.tournament.api.dto;
 
+import com.example.tournament.domain.EliminationBracket;
+import com.example.tournament.domain.MatchStatus;
+
 public class MatchDto {
     private Long id;
+    private Integer groupNumber; // round-robin group, null for knockout matches
+    private String bracket; // WINNERS, LOSERS or GRAND_FINAL in a double-elimination draw, otherwise null
     private int round;
     private int position;
     private Long participant1RegistrationId;
@@ -9,10 +14,44 @@ public class MatchDto {
     private boolean bye;
     private Long nextMatchId;
     private Short winnerAdvancesAs;
+    private Long loserNextMatchId;
+    private Short loserAdvancesAs;
     private String status;
+    private Long winnerRegistrationId;
+    private Integer score1;
+    private Integer score2;
+
+    public MatchDto() {}
+
+    // Used by the read-only JPQL constructor expression (MatchRepository.findMatchDtosByCategoryId)
+    public MatchDto(Long id, Integer groupNumber, EliminationBracket bracket, Integer round, Integer position,
+                    Long participant1RegistrationId, Long participant2RegistrationId, Boolean bye,
+                    Long nextMatchId, Short winnerAdvancesAs, Long loserNextMatchId, Short loserAdvancesAs,
+                    MatchStatus status, Long winnerRegistrationId, Integer score1, Integer score2) {
+        this.id = id;
+        this.groupNumber = groupNumber;
+        this.bracket = bracket != null ? bracket.name() : null;
+        this.round = round != null ? round : 0;
+        this.position = position != null ? position : 0;
+        this.participant1RegistrationId = participant1RegistrationId;
+        this.participant2RegistrationId = participant2RegistrationId;
+        this.bye = Boolean.TRUE.equals(bye);
+        this.nextMatchId = nextMatchId;
+        this.winnerAdvancesAs = winnerAdvancesAs;
+        this.loserNextMatchId = loserNextMatchId;
+        this.loserAdvancesAs = loserAdvancesAs;
+        this.status = status != null ? status.name() : null;
+        this.winnerRegistrationId = winnerRegistrationId;
+        this.score1 = score1;
+        this.score2 = score2;
+    }
 
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
+    public Integer getGroupNumber() { return groupNumber; }
+    public void setGroupNumber(Integer groupNumber) { this.groupNumber = groupNumber; }
+    public String getBracket() { return bracket; }
+    public void setBracket(String bracket) { this.bracket = bracket; }
     public int getRound() { return round; }
     public void setRound(int round) { this.round = round; }
     public int getPosition() { return position; }
@@ -27,6 +66,16 @@ public class MatchDto {
     public void setNextMatchId(Long nextMatchId) { this.nextMatchId = nextMatchId; }
     public Short getWinnerAdvancesAs() { return winnerAdvancesAs; }
     public void setWinnerAdvancesAs(Short winnerAdvancesAs) { this.winnerAdvancesAs = winnerAdvancesAs; }
+    public Long getLoserNextMatchId() { return loserNextMatchId; }
+    public void setLoserNextMatchId(Long loserNextMatchId) { this.loserNextMatchId = loserNextMatchId; }
+    public Short getLoserAdvancesAs() { return loserAdvancesAs; }
+    public void setLoserAdvancesAs(Short loserAdvancesAs) { this.loserAdvancesAs = loserAdvancesAs; }
     public String getStatus() { return status; }
     public void setStatus(String status) { this.status = status; }
+    public Long getWinnerRegistrationId() { return winnerRegistrationId; }
+    public void setWinnerRegistrationId(Long winnerRegistrationId) { this.winnerRegistrationId = winnerRegistrationId; }
+    public Integer getScore1() { return score1; }
+    public void setScore1(Integer score1) { this.score1 = score1; }
+    public Integer getScore2() { return score2; }
+    public void setScore2(Integer score2) { this.score2 = score2; }
 }
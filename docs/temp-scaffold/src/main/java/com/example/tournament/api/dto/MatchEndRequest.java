@@ -0,0 +1,13 @@
+package com.example.tournament.api.dto;
+
+import java.time.LocalDateTime;
+
+public class MatchEndRequest {
+    private LocalDateTime actualEndTime;
+    private Integer bufferMinutes; // optional, defaults to 15
+
+    public LocalDateTime getActualEndTime() { return actualEndTime; }
+    public void setActualEndTime(LocalDateTime actualEndTime) { this.actualEndTime = actualEndTime; }
+    public Integer getBufferMinutes() { return bufferMinutes; }
+    public void setBufferMinutes(Integer bufferMinutes) { this.bufferMinutes = bufferMinutes; }
+}
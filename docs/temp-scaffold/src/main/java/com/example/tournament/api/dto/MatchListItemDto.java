@@ -0,0 +1,50 @@
+package com.example.tournament.api.dto;
+
+import java.time.LocalDateTime;
+
+// Flat listing row: ids instead of the lazy Tournament/Court/Player associations
+public class MatchListItemDto {
+    private Long id;
+    private Long tournamentId;
+    private Long categoryId;
+    private Long courtId;
+    private Integer groupNumber;
+    private Integer round;
+    private Integer position;
+    private String status;
+    private LocalDateTime scheduledAt;
+    private Long participant1RegistrationId;
+    private Long participant2RegistrationId;
+    private Long winnerRegistrationId;
+    private Integer score1;
+    private Integer score2;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public Long getTournamentId() { return tournamentId; }
+    public void setTournamentId(Long tournamentId) { this.tournamentId = tournamentId; }
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public Long getCourtId() { return courtId; }
+    public void setCourtId(Long courtId) { this.courtId = courtId; }
+    public Integer getGroupNumber() { return groupNumber; }
+    public void setGroupNumber(Integer groupNumber) { this.groupNumber = groupNumber; }
+    public Integer getRound() { return round; }
+    public void setRound(Integer round) { this.round = round; }
+    public Integer getPosition() { return position; }
+    public void setPosition(Integer position) { this.position = position; }
+    public String getStatus() { return status; }
+    public void setStatus(String status) { this.status = status; }
+    public LocalDateTime getScheduledAt() { return scheduledAt; }
+    public void setScheduledAt(LocalDateTime scheduledAt) { this.scheduledAt = scheduledAt; }
+    public Long getParticipant1RegistrationId() { return participant1RegistrationId; }
+    public void setParticipant1RegistrationId(Long participant1RegistrationId) { this.participant1RegistrationId = participant1RegistrationId; }
+    public Long getParticipant2RegistrationId() { return participant2RegistrationId; }
+    public void setParticipant2RegistrationId(Long participant2RegistrationId) { this.participant2RegistrationId = participant2RegistrationId; }
+    public Long getWinnerRegistrationId() { return winnerRegistrationId; }
+    public void setWinnerRegistrationId(Long winnerRegistrationId) { this.winnerRegistrationId = winnerRegistrationId; }
+    public Integer getScore1() { return score1; }
+    public void setScore1(Integer score1) { this.score1 = score1; }
+    public Integer getScore2() { return score2; }
+    public void setScore2(Integer score2) { this.score2 = score2; }
+}
@@ -0,0 +1,13 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class MatchPageResponse {
+    private List<MatchListItemDto> items;
+    private String nextCursor; // null on the last page
+
+    public List<MatchListItemDto> getItems() { return items; }
+    public void setItems(List<MatchListItemDto> items) { this.items = items; }
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+}
@@ -0,0 +1,14 @@
+package com.example.tournament.api.dto;
+
+public class MatchResultRequest {
+    private Long winnerRegistrationId;
+    private Integer score1; // games won by participant 1, optional
+    private Integer score2;
+
+    public Long getWinnerRegistrationId() { return winnerRegistrationId; }
+    public void setWinnerRegistrationId(Long winnerRegistrationId) { this.winnerRegistrationId = winnerRegistrationId; }
+    public Integer getScore1() { return score1; }
+    public void setScore1(Integer score1) { this.score1 = score1; }
+    public Integer getScore2() { return score2; }
+    public void setScore2(Integer score2) { this.score2 = score2; }
+}
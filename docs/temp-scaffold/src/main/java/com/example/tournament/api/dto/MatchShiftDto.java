@@ -0,0 +1,28 @@
+package com.example.tournament.api.dto;
+
+import java.time.LocalDateTime;
+
+public class MatchShiftDto {
+    private Long matchId;
+    private Long courtId;
+    private LocalDateTime previousStart;
+    private LocalDateTime newStart;
+
+    public MatchShiftDto() {}
+
+    public MatchShiftDto(Long matchId, Long courtId, LocalDateTime previousStart, LocalDateTime newStart) {
+        this.matchId = matchId;
+        this.courtId = courtId;
+        this.previousStart = previousStart;
+        this.newStart = newStart;
+    }
+
+    public Long getMatchId() { return matchId; }
+    public void setMatchId(Long matchId) { this.matchId = matchId; }
+    public Long getCourtId() { return courtId; }
+    public void setCourtId(Long courtId) { this.courtId = courtId; }
+    public LocalDateTime getPreviousStart() { return previousStart; }
+    public void setPreviousStart(LocalDateTime previousStart) { this.previousStart = previousStart; }
+    public LocalDateTime getNewStart() { return newStart; }
+    public void setNewStart(LocalDateTime newStart) { this.newStart = newStart; }
+}
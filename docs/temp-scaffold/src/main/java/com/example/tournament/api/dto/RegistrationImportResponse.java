@@ -0,0 +1,51 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class RegistrationImportResponse {
+    private Long categoryId;
+    private int rowsRead;
+    private int imported;
+    private int playersCreated;
+    private int playersMatched;
+    private int failed;
+    private List<RowError> errors;
+    private boolean errorsTruncated; // more than the reported errors failed; see `failed` for the total
+    private long elapsedMillis;
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public int getRowsRead() { return rowsRead; }
+    public void setRowsRead(int rowsRead) { this.rowsRead = rowsRead; }
+    public int getImported() { return imported; }
+    public void setImported(int imported) { this.imported = imported; }
+    public int getPlayersCreated() { return playersCreated; }
+    public void setPlayersCreated(int playersCreated) { this.playersCreated = playersCreated; }
+    public int getPlayersMatched() { return playersMatched; }
+    public void setPlayersMatched(int playersMatched) { this.playersMatched = playersMatched; }
+    public int getFailed() { return failed; }
+    public void setFailed(int failed) { this.failed = failed; }
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public static class RowError {
+        private int line;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(int line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public int getLine() { return line; }
+        public void setLine(int line) { this.line = line; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class RoundRobinSummaryResponse {
+    private Long categoryId;
+    private int totalParticipants;
+    private long totalMatches;
+    private List<GroupSummary> groups;
+
+    public static class GroupSummary {
+        private int groupNumber;
+        private List<Long> registrationIds;
+        private int rounds;
+        private long matches;
+
+        public int getGroupNumber() { return groupNumber; }
+        public void setGroupNumber(int groupNumber) { this.groupNumber = groupNumber; }
+        public List<Long> getRegistrationIds() { return registrationIds; }
+        public void setRegistrationIds(List<Long> registrationIds) { this.registrationIds = registrationIds; }
+        public int getRounds() { return rounds; }
+        public void setRounds(int rounds) { this.rounds = rounds; }
+        public long getMatches() { return matches; }
+        public void setMatches(long matches) { this.matches = matches; }
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public int getTotalParticipants() { return totalParticipants; }
+    public void setTotalParticipants(int totalParticipants) { this.totalParticipants = totalParticipants; }
+    public long getTotalMatches() { return totalMatches; }
+    public void setTotalMatches(long totalMatches) { this.totalMatches = totalMatches; }
+    public List<GroupSummary> getGroups() { return groups; }
+    public void setGroups(List<GroupSummary> groups) { this.groups = groups; }
+}
@@ -0,0 +1,30 @@
+package com.example.tournament.api.dto;
+
+public class StandingDto {
+    private int rank;
+    private Long registrationId;
+    private int played;
+    private int wins;
+    private int losses;
+    private int gamesFor;
+    private int gamesAgainst;
+    private int points;
+
+    public int getRank() { return rank; }
+    public void setRank(int rank) { this.rank = rank; }
+    public Long getRegistrationId() { return registrationId; }
+    public void setRegistrationId(Long registrationId) { this.registrationId = registrationId; }
+    public int getPlayed() { return played; }
+    public void setPlayed(int played) { this.played = played; }
+    public int getWins() { return wins; }
+    public void setWins(int wins) { this.wins = wins; }
+    public int getLosses() { return losses; }
+    public void setLosses(int losses) { this.losses = losses; }
+    public int getGamesFor() { return gamesFor; }
+    public void setGamesFor(int gamesFor) { this.gamesFor = gamesFor; }
+    public int getGamesAgainst() { return gamesAgainst; }
+    public void setGamesAgainst(int gamesAgainst) { this.gamesAgainst = gamesAgainst; }
+    public int getGameDifference() { return gamesFor - gamesAgainst; }
+    public int getPoints() { return points; }
+    public void setPoints(int points) { this.points = points; }
+}
@@ -0,0 +1,23 @@
+package com.example.tournament.api.dto;
+
+import java.util.List;
+
+public class StandingsResponse {
+    private Long categoryId;
+    private List<GroupStandings> groups;
+
+    public static class GroupStandings {
+        private int groupNumber;
+        private List<StandingDto> rows;
+
+        public int getGroupNumber() { return groupNumber; }
+        public void setGroupNumber(int groupNumber) { this.groupNumber = groupNumber; }
+        public List<StandingDto> getRows() { return rows; }
+        public void setRows(List<StandingDto> rows) { this.rows = rows; }
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public List<GroupStandings> getGroups() { return groups; }
+    public void setGroups(List<GroupStandings> groups) { this.groups = groups; }
+}
@@ -0,0 +1,6 @@
+package com.example.tournament.domain;
+
+// Which part of a double-elimination draw a match belongs to; null on single-elimination and round-robin matches
+public enum EliminationBracket {
+    WINNERS, LOSERS, GRAND_FINAL
+}
@@ -0,0 +1,46 @@
+package com.example.tournament.domain;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "standings")
+public class Standing {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private Integer groupNumber;
+
+    @Column(nullable = false)
+    private Long registrationId;
+
+    private int played;
+    private int wins;
+    private int losses;
+    private int gamesFor;
+    private int gamesAgainst;
+    private int points;
+
+    public Long getId() { return id; }
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+    public Integer getGroupNumber() { return groupNumber; }
+    public void setGroupNumber(Integer groupNumber) { this.groupNumber = groupNumber; }
+    public Long getRegistrationId() { return registrationId; }
+    public void setRegistrationId(Long registrationId) { this.registrationId = registrationId; }
+    public int getPlayed() { return played; }
+    public void setPlayed(int played) { this.played = played; }
+    public int getWins() { return wins; }
+    public void setWins(int wins) { this.wins = wins; }
+    public int getLosses() { return losses; }
+    public void setLosses(int losses) { this.losses = losses; }
+    public int getGamesFor() { return gamesFor; }
+    public void setGamesFor(int gamesFor) { this.gamesFor = gamesFor; }
+    public int getGamesAgainst() { return gamesAgainst; }
+    public void setGamesAgainst(int gamesAgainst) { this.gamesAgainst = gamesAgainst; }
+    public int getPoints() { return points; }
+    public void setPoints(int points) { this.points = points; }
+}
@@ -1,5 +1,5 @@
 package com.example.tournament.domain;
 
 public enum TournamentFormat {
-    SINGLE_ELIMINATION, ROUND_ROBIN
+    SINGLE_ELIMINATION, DOUBLE_ELIMINATION, ROUND_ROBIN
 }
@@ -1,9 +1,20 @@
 package com.example.tournament.repository;
 
 import com.example.tournament.domain.Category;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     Optional<Category> findByIdAndTournamentId(Long id, Long tournamentId);
+
+    // Row-locked: imports into the same category count its free places one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Category c where c.id = :id and c.tournament.id = :tournamentId")
+    Optional<Category> findByIdAndTournamentIdForUpdate(@Param("id") Long id, @Param("tournamentId") Long tournamentId);
+    List<Category> findByTournamentIdOrderByIdAsc(Long tournamentId);
 }
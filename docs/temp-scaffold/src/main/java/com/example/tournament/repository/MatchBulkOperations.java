@@ -0,0 +1,33 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.api.dto.MatchDto;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MatchBulkOperations {
+    // Reserves `count` ids from the matches sequence in one round-trip
+    long[] allocateMatchIds(int count);
+
+    // Writes a fully linked bracket (ids, nextMatchId, winnerAdvancesAs and any loser links already set) as a single
+    // JDBC batch; every row must come after the matches that feed it
+    void insertBracketMatches(Long tournamentId, Long categoryId, List<MatchDto> matches);
+
+    // Streams unlinked fixtures into fixed-size JDBC batches as the source produces them; returns rows written
+    long insertFixtures(Long tournamentId, Long categoryId, FixtureSource source);
+
+    // Writes court/start/duration for each match in one JDBC batch; returns per-row update counts.
+    // Only rows that are still unscheduled are touched, so a concurrent scheduler shows up as a 0 count.
+    int[] updateSchedules(long[] matchIds, long[] courtIds, LocalDateTime[] starts, int[] durations);
+
+    // Moves each match from its expected start to a new one in one JDBC batch; returns per-row update counts.
+    // A row that started, or was moved by someone else meanwhile, is left alone and shows up as a 0 count.
+    int[] shiftSchedules(long[] matchIds, LocalDateTime[] expectedStarts, LocalDateTime[] newStarts);
+
+    interface FixtureSink {
+        void accept(int groupNumber, int round, int position, long participant1RegistrationId, long participant2RegistrationId);
+    }
+
+    interface FixtureSource {
+        void forEach(FixtureSink sink);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.api.dto.MatchDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class MatchBulkOperationsImpl implements MatchBulkOperations {
+
+    static final String DEFAULT_ID_ALLOCATION_SQL =
+            "SELECT nextval(pg_get_serial_sequence('matches', 'id')) FROM generate_series(1, ?)";
+
+    // What a new Match entity starts with; save() used to fill these in, the raw inserts have to write them
+    static final int INITIAL_VERSION = 0;
+    static final int DEFAULT_DURATION_MINUTES = 45;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO matches (id, tournament_id, category_id, round, position, next_match_id, winner_advances_as, " +
+            "participant1_registration_id, participant2_registration_id, is_bye, status, winner_registration_id, " +
+            "bracket, loser_next_match_id, loser_advances_as, version, estimated_duration_minutes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + INITIAL_VERSION + ", " + DEFAULT_DURATION_MINUTES + ")";
+
+    private static final String INSERT_FIXTURE_SQL =
+            "INSERT INTO matches (tournament_id, category_id, group_number, round, position, " +
+            "participant1_registration_id, participant2_registration_id, is_bye, status, version, estimated_duration_minutes) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, FALSE, 'SCHEDULED', " + INITIAL_VERSION + ", " + DEFAULT_DURATION_MINUTES + ")";
+
+    // Both schedule batches bump version the way a JPA update would, so an entity read before the batch
+    // fails its optimistic check instead of writing the old slot back
+    private static final String UPDATE_SCHEDULE_SQL =
+            "UPDATE matches SET court_id = ?, scheduled_at = ?, estimated_duration_minutes = ?, version = version + 1 " +
+            "WHERE id = ? AND scheduled_at IS NULL";
+
+    private static final String SHIFT_SCHEDULE_SQL =
+            "UPDATE matches SET scheduled_at = ?, version = version + 1 " +
+            "WHERE id = ? AND scheduled_at = ? AND status = 'SCHEDULED'";
+
+    static final int FIXTURE_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String idAllocationSql;
+
+    public MatchBulkOperationsImpl(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.bracket.match-id-allocation-sql:" + DEFAULT_ID_ALLOCATION_SQL + "}") String idAllocationSql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocationSql = idAllocationSql;
+    }
+
+    @Override
+    public long[] allocateMatchIds(int count) {
+        long[] ids = jdbcTemplate.query(idAllocationSql, rs -> {
+            long[] out = new long[count];
+            int i = 0;
+            while (rs.next() && i < count) out[i++] = rs.getLong(1);
+            return i == count ? out : null;
+        }, count);
+        if (ids == null) throw new IllegalStateException("Could not allocate " + count + " match ids");
+        return ids;
+    }
+
+    @Override
+    public void insertBracketMatches(Long tournamentId, Long categoryId, List<MatchDto> matches) {
+        final int size = matches.size();
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                // Rows arrive feeder-first; write them final-first so next_match_id and loser_next_match_id
+                // always reference an existing row
+                MatchDto m = matches.get(size - 1 - i);
+                ps.setLong(1, m.getId());
+                ps.setLong(2, tournamentId);
+                ps.setLong(3, categoryId);
+                ps.setInt(4, m.getRound());
+                ps.setInt(5, m.getPosition());
+                setNullableLong(ps, 6, m.getNextMatchId());
+                if (m.getWinnerAdvancesAs() != null) ps.setShort(7, m.getWinnerAdvancesAs()); else ps.setNull(7, Types.SMALLINT);
+                setNullableLong(ps, 8, m.getParticipant1RegistrationId());
+                setNullableLong(ps, 9, m.getParticipant2RegistrationId());
+                ps.setBoolean(10, m.isBye());
+                ps.setString(11, m.getStatus());
+                setNullableLong(ps, 12, m.getWinnerRegistrationId());
+                if (m.getBracket() != null) ps.setString(13, m.getBracket()); else ps.setNull(13, Types.VARCHAR);
+                setNullableLong(ps, 14, m.getLoserNextMatchId());
+                if (m.getLoserAdvancesAs() != null) ps.setShort(15, m.getLoserAdvancesAs()); else ps.setNull(15, Types.SMALLINT);
+            }
+
+            @Override
+            public int getBatchSize() { return size; }
+        });
+    }
+
+    @Override
+    public int[] updateSchedules(long[] matchIds, long[] courtIds, LocalDateTime[] starts, int[] durations) {
+        if (matchIds.length == 0) return new int[0];
+        return jdbcTemplate.batchUpdate(UPDATE_SCHEDULE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, courtIds[i]);
+                ps.setTimestamp(2, Timestamp.valueOf(starts[i]));
+                ps.setInt(3, durations[i]);
+                ps.setLong(4, matchIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() { return matchIds.length; }
+        });
+    }
+
+    @Override
+    public int[] shiftSchedules(long[] matchIds, LocalDateTime[] expectedStarts, LocalDateTime[] newStarts) {
+        if (matchIds.length == 0) return new int[0];
+        return jdbcTemplate.batchUpdate(SHIFT_SCHEDULE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setTimestamp(1, Timestamp.valueOf(newStarts[i]));
+                ps.setLong(2, matchIds[i]);
+                ps.setTimestamp(3, Timestamp.valueOf(expectedStarts[i]));
+            }
+
+            @Override
+            public int getBatchSize() { return matchIds.length; }
+        });
+    }
+
+    @Override
+    public long insertFixtures(Long tournamentId, Long categoryId, FixtureSource source) {
+        FixtureBatch batch = new FixtureBatch(tournamentId, categoryId);
+        source.forEach(batch);
+        batch.flush();
+        return batch.written;
+    }
+
+    // Primitive column buffers, reused for every batch, so memory stays O(batch) however many fixtures stream through
+    private final class FixtureBatch implements FixtureSink {
+        private final long tournamentId;
+        private final long categoryId;
+        private final int[] group = new int[FIXTURE_BATCH_SIZE];
+        private final int[] round = new int[FIXTURE_BATCH_SIZE];
+        private final int[] position = new int[FIXTURE_BATCH_SIZE];
+        private final long[] p1 = new long[FIXTURE_BATCH_SIZE];
+        private final long[] p2 = new long[FIXTURE_BATCH_SIZE];
+        private int size;
+        private long written;
+
+        FixtureBatch(long tournamentId, long categoryId) {
+            this.tournamentId = tournamentId;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public void accept(int groupNumber, int r, int pos, long participant1, long participant2) {
+            group[size] = groupNumber;
+            round[size] = r;
+            position[size] = pos;
+            p1[size] = participant1;
+            p2[size] = participant2;
+            if (++size == FIXTURE_BATCH_SIZE) flush();
+        }
+
+        void flush() {
+            if (size == 0) return;
+            final int n = size;
+            jdbcTemplate.batchUpdate(INSERT_FIXTURE_SQL, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    ps.setLong(1, tournamentId);
+                    ps.setLong(2, categoryId);
+                    ps.setInt(3, group[i]);
+                    ps.setInt(4, round[i]);
+                    ps.setInt(5, position[i]);
+                    ps.setLong(6, p1[i]);
+                    ps.setLong(7, p2[i]);
+                }
+
+                @Override
+                public int getBatchSize() { return n; }
+            });
+            written += n;
+            size = 0;
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int idx, Long v) throws SQLException {
+        if (v != null) ps.setLong(idx, v); else ps.setNull(idx, Types.BIGINT);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.api.dto.MatchListItemDto;
+import com.example.tournament.domain.MatchStatus;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface MatchListingOperations {
+    // One keyset page in (tournament_id, id) order, strictly after the given key (null = from the start)
+    List<MatchListItemDto> findMatchPage(Filter filter, Long afterTournamentId, Long afterId, int limit);
+
+    // Every matching row in the same order, read through a forward-only cursor; must run inside a transaction
+    void streamMatches(Filter filter, Consumer<MatchListItemDto> sink);
+
+    final class Filter {
+        private final Long tournamentId;
+        private final Long categoryId;
+        private final Long courtId;
+        private final MatchStatus status;
+
+        public Filter(Long tournamentId, Long categoryId, Long courtId, MatchStatus status) {
+            this.tournamentId = tournamentId;
+            this.categoryId = categoryId;
+            this.courtId = courtId;
+            this.status = status;
+        }
+
+        public Long getTournamentId() { return tournamentId; }
+        public Long getCategoryId() { return categoryId; }
+        public Long getCourtId() { return courtId; }
+        public MatchStatus getStatus() { return status; }
+    }
+}
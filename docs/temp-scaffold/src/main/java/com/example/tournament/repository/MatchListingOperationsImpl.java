@@ -0,0 +1,87 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.api.dto.MatchListItemDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+public class MatchListingOperationsImpl implements MatchListingOperations {
+
+    private static final String SELECT_SQL =
+            "SELECT id, tournament_id, category_id, court_id, group_number, round, position, status, scheduled_at, " +
+            "participant1_registration_id, participant2_registration_id, winner_registration_id, score1, score2 " +
+            "FROM matches";
+
+    static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MatchListingOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<MatchListItemDto> findMatchPage(Filter filter, Long afterTournamentId, Long afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = where(filter, args);
+        if (afterTournamentId != null && afterId != null) {
+            // Row-value comparison, so the (filter, tournament_id, id) indexes can seek straight to the key
+            sql.append(args.isEmpty() ? " WHERE" : " AND").append(" (tournament_id, id) > (?, ?)");
+            args.add(afterTournamentId);
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY tournament_id, id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, i) -> toItem(rs), args.toArray());
+    }
+
+    @Override
+    public void streamMatches(Filter filter, Consumer<MatchListItemDto> sink) {
+        List<Object> args = new ArrayList<>();
+        String sql = where(filter, args).append(" ORDER BY tournament_id, id").toString();
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // A fetch size makes the driver page through a server-side cursor instead of buffering the table
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < args.size(); i++) ps.setObject(i + 1, args.get(i));
+            return ps;
+        }, rs -> { sink.accept(toItem(rs)); });
+    }
+
+    private static StringBuilder where(Filter filter, List<Object> args) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<String> conditions = new ArrayList<>(4);
+        if (filter.getTournamentId() != null) { conditions.add("tournament_id = ?"); args.add(filter.getTournamentId()); }
+        if (filter.getCategoryId() != null) { conditions.add("category_id = ?"); args.add(filter.getCategoryId()); }
+        if (filter.getCourtId() != null) { conditions.add("court_id = ?"); args.add(filter.getCourtId()); }
+        if (filter.getStatus() != null) { conditions.add("status = ?"); args.add(filter.getStatus().name()); }
+        if (!conditions.isEmpty()) sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        return sql;
+    }
+
+    private static MatchListItemDto toItem(ResultSet rs) throws SQLException {
+        MatchListItemDto d = new MatchListItemDto();
+        d.setId(rs.getLong("id"));
+        d.setTournamentId(rs.getLong("tournament_id"));
+        d.setCategoryId(rs.getObject("category_id", Long.class));
+        d.setCourtId(rs.getObject("court_id", Long.class));
+        d.setGroupNumber(rs.getObject("group_number", Integer.class));
+        d.setRound(rs.getObject("round", Integer.class));
+        d.setPosition(rs.getObject("position", Integer.class));
+        d.setStatus(rs.getString("status"));
+        Timestamp at = rs.getTimestamp("scheduled_at");
+        d.setScheduledAt(at != null ? at.toLocalDateTime() : null);
+        d.setParticipant1RegistrationId(rs.getObject("participant1_registration_id", Long.class));
+        d.setParticipant2RegistrationId(rs.getObject("participant2_registration_id", Long.class));
+        d.setWinnerRegistrationId(rs.getObject("winner_registration_id", Long.class));
+        d.setScore1(rs.getObject("score1", Integer.class));
+        d.setScore2(rs.getObject("score2", Integer.class));
+        return d;
+    }
+}
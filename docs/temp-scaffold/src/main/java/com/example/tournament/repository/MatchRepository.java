@@ -1,10 +1,68 @@
 package com.example.tournament.repository;
 
+import com.example.tournament.api.dto.MatchDto;
 import com.example.tournament.domain.Match;
+import com.example.tournament.domain.MatchStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
-public interface MatchRepository extends JpaRepository<Match, Long> {
+public interface MatchRepository extends JpaRepository<Match, Long>, MatchBulkOperations, MatchListingOperations {
     List<Match> findByCategoryIdOrderByRoundAscPositionAsc(Long categoryId);
     boolean existsByCategoryId(Long categoryId);
+
+    // Bracket read path: DTO rows straight from the query, nothing enters the persistence context
+    @Transactional(readOnly = true)
+    @Query("select new com.example.tournament.api.dto.MatchDto(m.id, m.groupNumber, m.bracket, m.round, m.position, " +
+            "m.participant1RegistrationId, m.participant2RegistrationId, m.isBye, m.nextMatchId, m.winnerAdvancesAs, " +
+            "m.loserNextMatchId, m.loserAdvancesAs, m.status, m.winnerRegistrationId, m.score1, m.score2) " +
+            "from Match m where m.categoryId = :categoryId order by m.round, m.position")
+    List<MatchDto> findMatchDtosByCategoryId(@Param("categoryId") Long categoryId);
+    Optional<Match> findByCategoryIdAndRoundAndPosition(Long categoryId, Integer round, Integer position);
+
+    // Result propagation target, row-locked: two results that feed the same match fill its slots one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Match m where m.id = :id")
+    Optional<Match> findByIdForUpdate(@Param("id") Long id);
+
+    // Non-BYE matches that are no longer SCHEDULED, i.e. the bracket has been played into. Locks every match of the
+    // category first, so a result being recorded either commits before and is counted, or waits and then finds its
+    // match gone. Postgres rejects FOR UPDATE next to an aggregate, hence the locking subquery.
+    @Query(value = "SELECT count(*) FROM (SELECT is_bye, status FROM matches WHERE category_id = :categoryId FOR UPDATE) s " +
+            "WHERE NOT COALESCE(s.is_bye, FALSE) AND s.status <> 'SCHEDULED'", nativeQuery = true)
+    long countProgressedMatchesForUpdate(@Param("categoryId") Long categoryId);
+
+    // One DELETE statement; next_match_id references stay inside the deleted set
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Match m where m.categoryId = :categoryId")
+    int deleteAllInCategory(@Param("categoryId") Long categoryId);
+
+    String SCHEDULE_ROW = "select new com.example.tournament.repository.MatchScheduleRow(" +
+            "m.id, c.id, m.scheduledAt, m.estimatedDurationMinutes, m.categoryId, m.round, m.position, m.nextMatchId, m.status, " +
+            "lp1.id, lp2.id, r1.player.id, r2.player.id) from Match m left join m.court c " +
+            "left join m.player1 lp1 left join m.player2 lp2 " +
+            "left join Registration r1 on r1.id = m.participant1RegistrationId " +
+            "left join Registration r2 on r2.id = m.participant2RegistrationId ";
+
+    // Everything already on the calendar in [from, to), across tournaments since courts and players are shared
+    @Query(SCHEDULE_ROW + "where m.scheduledAt is not null and m.scheduledAt >= :from and m.scheduledAt < :to")
+    List<MatchScheduleRow> findScheduleRowsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Playable matches of the tournament that still need a slot (BYEs and decided matches are left alone)
+    @Query(SCHEDULE_ROW + "where m.tournament.id = :tournamentId and m.scheduledAt is null " +
+            "and (m.isBye is null or m.isBye = false) and m.status = :scheduled")
+    List<MatchScheduleRow> findUnscheduledRows(@Param("tournamentId") Long tournamentId, @Param("scheduled") MatchStatus scheduled);
+
+    @Query(SCHEDULE_ROW + "where m.id = :id")
+    Optional<MatchScheduleRow> findScheduleRow(@Param("id") Long id);
+
+    @Query("select c.id from Court c order by c.id")
+    List<Long> findCourtIds();
 }
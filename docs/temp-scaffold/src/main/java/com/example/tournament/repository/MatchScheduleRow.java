@@ -0,0 +1,47 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.domain.MatchStatus;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+// Scheduling view of a match: timing, court, bracket link and the players behind both sides
+public class MatchScheduleRow {
+    private final Long id;
+    private final Long courtId;
+    private final LocalDateTime scheduledAt;
+    private final Integer estimatedDurationMinutes;
+    private final Long categoryId;
+    private final Integer round;
+    private final Integer position;
+    private final Long nextMatchId;
+    private final MatchStatus status;
+    private final long[] playerIds;
+
+    public MatchScheduleRow(Long id, Long courtId, LocalDateTime scheduledAt, Integer estimatedDurationMinutes,
+                            Long categoryId, Integer round, Integer position, Long nextMatchId,
+                            MatchStatus status, Long player1Id, Long player2Id, Long participant1PlayerId, Long participant2PlayerId) {
+        this.id = id;
+        this.courtId = courtId;
+        this.scheduledAt = scheduledAt;
+        this.estimatedDurationMinutes = estimatedDurationMinutes;
+        this.categoryId = categoryId;
+        this.round = round;
+        this.position = position;
+        this.nextMatchId = nextMatchId;
+        this.status = status;
+        this.playerIds = Arrays.stream(new Long[]{player1Id, player2Id, participant1PlayerId, participant2PlayerId})
+                .filter(p -> p != null).mapToLong(Long::longValue).distinct().toArray();
+    }
+
+    public Long getId() { return id; }
+    public Long getCourtId() { return courtId; }
+    public LocalDateTime getScheduledAt() { return scheduledAt; }
+    public Integer getEstimatedDurationMinutes() { return estimatedDurationMinutes; }
+    public Long getCategoryId() { return categoryId; }
+    public Integer getRound() { return round; }
+    public Integer getPosition() { return position; }
+    public Long getNextMatchId() { return nextMatchId; }
+    public MatchStatus getStatus() { return status; }
+    public long[] getPlayerIds() { return playerIds; }
+}
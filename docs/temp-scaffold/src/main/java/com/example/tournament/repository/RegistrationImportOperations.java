@@ -0,0 +1,51 @@
+package com.example.tournament.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface RegistrationImportOperations {
+    // Which of the given player ids exist, in one round-trip
+    Set<Long> findExistingPlayerIds(Collection<Long> playerIds);
+
+    // Player ids per phone number, in one round-trip; a phone shared by several players maps to all of them
+    Map<String, List<Long>> findPlayerIdsByPhone(Collection<String> phones);
+
+    // Reserves `count` ids from the player sequence in one round-trip
+    long[] allocatePlayerIds(int count);
+
+    // Writes new players with pre-allocated ids as a single JDBC batch
+    void insertPlayers(List<NewPlayer> players);
+
+    // Which of the given players already hold a registration in the category
+    Set<Long> findRegisteredPlayerIds(Long categoryId, Collection<Long> playerIds);
+
+    long countRegistrations(Long categoryId);
+
+    // Writes one registration per player id as a single JDBC batch; a player already registered in the category is
+    // skipped and gets a 0 in the returned row counts
+    int[] insertRegistrations(Long tournamentId, Long categoryId, String categoryType, long[] playerIds);
+
+    final class NewPlayer {
+        private final long id;
+        private final String firstName;
+        private final String lastName;
+        private final String gender;
+        private final String phone;
+
+        public NewPlayer(long id, String firstName, String lastName, String gender, String phone) {
+            this.id = id;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.gender = gender;
+            this.phone = phone;
+        }
+
+        public long getId() { return id; }
+        public String getFirstName() { return firstName; }
+        public String getLastName() { return lastName; }
+        public String getGender() { return gender; }
+        public String getPhone() { return phone; }
+    }
+}
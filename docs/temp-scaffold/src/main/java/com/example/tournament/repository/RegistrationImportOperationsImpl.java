@@ -0,0 +1,121 @@
+package com.example.tournament.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.*;
+
+public class RegistrationImportOperationsImpl implements RegistrationImportOperations {
+
+    static final String DEFAULT_PLAYER_ID_ALLOCATION_SQL =
+            "SELECT nextval(pg_get_serial_sequence('player', 'id')) FROM generate_series(1, ?)";
+
+    private static final String INSERT_PLAYER_SQL =
+            "INSERT INTO player (id, first_name, last_name, gender, phone) VALUES (?, ?, ?, ?, ?)";
+
+    private static final String INSERT_REGISTRATION_SQL =
+            "INSERT INTO registration (tournament_id, category_id, player_id, category_type) VALUES (?, ?, ?, ?) " +
+            "ON CONFLICT (category_id, player_id) DO NOTHING";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String playerIdAllocationSql;
+
+    public RegistrationImportOperationsImpl(JdbcTemplate jdbcTemplate,
+                                            @Value("${app.registration.player-id-allocation-sql:" + DEFAULT_PLAYER_ID_ALLOCATION_SQL + "}") String playerIdAllocationSql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.playerIdAllocationSql = playerIdAllocationSql;
+    }
+
+    @Override
+    public Set<Long> findExistingPlayerIds(Collection<Long> playerIds) {
+        Set<Long> found = new HashSet<>();
+        if (playerIds.isEmpty()) return found;
+        jdbcTemplate.query("SELECT id FROM player WHERE id IN (" + placeholders(playerIds.size()) + ")",
+                rs -> { found.add(rs.getLong(1)); }, playerIds.toArray());
+        return found;
+    }
+
+    @Override
+    public Map<String, List<Long>> findPlayerIdsByPhone(Collection<String> phones) {
+        Map<String, List<Long>> found = new HashMap<>();
+        if (phones.isEmpty()) return found;
+        jdbcTemplate.query("SELECT phone, id FROM player WHERE phone IN (" + placeholders(phones.size()) + ") ORDER BY id",
+                rs -> { found.computeIfAbsent(rs.getString(1), k -> new ArrayList<>(1)).add(rs.getLong(2)); }, phones.toArray());
+        return found;
+    }
+
+    @Override
+    public long[] allocatePlayerIds(int count) {
+        if (count == 0) return new long[0];
+        long[] ids = jdbcTemplate.query(playerIdAllocationSql, rs -> {
+            long[] out = new long[count];
+            int i = 0;
+            while (rs.next() && i < count) out[i++] = rs.getLong(1);
+            return i == count ? out : null;
+        }, count);
+        if (ids == null) throw new IllegalStateException("Could not allocate " + count + " player ids");
+        return ids;
+    }
+
+    @Override
+    public void insertPlayers(List<NewPlayer> players) {
+        if (players.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_PLAYER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                NewPlayer p = players.get(i);
+                ps.setLong(1, p.getId());
+                ps.setString(2, p.getFirstName());
+                ps.setString(3, p.getLastName());
+                if (p.getGender() != null) ps.setString(4, p.getGender()); else ps.setNull(4, Types.VARCHAR);
+                if (p.getPhone() != null) ps.setString(5, p.getPhone()); else ps.setNull(5, Types.VARCHAR);
+            }
+
+            @Override
+            public int getBatchSize() { return players.size(); }
+        });
+    }
+
+    @Override
+    public Set<Long> findRegisteredPlayerIds(Long categoryId, Collection<Long> playerIds) {
+        Set<Long> found = new HashSet<>();
+        if (playerIds.isEmpty()) return found;
+        List<Object> args = new ArrayList<>(playerIds.size() + 1);
+        args.add(categoryId);
+        args.addAll(playerIds);
+        jdbcTemplate.query("SELECT player_id FROM registration WHERE category_id = ? AND player_id IN (" + placeholders(playerIds.size()) + ")",
+                rs -> { found.add(rs.getLong(1)); }, args.toArray());
+        return found;
+    }
+
+    @Override
+    public long countRegistrations(Long categoryId) {
+        Long n = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM registration WHERE category_id = ?", Long.class, categoryId);
+        return n != null ? n : 0L;
+    }
+
+    @Override
+    public int[] insertRegistrations(Long tournamentId, Long categoryId, String categoryType, long[] playerIds) {
+        if (playerIds.length == 0) return new int[0];
+        return jdbcTemplate.batchUpdate(INSERT_REGISTRATION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, tournamentId);
+                ps.setLong(2, categoryId);
+                ps.setLong(3, playerIds[i]);
+                ps.setString(4, categoryType);
+            }
+
+            @Override
+            public int getBatchSize() { return playerIds.length; }
+        });
+    }
+
+    private static String placeholders(int n) {
+        return String.join(", ", Collections.nCopies(n, "?"));
+    }
+}
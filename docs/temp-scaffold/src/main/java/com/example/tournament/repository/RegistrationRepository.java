@@ -2,8 +2,20 @@ package com.example.tournament.repository;
 
 import com.example.tournament.domain.Registration;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
-public interface RegistrationRepository extends JpaRepository<Registration, Long> {
+public interface RegistrationRepository extends JpaRepository<Registration, Long>, RegistrationImportOperations {
     List<Registration> findByCategoryIdOrderByIdAsc(Long categoryId);
+
+    // Draw path only needs the ids, ascending
+    @Transactional(readOnly = true)
+    @Query("select r.id from Registration r where r.category.id = :categoryId order by r.id")
+    List<Long> findIdsByCategoryId(@Param("categoryId") Long categoryId);
+
+    // [categoryId, registrationCount] for every category of the tournament that has registrations
+    @Query("select r.category.id, count(r) from Registration r where r.category.tournament.id = :tournamentId group by r.category.id")
+    List<Object[]> countByCategoryForTournament(@Param("tournamentId") Long tournamentId);
 }
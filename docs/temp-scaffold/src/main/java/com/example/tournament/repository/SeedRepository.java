@@ -2,5 +2,14 @@ package com.example.tournament.repository;
 
 import com.example.tournament.domain.Seed;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.List;
 
-public interface SeedRepository extends JpaRepository<Seed, Long> {}
+public interface SeedRepository extends JpaRepository<Seed, Long> {
+    // [registrationId, seedNumber] for every seeded registration of the category
+    @Transactional(readOnly = true)
+    @Query("select s.registration.id, s.seedNumber from Seed s where s.category.id = :categoryId")
+    List<Object[]> findSeedNumbersByCategoryId(@Param("categoryId") Long categoryId);
+}
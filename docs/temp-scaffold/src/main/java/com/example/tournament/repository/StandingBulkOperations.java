@@ -0,0 +1,9 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.domain.Standing;
+import java.util.List;
+
+public interface StandingBulkOperations {
+    // Inserts complete rows (ids are generated) as a single JDBC batch
+    void insertStandings(List<Standing> rows);
+}
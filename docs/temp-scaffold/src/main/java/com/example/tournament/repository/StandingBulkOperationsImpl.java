@@ -0,0 +1,45 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.domain.Standing;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+public class StandingBulkOperationsImpl implements StandingBulkOperations {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO standings (category_id, group_number, registration_id, played, wins, losses, " +
+            "games_for, games_against, points) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StandingBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void insertStandings(List<Standing> rows) {
+        if (rows.isEmpty()) return;
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Standing s = rows.get(i);
+                ps.setLong(1, s.getCategoryId());
+                ps.setInt(2, s.getGroupNumber());
+                ps.setLong(3, s.getRegistrationId());
+                ps.setInt(4, s.getPlayed());
+                ps.setInt(5, s.getWins());
+                ps.setInt(6, s.getLosses());
+                ps.setInt(7, s.getGamesFor());
+                ps.setInt(8, s.getGamesAgainst());
+                ps.setInt(9, s.getPoints());
+            }
+
+            @Override
+            public int getBatchSize() { return rows.size(); }
+        });
+    }
+}
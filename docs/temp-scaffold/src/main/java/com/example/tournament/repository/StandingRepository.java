@@ -0,0 +1,29 @@
+package com.example.tournament.repository;
+
+import com.example.tournament.domain.Standing;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface StandingRepository extends JpaRepository<Standing, Long>, StandingBulkOperations {
+    List<Standing> findByCategoryIdAndGroupNumber(Long categoryId, Integer groupNumber);
+
+    @Query("select distinct s.groupNumber from Standing s where s.categoryId = :categoryId order by s.groupNumber")
+    List<Integer> findGroupNumbers(@Param("categoryId") Long categoryId);
+
+    // Relative update of one row: no read, and concurrent results for the same participant just queue on the row lock
+    @Modifying
+    @Query("update Standing s set s.played = s.played + :played, s.wins = s.wins + :wins, s.losses = s.losses + :losses, " +
+           "s.gamesFor = s.gamesFor + :gamesFor, s.gamesAgainst = s.gamesAgainst + :gamesAgainst, s.points = s.points + :points " +
+           "where s.categoryId = :categoryId and s.groupNumber = :groupNumber and s.registrationId = :registrationId")
+    int applyDelta(@Param("categoryId") Long categoryId, @Param("groupNumber") Integer groupNumber,
+                   @Param("registrationId") Long registrationId, @Param("played") int played,
+                   @Param("wins") int wins, @Param("losses") int losses, @Param("gamesFor") int gamesFor,
+                   @Param("gamesAgainst") int gamesAgainst, @Param("points") int points);
+
+    @Modifying
+    @Query("delete from Standing s where s.categoryId = :categoryId")
+    int deleteAllInCategory(@Param("categoryId") Long categoryId);
+}
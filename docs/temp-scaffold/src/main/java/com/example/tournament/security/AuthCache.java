@@ -0,0 +1,109 @@
+package com.example.tournament.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Caches what {@link JwtAuthFilter} used to recompute on every request.
+ * <p>
+ * Verified tokens are kept under their SHA-256 until they expire, so neither the raw token nor its signature
+ * check is repeated. Principals are kept per subject for a short TTL; any change to an account evicts its
+ * principal at once (and again after commit), so new roles or a disabled flag apply on the next request.
+ * Hit/miss/eviction counts are published as the "auth.tokens" and "auth.principals" cache metrics.
+ */
+@Component
+public class AuthCache {
+
+    private final Cache<String, JwtUtil.ParsedToken> tokens;
+    private final Cache<String, UserDetails> principals;
+
+    public AuthCache(MeterRegistry meterRegistry,
+                     @Value("${app.security.token-cache.max-entries:10000}") long maxTokens,
+                     @Value("${app.security.principal-cache.max-entries:10000}") long maxPrincipals,
+                     @Value("${app.security.principal-cache.ttl:60s}") Duration principalTtl) {
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maxTokens)
+                .recordStats()
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxPrincipals)
+                .expireAfterWrite(principalTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "auth.tokens");
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "auth.principals");
+    }
+
+    // Parser exceptions propagate and nothing is cached for invalid tokens
+    public JwtUtil.ParsedToken token(String token, Function<String, JwtUtil.ParsedToken> parser) {
+        return tokens.get(hash(token), k -> parser.apply(token));
+    }
+
+    public UserDetails principal(String subject, Function<String, UserDetails> loader) {
+        return principals.get(subject, loader);
+    }
+
+    public void evict(String subject) {
+        principals.invalidate(subject);
+    }
+
+    // Evicts now and once more after commit, so a request racing the transaction cannot re-cache the old account
+    public void evictAfterCommit(String subject) {
+        evict(subject);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { evict(subject); }
+        });
+    }
+
+    @EventListener
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        evictAfterCommit(event.getEmail());
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, JwtUtil.ParsedToken> {
+        @Override
+        public long expireAfterCreate(String key, JwtUtil.ParsedToken value, long currentTime) {
+            long millis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return millis <= 0 ? 0 : TimeUnit.MILLISECONDS.toNanos(Math.min(millis, TimeUnit.DAYS.toMillis(365)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtUtil.ParsedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtUtil.ParsedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.tournament.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class JwtAuthFilter extends OncePerRequestFilter {
+
+    private final JwtUtil jwtUtil;
+    private final UserDetailsServiceImpl uds;
+    private final AuthCache authCache;
+
+    public JwtAuthFilter(JwtUtil jwtUtil, UserDetailsServiceImpl uds, AuthCache authCache) {
+        this.jwtUtil = jwtUtil;
+        this.uds = uds;
+        this.authCache = authCache;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String auth = request.getHeader("Authorization");
+        if (auth != null && auth.startsWith("Bearer ")) {
+            String token = auth.substring(7);
+            try {
+                // Parsed tokens and principals are cached, so a steady client costs no HMAC and no users lookup
+                JwtUtil.ParsedToken parsed = authCache.token(token, jwtUtil::parse);
+                UserDetails user = parsed.isExpired(System.currentTimeMillis())
+                        ? null : authCache.principal(parsed.getSubject(), uds::loadUserByUsername);
+                if (user != null && user.isEnabled()) {
+                    UsernamePasswordAuthenticationToken authentication =
+                            new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
+            } catch (Exception ignored) {}
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.tournament.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+
+@Component
+public class JwtUtil {
+
+    private final Key key;
+    private final long validityMs;
+
+    public JwtUtil(
+            @Value("${app.jwt.secret:change-me-please-change-me-please-change-me}") String secret,
+            @Value("${app.jwt.validity-ms:259200000}") long validityMs
+    ) {
+        // Using secret to derive a Key keeps configuration simple
+        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.validityMs = validityMs;
+    }
+
+    public String createToken(String subject, Map<String, Object> claims) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .setSubject(subject)
+                .addClaims(claims)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + validityMs))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    public String getSubject(String token) {
+        return parse(token).getSubject();
+    }
+
+    // Verifies the signature and expiry; throws JwtException on any invalid token
+    public ParsedToken parse(String token) {
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build()
+                .parseClaimsJws(token).getBody();
+        long expiresAt = claims.getExpiration() != null ? claims.getExpiration().getTime() : Long.MAX_VALUE;
+        return new ParsedToken(claims.getSubject(), expiresAt);
+    }
+
+    public static final class ParsedToken {
+        private final String subject;
+        private final long expiresAtMillis;
+
+        public ParsedToken(String subject, long expiresAtMillis) {
+            this.subject = subject;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public String getSubject() { return subject; }
+        public long getExpiresAtMillis() { return expiresAtMillis; }
+        public boolean isExpired(long nowMillis) { return nowMillis >= expiresAtMillis; }
+    }
+}
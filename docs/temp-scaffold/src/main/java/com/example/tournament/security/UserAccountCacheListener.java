@@ -0,0 +1,83 @@
+package com.example.tournament.security;
+
+import com.example.tournament.domain.UserAccount;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops cached principals whenever Hibernate writes a {@link UserAccount}, including writes to its roles alone.
+ * <p>
+ * Roles are an element collection on an unversioned entity, so changing only them fires no entity update; the
+ * collection events cover that. An email change evicts both the old and the new subject. Registered with the
+ * session factory on startup, so the entity needs no listener annotation. Bulk JPQL or SQL updates bypass
+ * Hibernate events; code doing those publishes {@link UserAccountChangedEvent}.
+ */
+@Component
+public class UserAccountCacheListener implements PostUpdateEventListener, PostDeleteEventListener,
+        PostCollectionUpdateEventListener, PostCollectionRecreateEventListener, PostCollectionRemoveEventListener {
+
+    private final AuthCache authCache;
+
+    public UserAccountCacheListener(AuthCache authCache, EntityManagerFactory entityManagerFactory) {
+        this.authCache = authCache;
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof UserAccount account)) return;
+        // The loaded state is missing only for a detached update, which cannot tell whether the email changed
+        String previous = emailIn(event.getOldState(), event.getPersister());
+        if (previous != null && !previous.equals(account.getEmail())) authCache.evictAfterCommit(previous);
+        authCache.evictAfterCommit(account.getEmail());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof UserAccount account) authCache.evictAfterCommit(account.getEmail());
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        evictOwner(event);
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        evictOwner(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        evictOwner(event);
+    }
+
+    // Eviction runs in the writing transaction and again after commit, nothing has to wait for the commit
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void evictOwner(AbstractCollectionEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof UserAccount account) authCache.evictAfterCommit(account.getEmail());
+    }
+
+    private static String emailIn(Object[] state, EntityPersister persister) {
+        if (state == null) return null;
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if ("email".equals(names[i])) return (String) state[i];
+        }
+        return null;
+    }
+}
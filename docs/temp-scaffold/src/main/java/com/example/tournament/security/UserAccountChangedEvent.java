@@ -0,0 +1,12 @@
+package com.example.tournament.security;
+
+// For account writes Hibernate does not see (bulk JPQL or SQL updates): drops the cached principal after commit
+public final class UserAccountChangedEvent {
+    private final String email;
+
+    public UserAccountChangedEvent(String email) {
+        this.email = email;
+    }
+
+    public String getEmail() { return email; }
+}
@@ -0,0 +1,170 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.AutoScheduleRequest;
+import com.example.tournament.api.dto.AutoScheduleResponse;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.repository.MatchRepository;
+import com.example.tournament.repository.MatchScheduleRow;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Auto-scheduling on an in-memory timeline: three reads (courts, the calendar around the window, the
+ * tournament's unscheduled matches), a {@link SchedulePlanner} pass with all conflict checks in memory,
+ * and one batched UPDATE. Replaces the per-court, per-slot overlap queries of the original scheduler.
+ * <p>
+ * With {@code optimize} set, the greedy plan only seeds a {@link ScheduleOptimizer} search on a dedicated
+ * fork-join pool; the best plan found within the request's time budget is the one written.
+ * <p>
+ * The reads run in one short read-only transaction and the UPDATE in its own; planning and the optimizer
+ * search hold no transaction or connection. Matches scheduled by someone else in between are caught by the
+ * {@code scheduled_at IS NULL} guard of the batch, which rolls the write back.
+ */
+@Service
+public class AutoSchedulingService {
+
+    // Matches that started this long before the window can still overlap it
+    static final int LOOKBACK_HOURS = 12;
+    static final long DEFAULT_BUDGET_MILLIS = 2_000;
+
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate readTx;
+    private final TransactionTemplate writeTx;
+    private final ForkJoinPool optimizerPool;
+    private final long maxBudgetMillis;
+
+    public AutoSchedulingService(MatchRepository matchRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.schedule.optimize.parallelism:0}") int parallelism,
+                                 @Value("${app.schedule.optimize.max-budget-ms:30000}") long maxBudgetMillis) {
+        this.matchRepository = matchRepository;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.writeTx = new TransactionTemplate(transactionManager);
+        this.optimizerPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxBudgetMillis = maxBudgetMillis;
+    }
+
+    public AutoScheduleResponse autoSchedule(AutoScheduleRequest req) {
+        long t0 = System.nanoTime();
+        Context ctx = readTx.execute(status -> load(req));
+        if (!req.isOptimize()) {
+            SchedulePlanner.Plan plan = ctx.planner.plan(ctx.items, ctx.timeline, ctx.fixedEnds, ctx.feeders);
+            writeTx.executeWithoutResult(status -> persist(plan, ctx));
+            AutoScheduleResponse resp = response(plan, ctx, t0);
+            resp.setEvaluatedSchedules(1);
+            return resp;
+        }
+        long budget = req.getTimeBudgetMillis() != null ? req.getTimeBudgetMillis() : DEFAULT_BUDGET_MILLIS;
+        if (budget < 0) throw new IllegalArgumentException("timeBudgetMillis must not be negative");
+        ScheduleOptimizer.Result result = new ScheduleOptimizer(ctx.planner, optimizerPool).optimize(
+                ctx.items, ctx.timeline, ctx.fixedEnds, ctx.feeders, Math.min(budget, maxBudgetMillis), System.nanoTime());
+        writeTx.executeWithoutResult(status -> persist(result.plan, ctx));
+        AutoScheduleResponse resp = response(result.plan, ctx, t0);
+        resp.setGreedyScore(result.greedyScore);
+        resp.setEvaluatedSchedules(result.evaluated);
+        return resp;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        optimizerPool.shutdownNow();
+    }
+
+    Context load(AutoScheduleRequest req) {
+        if (req.getTournamentId() == null || req.getStartDateTime() == null || req.getEndDateTime() == null) {
+            throw new IllegalArgumentException("tournamentId, startDateTime and endDateTime are required");
+        }
+        if (!req.getEndDateTime().isAfter(req.getStartDateTime())) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+        int duration = req.getDefaultDurationMinutes() != null ? req.getDefaultDurationMinutes() : SchedulePlanner.DEFAULT_DURATION_MINUTES;
+        int buffer = req.getBufferMinutes() != null ? req.getBufferMinutes() : SchedulePlanner.DEFAULT_BUFFER_MINUTES;
+
+        long[] courts = matchRepository.findCourtIds().stream().mapToLong(Long::longValue).toArray();
+        LocalDateTime origin = req.getStartDateTime().minusHours(LOOKBACK_HOURS);
+        ScheduleTimeline timeline = new ScheduleTimeline(origin, buffer, SchedulePlanner.PLAYER_GAP_MINUTES);
+        SchedulePlanner planner = new SchedulePlanner(courts,
+                timeline.minuteOf(req.getStartDateTime()), timeline.minuteOf(req.getEndDateTime()));
+
+        // The existing calendar, loaded once
+        Map<Long, Integer> fixedEnds = new HashMap<>();
+        Map<Long, Long> fixedNext = new HashMap<>();
+        for (MatchScheduleRow r : matchRepository.findScheduleRowsBetween(origin, req.getEndDateTime())) {
+            int start = timeline.minuteOf(r.getScheduledAt());
+            int end = start + (r.getEstimatedDurationMinutes() != null ? r.getEstimatedDurationMinutes() : duration);
+            timeline.book(r.getCourtId(), r.getPlayerIds(), start, end);
+            fixedEnds.put(r.getId(), end);
+            if (r.getNextMatchId() != null) fixedNext.put(r.getId(), r.getNextMatchId());
+        }
+
+        List<SchedulePlanner.Item> items = new ArrayList<>();
+        for (MatchScheduleRow r : matchRepository.findUnscheduledRows(req.getTournamentId(), MatchStatus.SCHEDULED)) {
+            int d = r.getEstimatedDurationMinutes() != null ? r.getEstimatedDurationMinutes() : duration;
+            items.add(new SchedulePlanner.Item(r.getId(), r.getRound(), r.getCategoryId(), r.getPosition(),
+                    r.getNextMatchId(), d, r.getPlayerIds()));
+        }
+        items.sort(SchedulePlanner.BRACKET_ORDER);
+        return new Context(planner, timeline, items, fixedEnds, SchedulePlanner.feedersOf(items, fixedNext));
+    }
+
+    void persist(SchedulePlanner.Plan plan, Context ctx) {
+        int n = plan.size();
+        long[] ids = new long[n];
+        long[] courts = new long[n];
+        LocalDateTime[] starts = new LocalDateTime[n];
+        int[] durations = new int[n];
+        int i = 0;
+        for (long id : plan.matchIds()) {
+            ids[i] = id;
+            courts[i] = plan.courtOf(id);
+            starts[i] = ctx.timeline.timeOf(plan.startOf(id));
+            durations[i] = plan.endOf(id) - plan.startOf(id);
+            i++;
+        }
+        int[] counts = matchRepository.updateSchedules(ids, courts, starts, durations);
+        for (int c : counts) {
+            // Someone scheduled one of these matches meanwhile; roll back rather than double-book
+            if (c == 0) throw new IllegalStateException("Schedule changed while auto-scheduling, please retry");
+        }
+    }
+
+    AutoScheduleResponse response(SchedulePlanner.Plan plan, Context ctx, long t0) {
+        AutoScheduleResponse resp = new AutoScheduleResponse();
+        resp.setScheduledCount(plan.size());
+        resp.setUnscheduledMatchIds(new ArrayList<>(plan.unplacedMatchIds()));
+        int last = plan.lastEnd();
+        resp.setLastMatchEndsAt(last < 0 ? null : ctx.timeline.timeOf(last));
+        int windowStart = ctx.planner.windowStart();
+        resp.setScore(ScheduleOptimizer.score(plan, windowStart));
+        resp.setMakespanMinutes(last < 0 ? 0 : last - windowStart);
+        resp.setIdleCourtMinutes(ScheduleOptimizer.idleCourtMinutes(plan, windowStart));
+        resp.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        return resp;
+    }
+
+    static final class Context {
+        final SchedulePlanner planner;
+        final ScheduleTimeline timeline;
+        final List<SchedulePlanner.Item> items;
+        final Map<Long, Integer> fixedEnds;
+        final Map<Long, List<Long>> feeders;
+
+        Context(SchedulePlanner planner, ScheduleTimeline timeline, List<SchedulePlanner.Item> items,
+                Map<Long, Integer> fixedEnds, Map<Long, List<Long>> feeders) {
+            this.planner = planner;
+            this.timeline = timeline;
+            this.items = items;
+            this.fixedEnds = fixedEnds;
+            this.feeders = feeders;
+        }
+    }
+}
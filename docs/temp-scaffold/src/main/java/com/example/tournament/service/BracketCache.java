@@ -0,0 +1,105 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.MatchDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * Per-category bracket read cache keyed by a monotonically increasing bracket version.
+ * Versions come from one clock seeded with the boot time in millis, so an ETag handed out
+ * before a restart does not match a bracket version issued after it.
+ * Hit/miss/eviction counts are published as the "bracket" cache metrics, and every version
+ * change is announced as a {@link BracketChangedEvent}.
+ * <p>
+ * Versions are kept in a bounded cache as well, since any category id a client sends gets one. Losing a
+ * version is harmless: the next one comes from the same clock, so it is newer than every ETag and snapshot
+ * issued before, and readers simply reload.
+ */
+@Component
+public class BracketCache {
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    private final Cache<Long, Long> versions;
+    private final Cache<Long, BracketSnapshot> snapshots;
+    private final ApplicationEventPublisher events;
+
+    public BracketCache(MeterRegistry meterRegistry,
+                        @Value("${app.bracket.cache.max-entries:500}") long maxEntries,
+                        @Value("${app.bracket.cache.max-versions:100000}") long maxVersions,
+                        ApplicationEventPublisher events) {
+        this.events = events;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxVersions)
+                .build();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "bracket");
+    }
+
+    public long version(Long categoryId) {
+        return versions.get(categoryId, k -> clock.incrementAndGet());
+    }
+
+    public String eTag(Long categoryId) {
+        return eTag(categoryId, version(categoryId));
+    }
+
+    static String eTag(Long categoryId, long version) {
+        return "W/\"" + categoryId + "-" + version + "\"";
+    }
+
+    // Returns the snapshot for the current version, loading it at most once per version
+    public BracketSnapshot get(Long categoryId, LongFunction<BracketSnapshot> loader) {
+        long v = version(categoryId);
+        BracketSnapshot cached = snapshots.getIfPresent(categoryId);
+        if (cached != null && cached.getVersion() == v) return cached;
+        BracketSnapshot loaded = loader.apply(v);
+        // Don't publish a snapshot that was invalidated while it was being loaded
+        if (version(categoryId) == v) snapshots.put(categoryId, loaded);
+        return loaded;
+    }
+
+    public void invalidate(Long categoryId) {
+        invalidate(categoryId, null);
+    }
+
+    // changed == null marks a structural change; otherwise it is the delta that produced the new version
+    public void invalidate(Long categoryId, List<MatchDto> changed) {
+        long[] previous = new long[1];
+        long version = versions.asMap().compute(categoryId, (k, old) -> {
+            previous[0] = old == null ? 0L : old;
+            return clock.incrementAndGet();
+        });
+        snapshots.invalidate(categoryId);
+        events.publishEvent(new BracketChangedEvent(categoryId, previous[0], version, changed));
+    }
+
+    // Bumps the version once the surrounding transaction commits, so readers never cache pre-commit rows
+    public void invalidateAfterCommit(Long categoryId) {
+        invalidateAfterCommit(categoryId, null);
+    }
+
+    public void invalidateAfterCommit(Long categoryId, List<MatchDto> changed) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(categoryId, changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { invalidate(categoryId, changed); }
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.MatchDto;
+
+import java.util.List;
+
+// Published (after commit) whenever a category's bracket version moves.
+// matches == null means a structural change (generated/deleted): readers need a full snapshot.
+public final class BracketChangedEvent {
+    private final Long categoryId;
+    private final long previousVersion;
+    private final long version;
+    private final List<MatchDto> matches;
+
+    public BracketChangedEvent(Long categoryId, long previousVersion, long version, List<MatchDto> matches) {
+        this.categoryId = categoryId;
+        this.previousVersion = previousVersion;
+        this.version = version;
+        this.matches = matches;
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public long getPreviousVersion() { return previousVersion; }
+    public long getVersion() { return version; }
+    public List<MatchDto> getMatches() { return matches; }
+    public boolean isReset() { return matches == null; }
+}
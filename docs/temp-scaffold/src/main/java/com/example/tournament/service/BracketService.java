@@ -2,9 +2,28 @@ package com.example.tournament.service;
 
 import com.example.tournament.api.dto.BracketSummaryResponse;
 import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.api.dto.MatchDto;
+import com.example.tournament.api.dto.RoundRobinSummaryResponse;
+
+import java.util.List;
 
 public interface BracketService {
     BracketSummaryResponse generateSingleElimination(Long tournamentId, Long categoryId, DrawGenerateRequest req);
+    // Winners bracket, losers bracket and grand final, linked for both the winner and the loser of every match
+    BracketSummaryResponse generateDoubleElimination(Long tournamentId, Long categoryId, DrawGenerateRequest req);
+    // Splits the category into groups and writes every group's fixtures; req.groups defaults to 1
+    RoundRobinSummaryResponse generateRoundRobin(Long tournamentId, Long categoryId, DrawGenerateRequest req);
     BracketSummaryResponse getBracket(Long categoryId);
+    BracketSnapshot getBracketSnapshot(Long categoryId);
+    // Current ETag of the category's bracket; answered from memory, no database work
+    String getBracketETag(Long categoryId);
     void deleteDraftBracket(Long categoryId);
+    // Records a winner and advances it along nextMatchId (and the loser along loserNextMatchId, or both into the
+    // group standings); returns only the matches that changed
+    List<MatchDto> recordResult(Long matchId, Long winnerRegistrationId, Integer score1, Integer score2);
+    default List<MatchDto> recordResult(Long matchId, Long winnerRegistrationId) {
+        return recordResult(matchId, winnerRegistrationId, null, null);
+    }
+    // Replaces the result of a round-robin match, reversing its old standings contribution
+    List<MatchDto> correctResult(Long matchId, Long winnerRegistrationId, Integer score1, Integer score2);
 }
@@ -0,0 +1,200 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSimulationRequest;
+import com.example.tournament.api.dto.BracketSimulationResponse;
+import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.domain.Category;
+import com.example.tournament.domain.TournamentFormat;
+import com.example.tournament.repository.CategoryRepository;
+import com.example.tournament.repository.RegistrationRepository;
+import com.example.tournament.repository.SeedRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What-if odds for a single-elimination category: per registration, the probability of reaching each round and
+ * of winning, estimated by playing the draw out many times with {@link BracketSimulator}.
+ * <p>
+ * Strength comes from the request's ratings, or from the seeds when none are given (seed s of S is rated
+ * {@link #DEFAULT_RATING} + {@link #SEED_STEP} * (S + 1 - s), unseeded players {@link #DEFAULT_RATING}). Seeds
+ * come from the request, else from the category's stored seeds. The placement order is the one draw generation
+ * uses (seeds in seed order, then the rest by registration id), and each requested layout places it on the draw
+ * lines differently, so their odds can be compared side by side. A request's {@code randomSeed} makes the odds
+ * reproducible when all iterations fit in the time budget. Nothing is written and no transaction is held while
+ * the simulation runs.
+ */
+@Service
+public class BracketSimulationService {
+
+    static final double DEFAULT_RATING = 1500;
+    static final double SEED_STEP = 50;
+    static final long DEFAULT_ITERATIONS = 1_000_000;
+    static final long DEFAULT_BUDGET_MILLIS = 2_000;
+
+    private final CategoryRepository categoryRepository;
+    private final RegistrationRepository registrationRepository;
+    private final SeedRepository seedRepository;
+    private final ForkJoinPool simulationPool;
+    private final long maxIterations;
+    private final long maxBudgetMillis;
+
+    public BracketSimulationService(CategoryRepository categoryRepository, RegistrationRepository registrationRepository,
+                                    SeedRepository seedRepository,
+                                    @Value("${app.bracket.simulate.parallelism:0}") int parallelism,
+                                    @Value("${app.bracket.simulate.max-iterations:100000000}") long maxIterations,
+                                    @Value("${app.bracket.simulate.max-budget-ms:30000}") long maxBudgetMillis) {
+        this.categoryRepository = categoryRepository;
+        this.registrationRepository = registrationRepository;
+        this.seedRepository = seedRepository;
+        this.simulationPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxIterations = maxIterations;
+        this.maxBudgetMillis = maxBudgetMillis;
+    }
+
+    public BracketSimulationResponse simulate(Long categoryId, BracketSimulationRequest req) {
+        if (req == null) req = new BracketSimulationRequest();
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new NoSuchElementException("Category not found"));
+        if (category.getFormat() != TournamentFormat.SINGLE_ELIMINATION) {
+            throw new IllegalStateException("Category format is not SINGLE_ELIMINATION");
+        }
+        long iterations = req.getIterations() != null ? req.getIterations() : DEFAULT_ITERATIONS;
+        if (iterations < 1) throw new IllegalArgumentException("iterations must be positive");
+        long budget = req.getTimeBudgetMillis() != null ? req.getTimeBudgetMillis() : DEFAULT_BUDGET_MILLIS;
+        if (budget < 0) throw new IllegalArgumentException("timeBudgetMillis must not be negative");
+        List<BracketSimulationRequest.Layout> layouts = req.getLayouts() != null && !req.getLayouts().isEmpty()
+                ? new ArrayList<>(new LinkedHashSet<>(req.getLayouts()))
+                : List.of(BracketSimulationRequest.Layout.STANDARD);
+        if (layouts.contains(null)) throw new IllegalArgumentException("Unknown layout");
+
+        long[] regIds = registrationRepository.findIdsByCategoryId(categoryId)
+                .stream().mapToLong(Long::longValue).toArray();
+        if (regIds.length < 2) throw new IllegalStateException("At least two registrations are required");
+        int[] seeds = seeds(categoryId, regIds, req.getSeeds());
+        double[] ratings = ratings(regIds, seeds, req.getRatings());
+
+        // Registration index per placement slot, in the order generateSingleElimination places them; regIds is sorted
+        int n = regIds.length;
+        long[] placed = SeedPlacementUtil.orderBySeedOrNatural(regIds, seeds);
+        int[] order = new int[n];
+        for (int k = 0; k < n; k++) order[k] = Arrays.binarySearch(regIds, placed[k]);
+
+        int size = SeedPlacementUtil.nextPowerOfTwo(n);
+        iterations = Math.min(iterations, maxIterations);
+        long perLayout = Math.min(budget, maxBudgetMillis) / layouts.size();
+        BracketSimulator simulator = new BracketSimulator(simulationPool);
+        List<BracketSimulationResponse.LayoutResult> results = new ArrayList<>(layouts.size());
+        for (BracketSimulationRequest.Layout layout : layouts) {
+            long t0 = System.nanoTime();
+            long seed = req.getRandomSeed() != null ? req.getRandomSeed() : t0;
+            BracketSimulator.Result r = simulator.run(ratings, lines(layout, order, size),
+                    layout == BracketSimulationRequest.Layout.RANDOM, iterations, perLayout, seed);
+            results.add(layoutResult(layout, r, order, regIds, seeds, ratings, t0));
+        }
+
+        BracketSimulationResponse resp = new BracketSimulationResponse();
+        resp.setCategoryId(categoryId);
+        resp.setTotalParticipants(n);
+        resp.setEffectiveSize(size);
+        resp.setRounds(Integer.numberOfTrailingZeros(size));
+        resp.setLayouts(results);
+        return resp;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        simulationPool.shutdownNow();
+    }
+
+    // Seed number per registration index (0 = unseeded), from the request if it has any, else as stored
+    private int[] seeds(Long categoryId, long[] regIds, List<DrawGenerateRequest.SeedEntry> entries) {
+        long[] seedRegIds;
+        int[] seedNumbers;
+        if (entries != null && !entries.isEmpty()) {
+            seedRegIds = new long[entries.size()];
+            seedNumbers = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                DrawGenerateRequest.SeedEntry se = entries.get(i);
+                if (se.getRegistrationId() == null)
+                    throw new IllegalArgumentException("Seed entry is missing registrationId");
+                seedRegIds[i] = se.getRegistrationId();
+                seedNumbers[i] = se.getSeedNumber();
+            }
+        } else {
+            List<Object[]> stored = seedRepository.findSeedNumbersByCategoryId(categoryId);
+            seedRegIds = new long[stored.size()];
+            seedNumbers = new int[stored.size()];
+            for (int i = 0; i < stored.size(); i++) {
+                seedRegIds[i] = ((Number) stored.get(i)[0]).longValue();
+                seedNumbers[i] = ((Number) stored.get(i)[1]).intValue();
+            }
+        }
+        return SeedPlacementUtil.seedsByIndex(regIds, seedRegIds, seedNumbers);
+    }
+
+    private static double[] ratings(long[] regIds, int[] seeds, List<BracketSimulationRequest.RatingEntry> entries) {
+        double[] ratings = new double[regIds.length];
+        if (entries == null || entries.isEmpty()) {
+            int seeded = 0;
+            for (int s : seeds) if (s > 0) seeded++;
+            for (int i = 0; i < regIds.length; i++) {
+                ratings[i] = seeds[i] > 0 ? DEFAULT_RATING + SEED_STEP * (seeded + 1 - seeds[i]) : DEFAULT_RATING;
+            }
+            return ratings;
+        }
+        Arrays.fill(ratings, DEFAULT_RATING);
+        boolean[] rated = new boolean[regIds.length];
+        for (BracketSimulationRequest.RatingEntry e : entries) {
+            if (e.getRegistrationId() == null || e.getRating() == null)
+                throw new IllegalArgumentException("Rating entry needs registrationId and rating");
+            if (!Double.isFinite(e.getRating()))
+                throw new IllegalArgumentException("Rating is not a finite number: " + e.getRegistrationId());
+            int idx = Arrays.binarySearch(regIds, e.getRegistrationId());
+            if (idx < 0)
+                throw new IllegalArgumentException("Rated registration is not in this category: " + e.getRegistrationId());
+            if (rated[idx])
+                throw new IllegalArgumentException("Registration rated more than once: " + e.getRegistrationId());
+            rated[idx] = true;
+            ratings[idx] = e.getRating();
+        }
+        return ratings;
+    }
+
+    // Participant index per draw line, -1 for a BYE; RANDOM starts from the standard lines so its BYEs are spread the same way
+    private static int[] lines(BracketSimulationRequest.Layout layout, int[] order, int size) {
+        int[] lines = new int[size];
+        for (int l = 0; l < size; l++) {
+            int k = layout == BracketSimulationRequest.Layout.SEQUENTIAL ? l : SeedPlacementUtil.seedIndexAtLine(l, size);
+            lines[l] = k < order.length ? order[k] : -1;
+        }
+        return lines;
+    }
+
+    private static BracketSimulationResponse.LayoutResult layoutResult(BracketSimulationRequest.Layout layout,
+                                                                       BracketSimulator.Result r, int[] order,
+                                                                       long[] regIds, int[] seeds, double[] ratings, long t0) {
+        List<BracketSimulationResponse.ParticipantOdds> odds = new ArrayList<>(order.length);
+        for (int i : order) {
+            BracketSimulationResponse.ParticipantOdds o = new BracketSimulationResponse.ParticipantOdds();
+            o.setRegistrationId(regIds[i]);
+            o.setSeedNumber(seeds[i] > 0 ? seeds[i] : null);
+            o.setRating(ratings[i]);
+            List<Double> reach = new ArrayList<>(r.rounds());
+            for (int round = 1; round <= r.rounds(); round++) reach.add(r.reachProbability(i, round));
+            o.setReachRound(reach);
+            o.setWin(r.winProbability(i));
+            odds.add(o);
+        }
+        BracketSimulationResponse.LayoutResult lr = new BracketSimulationResponse.LayoutResult();
+        lr.setLayout(layout.name());
+        lr.setIterations(r.iterations());
+        lr.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        lr.setParticipants(odds);
+        return lr;
+    }
+}
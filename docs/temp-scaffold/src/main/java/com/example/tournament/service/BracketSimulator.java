@@ -0,0 +1,178 @@
+package com.example.tournament.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte-Carlo estimate of how far each participant gets in a single-elimination draw.
+ * <p>
+ * One simulated tournament is a pass over an int array of line occupants: round by round the winner of slots
+ * 2k and 2k + 1 is written to slot k, with a beating b with probability q[a] / (q[a] + q[b]) for
+ * q = 10^(rating / 400), the Elo expectation. Workers on the fork-join pool claim tournaments in chunks of
+ * {@link #CHUNK} until the requested number is reached or the deadline passes, and keep their own counters, summed
+ * once at the end, so the only thing workers share is the claim counter. Every chunk draws from its own
+ * {@link SplittableRandom}, seeded from the run's seed and the chunk number: which worker plays a chunk does not
+ * change its outcome, and a run that completes all its iterations is reproducible from the seed.
+ */
+public class BracketSimulator {
+
+    static final int CHUNK = 4_096;
+
+    private final ForkJoinPool pool;
+
+    public BracketSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @param ratings one rating per participant; only differences matter
+     * @param lines   participant index per draw line (a power of two), -1 for an empty line
+     * @param shuffle deal the occupants of {@code lines} at random onto its occupied lines for every tournament (an
+     *                unseeded draw); empty lines stay where they are, so BYEs are never paired with each other
+     */
+    public Result run(double[] ratings, int[] lines, boolean shuffle, long iterations, long budgetMillis, long seed) {
+        int size = lines.length;
+        if (size < 2 || Integer.bitCount(size) != 1)
+            throw new IllegalArgumentException("Draw size must be a power of two >= 2: " + size);
+        if (iterations < 1) throw new IllegalArgumentException("iterations must be positive");
+        int rounds = Integer.numberOfTrailingZeros(size);
+        double[] q = strengths(ratings);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        AtomicLong claimed = new AtomicLong();
+
+        int workers = (int) Math.max(1, Math.min(pool.getParallelism(), (iterations + CHUNK - 1) / CHUNK));
+        List<ForkJoinTask<Worker>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            Worker worker = new Worker(lines, q, rounds, shuffle, seed);
+            tasks.add(pool.submit(() -> worker.run(claimed, iterations, deadline)));
+        }
+        long[] wins = new long[ratings.length * (rounds + 1)];
+        long played = 0;
+        for (ForkJoinTask<Worker> t : tasks) {
+            Worker worker = t.join();
+            for (int k = 0; k < wins.length; k++) wins[k] += worker.wins[k];
+            played += worker.played;
+        }
+        return new Result(ratings.length, rounds, played, wins);
+    }
+
+    // SplitMix64 finalizer over golden-ratio steps from the run seed: well spread, distinct per chunk
+    static long chunkSeed(long seed, long chunk) {
+        long z = seed + (chunk + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // Relative to the strongest, so 10^(rating / 400) cannot overflow whatever scale the ratings use
+    private static double[] strengths(double[] ratings) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (double r : ratings) max = Math.max(max, r);
+        double[] q = new double[ratings.length];
+        for (int i = 0; i < ratings.length; i++) q[i] = Math.pow(10, (ratings[i] - max) / 400);
+        return q;
+    }
+
+    private static final class Worker {
+        private final int[] lines;
+        private final int[] occupied; // indices of the non-empty lines, the ones a shuffle deals onto
+        private final int[] slots;
+        private final double[] q;
+        private final int rounds;
+        private final boolean shuffle;
+        private final long seed;
+        private SplittableRandom rnd;
+        private final long[] wins; // wins[i * (rounds + 1) + r]: tournaments in which i won its round-r match
+        private long played;
+
+        Worker(int[] lines, double[] q, int rounds, boolean shuffle, long seed) {
+            this.lines = lines;
+            int n = 0;
+            for (int p : lines) if (p >= 0) n++;
+            this.occupied = new int[n];
+            for (int l = 0, k = 0; l < lines.length; l++) if (lines[l] >= 0) occupied[k++] = l;
+            this.slots = new int[lines.length];
+            this.q = q;
+            this.rounds = rounds;
+            this.shuffle = shuffle;
+            this.seed = seed;
+            this.wins = new long[q.length * (rounds + 1)];
+        }
+
+        // Runs at least one chunk, so even an exhausted budget yields an estimate
+        Worker run(AtomicLong claimed, long iterations, long deadline) {
+            do {
+                long start = claimed.getAndAdd(CHUNK);
+                if (start >= iterations) break;
+                int n = (int) Math.min(CHUNK, iterations - start);
+                rnd = new SplittableRandom(chunkSeed(seed, start / CHUNK));
+                for (int k = 0; k < n; k++) play();
+                played += n;
+            } while (System.nanoTime() < deadline);
+            return this;
+        }
+
+        private void play() {
+            int[] s = slots;
+            System.arraycopy(lines, 0, s, 0, s.length);
+            if (shuffle) {
+                for (int k = occupied.length - 1; k > 0; k--) {
+                    int a = occupied[k];
+                    int b = occupied[rnd.nextInt(k + 1)];
+                    int t = s[a];
+                    s[a] = s[b];
+                    s[b] = t;
+                }
+            }
+            int stride = rounds + 1;
+            // Slot k is written only after slots 2k and 2k + 1 are read, so each round reuses the same array
+            for (int r = 1, m = s.length >>> 1; r <= rounds; r++, m >>>= 1) {
+                for (int k = 0; k < m; k++) {
+                    int a = s[2 * k];
+                    int b = s[2 * k + 1];
+                    int w;
+                    if (a < 0) w = b;
+                    else if (b < 0) w = a;
+                    else w = rnd.nextDouble() * (q[a] + q[b]) < q[a] ? a : b;
+                    s[k] = w;
+                    if (w >= 0) wins[w * stride + r]++;
+                }
+            }
+        }
+    }
+
+    public static final class Result {
+        private final int participants;
+        private final int rounds;
+        private final long iterations;
+        private final long[] wins;
+
+        Result(int participants, int rounds, long iterations, long[] wins) {
+            this.participants = participants;
+            this.rounds = rounds;
+            this.iterations = iterations;
+            this.wins = wins;
+        }
+
+        public int participants() { return participants; }
+
+        public int rounds() { return rounds; }
+
+        public long iterations() { return iterations; }
+
+        // Probability that participant i reaches round r (1..rounds); everyone starts in round 1
+        public double reachProbability(int i, int round) {
+            if (round == 1) return 1.0;
+            return (double) wins[i * (rounds + 1) + round - 1] / iterations;
+        }
+
+        public double winProbability(int i) {
+            return (double) wins[i * (rounds + 1) + rounds] / iterations;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// Immutable view of a category's bracket at a given bracket version, pre-rendered as UTF-8 JSON
+public final class BracketSnapshot {
+    private static final byte[] NOT_BINARY = new byte[0];
+
+    private final Long categoryId;
+    private final long version;
+    private final BracketSummaryResponse response;
+    private final byte[] json;
+    private volatile byte[] gzip; // built on the first gzip-capable request, then reused
+    private volatile byte[] binary; // application/x-bracket, NOT_BINARY when the bracket has no compact form
+
+    public BracketSnapshot(Long categoryId, long version, BracketSummaryResponse response, byte[] json) {
+        this.categoryId = categoryId;
+        this.version = version;
+        this.response = response;
+        this.json = json;
+    }
+
+    public Long getCategoryId() { return categoryId; }
+    public long getVersion() { return version; }
+    public BracketSummaryResponse getResponse() { return response; }
+    public String getETag() { return BracketCache.eTag(categoryId, version); }
+
+    // Shared buffers: callers write them to the wire and must not modify them
+    public byte[] getJson() { return json; }
+
+    public byte[] getGzip() {
+        byte[] g = gzip;
+        if (g == null) {
+            g = compress(json);
+            gzip = g;
+        }
+        return g;
+    }
+
+    // application/x-bracket body, or null for round-robin and other brackets BracketWireFormat cannot express
+    public byte[] getBinary() {
+        byte[] b = binary;
+        if (b == null) {
+            b = BracketWireFormat.encode(response);
+            if (b == null) b = NOT_BINARY;
+            binary = b;
+        }
+        return b == NOT_BINARY ? null : b;
+    }
+
+    private static byte[] compress(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketDeltaDto;
+import com.example.tournament.api.dto.MatchDto;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events fan-out for live bracket updates.
+ * <p>
+ * Idle subscribers hold no thread (servlet async). A subscriber with something to send sits in one ready queue,
+ * at most once, and a few sender threads take turns over that queue one event at a time, so the queue never
+ * holds more than one entry per subscriber and heartbeats cost no task of their own. Every event id is the
+ * bracket version, so a reconnecting client's Last-Event-ID is replayed from a short per-category log, or
+ * answered with a full snapshot when the log no longer covers it. Updates that pile up while a subscriber is
+ * being written to are coalesced per match. A subscriber that falls too far behind is disconnected, and one
+ * whose write has been stuck for {@code app.bracket.stream.send-timeout-ms} is cut off and its sender thread
+ * replaced, so a client that stops reading cannot hold up anyone else.
+ */
+@Component
+public class BracketStreamHub {
+
+    private static final int REPLAY_EVENTS = 256;
+    private static final int MAX_PENDING_MATCHES = 4096;
+    private static final long EMITTER_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+    private static final long HEARTBEAT_SECONDS = 20;
+    private static final long HEARTBEAT_NANOS = TimeUnit.SECONDS.toNanos(HEARTBEAT_SECONDS);
+
+    private final BracketService bracketService;
+    private final BracketCache bracketCache;
+    private final ConcurrentHashMap<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<Subscriber> ready = new LinkedBlockingQueue<>();
+    private final ExecutorService senders;
+    private final Set<Sender> activeSenders = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger stalledSenders = new AtomicInteger();
+    private final long sendTimeoutNanos;
+    private final int maxStalledSenders;
+    private final ScheduledExecutorService heartbeat;
+
+    public BracketStreamHub(BracketService bracketService,
+                            BracketCache bracketCache,
+                            @Value("${app.bracket.stream.sender-threads:4}") int senderThreads,
+                            @Value("${app.bracket.stream.send-timeout-ms:10000}") long sendTimeoutMillis,
+                            @Value("${app.bracket.stream.max-stalled-senders:64}") int maxStalledSenders) {
+        this.bracketService = bracketService;
+        this.bracketCache = bracketCache;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        this.maxStalledSenders = maxStalledSenders;
+        this.senders = Executors.newCachedThreadPool(daemon("bracket-sse-"));
+        for (int i = 0; i < senderThreads; i++) startSender();
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("bracket-sse-heartbeat-"));
+        this.heartbeat.scheduleAtFixedRate(this::heartbeatAll, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+        long check = Math.max(1, Math.min(sendTimeoutMillis / 2, 1_000));
+        this.heartbeat.scheduleWithFixedDelay(this::replaceStalledSenders, check, check, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter subscribe(Long categoryId, String lastEventId) {
+        SseEmitter emitter = newEmitter();
+        Subscriber sub = new Subscriber(categoryId, emitter);
+        // Joined inside compute, so a concurrent remove() of the last subscriber cannot unlink the channel under us
+        Channel channel = channels.compute(categoryId, (k, c) -> {
+            Channel ch = c != null ? c : new Channel();
+            ch.subscribers.add(sub);
+            return ch;
+        });
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(e -> remove(sub));
+
+        // Resume from the replay log when it still covers Last-Event-ID, otherwise start from a snapshot
+        List<BracketChangedEvent> missed = channel.since(parseVersion(lastEventId), bracketCache.version(categoryId));
+        if (missed == null) {
+            sub.offer(null);
+        } else {
+            for (BracketChangedEvent e : missed) sub.offer(e);
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onBracketChanged(BracketChangedEvent event) {
+        Channel channel = channels.get(event.getCategoryId());
+        if (channel == null) return;
+        channel.record(event);
+        for (Subscriber sub : channel.subscribers) sub.offer(event);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(c -> c.subscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(EMITTER_TIMEOUT_MS);
+    }
+
+    int subscriberCount(Long categoryId) {
+        Channel channel = channels.get(categoryId);
+        return channel == null ? 0 : channel.subscribers.size();
+    }
+
+    // Only subscribers that have been quiet for half an interval need a keepalive
+    void heartbeatAll() {
+        long now = System.nanoTime();
+        for (Channel c : channels.values()) {
+            for (Subscriber s : c.subscribers) s.heartbeat(now);
+        }
+    }
+
+    // A sender blocked on one client for longer than the send timeout is written off: the client is cut off and
+    // a new sender takes its place. The stuck thread finishes when the write fails and then exits.
+    private void replaceStalledSenders() {
+        long now = System.nanoTime();
+        for (Sender s : activeSenders) {
+            Subscriber sub = s.current;
+            if (sub == null || now - s.startedNanos < sendTimeoutNanos) continue;
+            sub.close();
+            if (stalledSenders.get() >= maxStalledSenders) continue;
+            s.retired = true;
+            stalledSenders.incrementAndGet();
+            activeSenders.remove(s);
+            startSender();
+        }
+    }
+
+    private void startSender() {
+        Sender s = new Sender();
+        activeSenders.add(s);
+        senders.execute(s);
+    }
+
+    private void remove(Subscriber sub) {
+        sub.closed = true;
+        channels.computeIfPresent(sub.categoryId, (k, c) -> {
+            c.subscribers.remove(sub);
+            return c.subscribers.isEmpty() ? null : c;
+        });
+    }
+
+    private static long parseVersion(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return -1L;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        return new ThreadFactory() {
+            private int n;
+            @Override
+            public synchronized Thread newThread(Runnable r) {
+                Thread t = new Thread(r, prefix + (++n));
+                t.setDaemon(true);
+                return t;
+            }
+        };
+    }
+
+    private static final class Channel {
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private final ArrayDeque<BracketChangedEvent> recent = new ArrayDeque<>();
+
+        synchronized void record(BracketChangedEvent e) {
+            if (recent.size() == REPLAY_EVENTS) recent.removeFirst();
+            recent.addLast(e);
+        }
+
+        // Events from `version` up to `current`, or null when the log has a gap or a structural change in that range
+        synchronized List<BracketChangedEvent> since(long version, long current) {
+            if (version < 0) return null;
+            if (version == current) return List.of();
+            List<BracketChangedEvent> out = new ArrayList<>();
+            long expectedPrevious = version;
+            for (BracketChangedEvent e : recent) {
+                if (e.getVersion() <= version) continue;
+                if (e.getPreviousVersion() != expectedPrevious || e.isReset()) return null;
+                out.add(e);
+                expectedPrevious = e.getVersion();
+            }
+            return expectedPrevious == current ? out : null;
+        }
+    }
+
+    private final class Sender implements Runnable {
+        // startedNanos is written before current, so whoever sees a subscriber also sees when its send began
+        volatile Subscriber current;
+        volatile long startedNanos;
+        volatile boolean retired;
+
+        @Override
+        public void run() {
+            try {
+                while (!retired) {
+                    Subscriber sub = ready.take();
+                    startedNanos = System.nanoTime();
+                    current = sub;
+                    try {
+                        sub.sendNext();
+                    } finally {
+                        current = null;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                activeSenders.remove(this);
+                if (retired) stalledSenders.decrementAndGet();
+            }
+        }
+    }
+
+    private final class Subscriber {
+        final Long categoryId;
+        final SseEmitter emitter;
+        volatile boolean closed;
+        volatile long lastSentNanos = System.nanoTime();
+
+        // guarded by this
+        private final LinkedHashMap<Long, MatchDto> pending = new LinkedHashMap<>();
+        private boolean resetPending;
+        private boolean heartbeatPending;
+        private long pendingVersion;
+        private boolean queued; // in the ready queue or being sent to; at most one of either
+
+        Subscriber(Long categoryId, SseEmitter emitter) {
+            this.categoryId = categoryId;
+            this.emitter = emitter;
+        }
+
+        // event == null requests a full snapshot
+        void offer(BracketChangedEvent event) {
+            synchronized (this) {
+                if (closed) return;
+                if (event == null || event.isReset()) {
+                    resetPending = true;
+                    pending.clear();
+                } else if (!resetPending) {
+                    for (MatchDto m : event.getMatches()) pending.put(m.getId(), m);
+                }
+                if (event != null) pendingVersion = Math.max(pendingVersion, event.getVersion());
+                if (pending.size() > MAX_PENDING_MATCHES) {
+                    close();
+                    return;
+                }
+            }
+            markReady();
+        }
+
+        void heartbeat(long now) {
+            if (now - lastSentNanos < HEARTBEAT_NANOS / 2) return;
+            synchronized (this) {
+                if (closed) return;
+                heartbeatPending = true;
+            }
+            markReady();
+        }
+
+        private void markReady() {
+            synchronized (this) {
+                if (queued || closed) return;
+                queued = true;
+            }
+            ready.add(this);
+        }
+
+        // Sends one event, coalescing everything pending into it, then goes to the back of the queue if more came
+        // in meanwhile, so a busy category takes turns with the others
+        void sendNext() {
+            boolean reset = false;
+            boolean ping = false;
+            long version = 0;
+            List<MatchDto> deltas = null;
+            synchronized (this) {
+                if (!closed) {
+                    if (!hasPending()) {
+                        queued = false;
+                        return;
+                    }
+                    reset = resetPending;
+                    ping = heartbeatPending;
+                    version = pendingVersion;
+                    deltas = reset ? List.of() : new ArrayList<>(pending.values());
+                    resetPending = false;
+                    heartbeatPending = false;
+                    pending.clear();
+                }
+            }
+            if (deltas != null) {
+                try {
+                    send(reset, ping, version, deltas);
+                    lastSentNanos = System.nanoTime();
+                } catch (IOException | RuntimeException e) {
+                    close();
+                }
+            }
+            boolean again;
+            synchronized (this) {
+                again = !closed && hasPending();
+                if (!again) queued = false;
+            }
+            if (again) ready.add(this);
+            else if (closed) emitter.complete();
+        }
+
+        private boolean hasPending() {
+            return resetPending || heartbeatPending || !pending.isEmpty();
+        }
+
+        private void send(boolean reset, boolean ping, long version, List<MatchDto> deltas) throws IOException {
+            if (reset) {
+                BracketSnapshot snapshot = bracketService.getBracketSnapshot(categoryId);
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(snapshot.getVersion()))
+                        .name("snapshot")
+                        .data(snapshot.getJson(), MediaType.APPLICATION_JSON));
+            } else if (!deltas.isEmpty()) {
+                BracketDeltaDto delta = new BracketDeltaDto();
+                delta.setCategoryId(categoryId);
+                delta.setVersion(version);
+                delta.setMatches(deltas);
+                emitter.send(SseEmitter.event()
+                        .id(Long.toString(version))
+                        .name("delta")
+                        .data(delta, MediaType.APPLICATION_JSON));
+            } else if (ping) {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            }
+        }
+
+        // Stops all sending. The emitter is completed by a sender thread, never by the caller, which may be the
+        // publisher or the watchdog and must not wait on a write that is stuck.
+        void close() {
+            boolean enqueue;
+            synchronized (this) {
+                if (closed) return;
+                closed = true;
+                pending.clear();
+                enqueue = !queued;
+                queued = true;
+            }
+            remove(this);
+            if (enqueue) ready.add(this);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.tournament.service;
+
+/**
+ * Single-elimination bracket laid out as an implicit binary heap over primitive arrays.
+ * Index 1 is the final, the matches of round r occupy [size >> r, size >> (r - 1)),
+ * and match i feeds match i >> 1 on side i & 1 (0 = participant1, 1 = participant2).
+ * Registration ids use {@link #NONE} for an empty slot, so nothing is boxed.
+ */
+public final class BracketTopology {
+
+    public static final long NONE = 0L;
+
+    private final int size;
+    private final int rounds;
+    private final long[] matchIds;
+    private final long[] participant1;
+    private final long[] participant2;
+    private final long[] winner;
+    private final boolean[] bye;
+
+    public BracketTopology(int size) {
+        if (size < 2 || Integer.bitCount(size) != 1)
+            throw new IllegalArgumentException("Bracket size must be a power of two >= 2: " + size);
+        this.size = size;
+        this.rounds = Integer.numberOfTrailingZeros(size);
+        this.matchIds = new long[size];
+        this.participant1 = new long[size];
+        this.participant2 = new long[size];
+        this.winner = new long[size];
+        this.bye = new boolean[size];
+    }
+
+    // --- pure index arithmetic ---
+
+    public static int parent(int i) { return i >>> 1; }
+
+    public static int side(int i) { return i & 1; }
+
+    public static int child(int i, int side) { return (i << 1) | side; }
+
+    public static short winnerAdvancesAs(int i) { return (short) ((i & 1) + 1); }
+
+    public int size() { return size; }
+
+    public int rounds() { return rounds; }
+
+    public int matchCount() { return size - 1; }
+
+    public int roundOf(int i) { return rounds - (31 - Integer.numberOfLeadingZeros(i)); }
+
+    public int positionOf(int i) { return i - (size >>> roundOf(i)); }
+
+    public int indexOf(int round, int position) { return (size >>> round) + position; }
+
+    public int firstIndexOfRound(int round) { return size >>> round; }
+
+    public boolean isFirstRound(int i) { return i >= (size >>> 1); }
+
+    // Position of match i in round-ascending, position-ascending order (the order rows are written in)
+    public int ordinalOf(int i) {
+        int r = roundOf(i);
+        return size - (size >>> (r - 1)) + (i - (size >>> r));
+    }
+
+    // --- slot state ---
+
+    public void assignIds(long[] roundOrderedIds) {
+        if (roundOrderedIds.length != size - 1)
+            throw new IllegalArgumentException("Expected " + (size - 1) + " match ids, got " + roundOrderedIds.length);
+        for (int i = 1; i < size; i++) matchIds[i] = roundOrderedIds[ordinalOf(i)];
+    }
+
+    public long matchId(int i) { return matchIds[i]; }
+
+    public long nextMatchId(int i) { return i > 1 ? matchIds[i >>> 1] : NONE; }
+
+    public void seat(int i, long p1, long p2) {
+        participant1[i] = p1;
+        participant2[i] = p2;
+        bye[i] = isFirstRound(i) && (p1 == NONE || p2 == NONE);
+    }
+
+    public long participant1(int i) { return participant1[i]; }
+
+    public long participant2(int i) { return participant2[i]; }
+
+    public boolean isBye(int i) { return bye[i]; }
+
+    public boolean isDecided(int i) { return winner[i] != NONE || (bye[i] && participant1[i] == NONE && participant2[i] == NONE); }
+
+    public long winner(int i) { return winner[i]; }
+
+    // Records the winner of match i and seats it in the parent slot; returns the parent index, or 0 after the final
+    public int advance(int i, long winnerId) {
+        winner[i] = winnerId;
+        int p = i >>> 1;
+        if (p == 0) return 0;
+        if ((i & 1) == 0) participant1[p] = winnerId; else participant2[p] = winnerId;
+        return p;
+    }
+
+    // Completes every first-round BYE and pushes the present participant one round up; returns the number advanced
+    public int advanceByes() {
+        int advanced = 0;
+        for (int i = size >>> 1; i < size; i++) {
+            if (!bye[i]) continue;
+            long w = participant1[i] != NONE ? participant1[i] : participant2[i];
+            if (w == NONE) continue;
+            advance(i, w);
+            advanced++;
+        }
+        return advanced;
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.MatchDto;
+import com.example.tournament.domain.MatchStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@code application/x-bracket}: a single-elimination {@link BracketSummaryResponse} with the topology left implicit.
+ * <p>
+ * Matches are sent in round-then-position order, so round, position, next match and winner side follow from
+ * the ordinal, exactly as in {@link BracketTopology}. Layout (varints are unsigned LEB128):
+ * <pre>
+ *   byte    version (1)
+ *   byte    flags: 1 = explicit match ids, 2 = explicit later-round participants, 4 = scores
+ *   varint  categoryId (0 = none), totalParticipants, effectiveSize
+ *   byte    rounds
+ *   varint  base match id; base registration id
+ *   [flag 1] zigzag varint id deltas for matches 2..n (otherwise ids are base, base + 1, ...)
+ *   nibbles one per match, high nibble first: bits 0-2 status ({@link MatchStatus} ordinal), bit 3 BYE
+ *   2 bits  one per match, winner side: 0 none, 1 participant 1, 2 participant 2
+ *   varint  registration id - base (0 = empty) for both sides of every first-round match,
+ *           or of every match with flag 2 (otherwise later rounds are the winners of their feeders)
+ *   [flag 4] varint score + 1 (0 = none) for both sides of every match
+ * </pre>
+ * Round-robin and irregular brackets are not representable; {@link #encode} returns null for them.
+ * {@link #decode} is the reference decoder for clients.
+ */
+public final class BracketWireFormat {
+
+    public static final String MEDIA_TYPE = "application/x-bracket";
+
+    static final int VERSION = 1;
+    static final int EXPLICIT_IDS = 1;
+    static final int EXPLICIT_PARTICIPANTS = 2;
+    static final int SCORES = 4;
+
+    private static final MatchStatus[] STATUSES = MatchStatus.values();
+
+    private BracketWireFormat() {}
+
+    public static byte[] encode(BracketSummaryResponse resp) {
+        List<MatchDto> matches = ordered(resp);
+        if (matches == null) return null;
+        int n = matches.size();
+        int size = n + 1;
+        int rounds = Integer.numberOfTrailingZeros(size);
+        int firstRound = size >>> 1;
+
+        long baseId = Long.MAX_VALUE;
+        long baseReg = Long.MAX_VALUE;
+        for (MatchDto m : matches) {
+            if (m.getId() == null) return null;
+            baseId = Math.min(baseId, m.getId());
+            baseReg = Math.min(baseReg, minReg(m));
+        }
+        if (baseId < 0) return null;
+        baseReg = baseReg == Long.MAX_VALUE ? 0 : baseReg - 1;
+
+        int flags = 0;
+        int[] sides = new int[n];
+        for (int k = 0; k < n; k++) {
+            MatchDto m = matches.get(k);
+            if (m.getId() != baseId + k) flags |= EXPLICIT_IDS;
+            if (m.getScore1() != null || m.getScore2() != null) flags |= SCORES;
+            Long w = m.getWinnerRegistrationId();
+            if (w == null) sides[k] = 0;
+            else if (w.equals(m.getParticipant1RegistrationId())) sides[k] = 1;
+            else if (w.equals(m.getParticipant2RegistrationId())) sides[k] = 2;
+            else return null;
+        }
+        // Later-round participants can be left out when they are exactly the winners of their feeders
+        for (int k = firstRound; k < n && (flags & EXPLICIT_PARTICIPANTS) == 0; k++) {
+            MatchDto m = matches.get(k);
+            int child = childOrdinal(size, k);
+            if (!same(m.getParticipant1RegistrationId(), matches.get(child).getWinnerRegistrationId())
+                    || !same(m.getParticipant2RegistrationId(), matches.get(child + 1).getWinnerRegistrationId())) {
+                flags |= EXPLICIT_PARTICIPANTS;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + n * 3);
+        out.write(VERSION);
+        out.write(flags);
+        writeVarint(out, resp.getCategoryId() == null ? 0 : resp.getCategoryId());
+        writeVarint(out, resp.getTotalParticipants());
+        writeVarint(out, size);
+        out.write(rounds);
+        writeVarint(out, baseId);
+        writeVarint(out, baseReg);
+        if ((flags & EXPLICIT_IDS) != 0) {
+            for (int k = 1; k < n; k++) writeVarint(out, zigzag(matches.get(k).getId() - matches.get(k - 1).getId()));
+        }
+        for (int k = 0; k < n; k += 2) {
+            int hi = nibble(matches.get(k));
+            int lo = k + 1 < n ? nibble(matches.get(k + 1)) : 0;
+            if (hi < 0 || lo < 0) return null;
+            out.write((hi << 4) | lo);
+        }
+        for (int k = 0; k < n; k += 4) {
+            int b = 0;
+            for (int j = 0; j < 4 && k + j < n; j++) b |= sides[k + j] << (6 - 2 * j);
+            out.write(b);
+        }
+        int withParticipants = (flags & EXPLICIT_PARTICIPANTS) != 0 ? n : firstRound;
+        for (int k = 0; k < withParticipants; k++) {
+            MatchDto m = matches.get(k);
+            writeVarint(out, regCode(m.getParticipant1RegistrationId(), baseReg));
+            writeVarint(out, regCode(m.getParticipant2RegistrationId(), baseReg));
+        }
+        if ((flags & SCORES) != 0) {
+            for (MatchDto m : matches) {
+                writeVarint(out, m.getScore1() == null ? 0 : m.getScore1() + 1L);
+                writeVarint(out, m.getScore2() == null ? 0 : m.getScore2() + 1L);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static BracketSummaryResponse decode(byte[] data) {
+        Reader in = new Reader(data);
+        int version = in.readByte();
+        if (version != VERSION) throw new IllegalArgumentException("Unsupported bracket format version " + version);
+        int flags = in.readByte();
+        long categoryId = in.readVarint();
+        int total = (int) in.readVarint();
+        int size = (int) in.readVarint();
+        int rounds = in.readByte();
+        if (size < 2 || Integer.bitCount(size) != 1 || Integer.numberOfTrailingZeros(size) != rounds) {
+            throw new IllegalArgumentException("Invalid bracket size " + size);
+        }
+        int n = size - 1;
+        int firstRound = size >>> 1;
+        long baseId = in.readVarint();
+        long baseReg = in.readVarint();
+
+        long[] ids = new long[n];
+        ids[0] = baseId;
+        for (int k = 1; k < n; k++) {
+            ids[k] = (flags & EXPLICIT_IDS) != 0 ? ids[k - 1] + unzigzag(in.readVarint()) : baseId + k;
+        }
+        int[] nibbles = new int[n];
+        for (int k = 0; k < n; k += 2) {
+            int b = in.readByte();
+            nibbles[k] = b >>> 4;
+            if (k + 1 < n) nibbles[k + 1] = b & 0x0F;
+        }
+        int[] sides = new int[n];
+        for (int k = 0; k < n; k += 4) {
+            int b = in.readByte();
+            for (int j = 0; j < 4 && k + j < n; j++) sides[k + j] = (b >>> (6 - 2 * j)) & 3;
+        }
+
+        List<MatchDto> matches = new ArrayList<>(n);
+        int round = 1;
+        int roundStart = 0;
+        for (int k = 0; k < n; k++) {
+            if (k - roundStart == size >>> round) {
+                roundStart = k;
+                round++;
+            }
+            MatchDto m = new MatchDto();
+            m.setId(ids[k]);
+            m.setRound(round);
+            m.setPosition(k - roundStart);
+            int status = nibbles[k] & 7;
+            if (status >= STATUSES.length) throw new IllegalArgumentException("Invalid status code " + status);
+            m.setStatus(STATUSES[status].name());
+            m.setBye((nibbles[k] & 8) != 0);
+            if (k < firstRound || (flags & EXPLICIT_PARTICIPANTS) != 0) {
+                m.setParticipant1RegistrationId(reg(in.readVarint(), baseReg));
+                m.setParticipant2RegistrationId(reg(in.readVarint(), baseReg));
+            } else {
+                int child = childOrdinal(size, k);
+                m.setParticipant1RegistrationId(matches.get(child).getWinnerRegistrationId());
+                m.setParticipant2RegistrationId(matches.get(child + 1).getWinnerRegistrationId());
+            }
+            m.setWinnerRegistrationId(sides[k] == 1 ? m.getParticipant1RegistrationId()
+                    : sides[k] == 2 ? m.getParticipant2RegistrationId() : null);
+            matches.add(m);
+        }
+        // Links follow from the ordinal: the parent of (round, position) is (round + 1, position / 2)
+        for (int k = 0; k < n - 1; k++) {
+            MatchDto m = matches.get(k);
+            m.setNextMatchId(ids[parentOrdinal(size, m.getRound(), m.getPosition())]);
+            m.setWinnerAdvancesAs((short) ((m.getPosition() & 1) + 1));
+        }
+        if ((flags & SCORES) != 0) {
+            for (MatchDto m : matches) {
+                long s1 = in.readVarint();
+                long s2 = in.readVarint();
+                m.setScore1(s1 == 0 ? null : (int) (s1 - 1));
+                m.setScore2(s2 == 0 ? null : (int) (s2 - 1));
+            }
+        }
+
+        BracketSummaryResponse resp = new BracketSummaryResponse();
+        resp.setCategoryId(categoryId == 0 ? null : categoryId);
+        resp.setTotalParticipants(total);
+        resp.setEffectiveSize(size);
+        resp.setRounds(rounds);
+        resp.setMatches(matches);
+        return resp;
+    }
+
+    // Matches in round/position order if they form a complete single-elimination tree, otherwise null
+    private static List<MatchDto> ordered(BracketSummaryResponse resp) {
+        List<MatchDto> source = resp.getMatches();
+        if (source == null || source.isEmpty()) return null;
+        int size = source.size() + 1;
+        if (Integer.bitCount(size) != 1) return null;
+        List<MatchDto> matches = new ArrayList<>(source);
+        matches.sort(Comparator.comparingInt(MatchDto::getRound).thenComparingInt(MatchDto::getPosition));
+        int round = 1;
+        int roundStart = 0;
+        for (int k = 0; k < matches.size(); k++) {
+            if (k - roundStart == size >>> round) {
+                roundStart = k;
+                round++;
+            }
+            MatchDto m = matches.get(k);
+            if (m.getGroupNumber() != null || m.getBracket() != null || m.getRound() != round || m.getPosition() != k - roundStart) return null;
+        }
+        for (int k = 0; k < matches.size() - 1; k++) {
+            MatchDto m = matches.get(k);
+            MatchDto parent = matches.get(parentOrdinal(size, m.getRound(), m.getPosition()));
+            if (!same(m.getNextMatchId(), parent.getId())) return null;
+        }
+        return matches;
+    }
+
+    private static int childOrdinal(int size, int k) {
+        // k is in round r >= 2 at position p; its feeders are positions 2p and 2p + 1 of round r - 1
+        int round = 1;
+        int roundStart = 0;
+        while (k - roundStart >= size >>> round) {
+            roundStart += size >>> round;
+            round++;
+        }
+        int prevStart = roundStart - (size >>> (round - 1));
+        return prevStart + 2 * (k - roundStart);
+    }
+
+    private static int parentOrdinal(int size, int round, int position) {
+        int nextStart = size - (size >>> round); // first ordinal of round + 1
+        return nextStart + position / 2;
+    }
+
+    private static int nibble(MatchDto m) {
+        int status;
+        try {
+            status = MatchStatus.valueOf(m.getStatus()).ordinal();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+        return status > 7 ? -1 : status | (m.isBye() ? 8 : 0);
+    }
+
+    private static long minReg(MatchDto m) {
+        long min = Long.MAX_VALUE;
+        if (m.getParticipant1RegistrationId() != null) min = Math.min(min, m.getParticipant1RegistrationId());
+        if (m.getParticipant2RegistrationId() != null) min = Math.min(min, m.getParticipant2RegistrationId());
+        return min;
+    }
+
+    private static long regCode(Long reg, long base) { return reg == null ? 0 : reg - base; }
+
+    private static Long reg(long code, long base) { return code == 0 ? null : code + base; }
+
+    private static boolean same(Long a, Long b) { return a == null ? b == null : a.equals(b); }
+
+    private static long zigzag(long v) { return (v << 1) ^ (v >> 63); }
+
+    private static long unzigzag(long v) { return (v >>> 1) ^ -(v & 1); }
+
+    static void writeVarint(ByteArrayOutputStream out, long v) {
+        while ((v & ~0x7FL) != 0) {
+            out.write((int) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        out.write((int) v);
+    }
+
+    private static final class Reader {
+        private final byte[] data;
+        private int pos;
+
+        Reader(byte[] data) { this.data = data; }
+
+        int readByte() {
+            if (pos >= data.length) throw new IllegalArgumentException("Truncated bracket data");
+            return data[pos++] & 0xFF;
+        }
+
+        long readVarint() {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return v;
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.tournament.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal RFC 4180 reader: quoted fields, doubled quotes, CRLF or LF, line breaks inside quotes.
+// Pulls one record at a time from the underlying reader, so memory stays at one record.
+final class CsvRecordReader {
+
+    static final int MAX_RECORD_CHARS = 64 * 1024;
+
+    private final Reader in;
+    private int line = 1;     // line the next record starts on
+    private int recordLine;   // line the last returned record started on
+    private int pushback = -2;
+
+    CsvRecordReader(Reader in) {
+        this.in = in;
+    }
+
+    int recordLine() { return recordLine; }
+
+    // Next record, or null at end of input
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) return null;
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int chars = 0;
+        while (true) {
+            if (++chars > MAX_RECORD_CHARS) throw new IllegalArgumentException("Line " + recordLine + ": record is too long");
+            if (quoted) {
+                if (c == -1) throw new IllegalArgumentException("Line " + recordLine + ": unterminated quoted field");
+                if (c == '"') {
+                    int d = read();
+                    if (d == '"') field.append('"');
+                    else { quoted = false; c = d; continue; }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int d = read();
+                    if (d != '\n') pushback = d;
+                }
+                if (c != -1) line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pushback != -2) {
+            int c = pushback;
+            pushback = -2;
+            return c;
+        }
+        return in.read();
+    }
+}
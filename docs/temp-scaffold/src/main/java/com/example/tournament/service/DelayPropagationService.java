@@ -0,0 +1,144 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.DelayPropagationResponse;
+import com.example.tournament.api.dto.MatchEndRequest;
+import com.example.tournament.api.dto.MatchShiftDto;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.repository.MatchRepository;
+import com.example.tournament.repository.MatchScheduleRow;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes back the matches an overrunning match delays, and nothing else.
+ * <p>
+ * Starting from the reported end, the calendar after the match is walked in start order. A not yet started
+ * match moves only when its court (plus buffer), one of its players (plus {@link SchedulePlanner#PLAYER_GAP_MINUTES})
+ * or a feeder match (plus buffer) is now busy past its start; every match that moves blocks its own court,
+ * players and next match in turn. Courts never change and nothing moves earlier, so the relative order on each
+ * court and for each player is kept and no new conflicts appear. The walk stops as soon as no moved match can
+ * reach the next start. Only moved rows are written, in one batch guarded by their old start.
+ */
+@Service
+public class DelayPropagationService {
+
+    // A delay cannot reasonably ripple further than this
+    static final int LOOKAHEAD_HOURS = 24;
+
+    private final MatchRepository matchRepository;
+    private final ApplicationEventPublisher events;
+
+    public DelayPropagationService(MatchRepository matchRepository, ApplicationEventPublisher events) {
+        this.matchRepository = matchRepository;
+        this.events = events;
+    }
+
+    @Transactional
+    public DelayPropagationResponse reportEnd(Long matchId, MatchEndRequest req) {
+        long t0 = System.nanoTime();
+        if (req.getActualEndTime() == null) throw new IllegalArgumentException("actualEndTime is required");
+        MatchScheduleRow source = matchRepository.findScheduleRow(matchId)
+                .orElseThrow(() -> new NoSuchElementException("Match not found"));
+        if (source.getScheduledAt() == null) throw new IllegalStateException("Match is not scheduled");
+        if (!req.getActualEndTime().isAfter(source.getScheduledAt())) {
+            throw new IllegalArgumentException("Actual end time must be after the scheduled start");
+        }
+        int buffer = req.getBufferMinutes() != null ? req.getBufferMinutes() : SchedulePlanner.DEFAULT_BUFFER_MINUTES;
+
+        List<MatchScheduleRow> later = matchRepository.findScheduleRowsBetween(
+                source.getScheduledAt(), source.getScheduledAt().plusHours(LOOKAHEAD_HOURS));
+        List<MatchShiftDto> moved = propagate(source, req.getActualEndTime(), later, buffer,
+                SchedulePlanner.PLAYER_GAP_MINUTES, SchedulePlanner.DEFAULT_DURATION_MINUTES);
+        persist(moved);
+        publishAfterCommit(matchId, moved);
+
+        DelayPropagationResponse resp = new DelayPropagationResponse();
+        resp.setMatchId(matchId);
+        int planned = source.getEstimatedDurationMinutes() != null ? source.getEstimatedDurationMinutes() : SchedulePlanner.DEFAULT_DURATION_MINUTES;
+        resp.setDelayMinutes((int) Math.max(0, Duration.between(source.getScheduledAt().plusMinutes(planned), req.getActualEndTime()).toMinutes()));
+        resp.setMovedMatches(moved);
+        resp.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        return resp;
+    }
+
+    // Pure part of the walk: `later` is the calendar from the source's start on, in any order
+    static List<MatchShiftDto> propagate(MatchScheduleRow source, LocalDateTime actualEnd, List<MatchScheduleRow> later,
+                                         int buffer, int playerGap, int defaultDuration) {
+        Map<Long, LocalDateTime> courtReady = new HashMap<>();
+        Map<Long, LocalDateTime> playerReady = new HashMap<>();
+        Map<Long, LocalDateTime> feederReady = new HashMap<>();
+        // Latest instant any moved match (or the source) keeps something busy; later starts are unaffected
+        LocalDateTime horizon = block(source, actualEnd, buffer, playerGap, courtReady, playerReady, feederReady, actualEnd);
+
+        List<MatchScheduleRow> rows = new ArrayList<>(later);
+        rows.sort(Comparator.comparing(MatchScheduleRow::getScheduledAt).thenComparing(MatchScheduleRow::getId));
+        List<MatchShiftDto> moved = new ArrayList<>();
+        for (MatchScheduleRow r : rows) {
+            if (!r.getScheduledAt().isBefore(horizon)) break;
+            if (r.getId().equals(source.getId()) || r.getStatus() != MatchStatus.SCHEDULED) continue;
+
+            LocalDateTime start = r.getScheduledAt();
+            if (r.getCourtId() != null) start = latest(start, courtReady.get(r.getCourtId()));
+            for (long p : r.getPlayerIds()) start = latest(start, playerReady.get(p));
+            start = latest(start, feederReady.get(r.getId()));
+            if (!start.isAfter(r.getScheduledAt())) continue;
+
+            int duration = r.getEstimatedDurationMinutes() != null ? r.getEstimatedDurationMinutes() : defaultDuration;
+            horizon = block(r, start.plusMinutes(duration), buffer, playerGap, courtReady, playerReady, feederReady, horizon);
+            moved.add(new MatchShiftDto(r.getId(), r.getCourtId(), r.getScheduledAt(), start));
+        }
+        return moved;
+    }
+
+    private static LocalDateTime block(MatchScheduleRow r, LocalDateTime end, int buffer, int playerGap,
+                                       Map<Long, LocalDateTime> courtReady, Map<Long, LocalDateTime> playerReady,
+                                       Map<Long, LocalDateTime> feederReady, LocalDateTime horizon) {
+        LocalDateTime court = end.plusMinutes(buffer);
+        LocalDateTime player = end.plusMinutes(playerGap);
+        if (r.getCourtId() != null) courtReady.merge(r.getCourtId(), court, DelayPropagationService::latest);
+        for (long p : r.getPlayerIds()) playerReady.merge(p, player, DelayPropagationService::latest);
+        if (r.getNextMatchId() != null) feederReady.merge(r.getNextMatchId(), court, DelayPropagationService::latest);
+        return latest(horizon, latest(court, player));
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    private void persist(List<MatchShiftDto> moved) {
+        int n = moved.size();
+        long[] ids = new long[n];
+        LocalDateTime[] expected = new LocalDateTime[n];
+        LocalDateTime[] starts = new LocalDateTime[n];
+        for (int i = 0; i < n; i++) {
+            MatchShiftDto m = moved.get(i);
+            ids[i] = m.getMatchId();
+            expected[i] = m.getPreviousStart();
+            starts[i] = m.getNewStart();
+        }
+        for (int c : matchRepository.shiftSchedules(ids, expected, starts)) {
+            if (c == 0) throw new IllegalStateException("Schedule changed while propagating the delay, please retry");
+        }
+    }
+
+    private void publishAfterCommit(Long matchId, List<MatchShiftDto> moved) {
+        if (moved.isEmpty()) return;
+        MatchesRescheduledEvent event = new MatchesRescheduledEvent(matchId, Collections.unmodifiableList(moved));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            events.publishEvent(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { events.publishEvent(event); }
+        });
+    }
+}
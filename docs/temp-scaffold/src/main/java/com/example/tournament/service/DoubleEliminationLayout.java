@@ -0,0 +1,219 @@
+package com.example.tournament.service;
+
+import com.example.tournament.domain.EliminationBracket;
+import com.example.tournament.domain.MatchStatus;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shape and routing of a double-elimination draw of one power-of-two size, computed once per size and shared.
+ * <p>
+ * Matches are numbered in the order rows are written: winners rounds 1..k, losers rounds 1..2(k - 1), then the
+ * grand final. Per match the tables hold where the winner goes and, for winners matches, where the loser drops,
+ * each as a match index and a side (0 = participant1, 1 = participant2), so routing a result is two array reads.
+ * First-round losers pair up in losers round 1. A loser of winners round r >= 2 enters losers round 2(r - 1) as
+ * participant2 against that round's survivor, in reversed order from even winners rounds and in order from odd
+ * ones, so before the losers final nobody's first losers match is against the player they beat just before.
+ */
+public final class DoubleEliminationLayout {
+
+    public static final int NONE = -1;
+    // With two players the losers bracket would be empty; they get a size-4 draw with two BYEs instead
+    public static final int MIN_SIZE = 4;
+
+    // At most one entry per power of two
+    private static final ConcurrentHashMap<Integer, DoubleEliminationLayout> BY_SIZE = new ConcurrentHashMap<>();
+
+    private final int size;
+    private final int winnersRounds;
+    private final int losersRounds;
+    private final int[] losersRoundStart;
+    private final EliminationBracket[] bracket;
+    private final int[] round;
+    private final int[] position;
+    private final int[] winnerTo;
+    private final byte[] winnerSide;
+    private final int[] loserTo;
+    private final byte[] loserSide;
+
+    public static DoubleEliminationLayout of(int size) {
+        if (size < MIN_SIZE || Integer.bitCount(size) != 1)
+            throw new IllegalArgumentException("Double-elimination size must be a power of two >= " + MIN_SIZE + ": " + size);
+        return BY_SIZE.computeIfAbsent(size, DoubleEliminationLayout::new);
+    }
+
+    private DoubleEliminationLayout(int size) {
+        this.size = size;
+        this.winnersRounds = Integer.numberOfTrailingZeros(size);
+        this.losersRounds = 2 * (winnersRounds - 1);
+        int count = 2 * size - 2;
+        this.bracket = new EliminationBracket[count];
+        this.round = new int[count];
+        this.position = new int[count];
+        this.winnerTo = new int[count];
+        this.winnerSide = new byte[count];
+        this.loserTo = new int[count];
+        this.loserSide = new byte[count];
+        Arrays.fill(winnerTo, NONE);
+        Arrays.fill(loserTo, NONE);
+
+        this.losersRoundStart = new int[losersRounds + 2];
+        losersRoundStart[1] = size - 1;
+        for (int j = 1; j <= losersRounds; j++) losersRoundStart[j + 1] = losersRoundStart[j] + losersMatches(j);
+        int grandFinal = count - 1;
+
+        for (int r = 1; r <= winnersRounds; r++) {
+            int m = size >>> r;
+            for (int p = 0; p < m; p++) {
+                int i = winnersIndex(r, p);
+                place(i, EliminationBracket.WINNERS, r, p);
+                if (r < winnersRounds) route(winnerTo, winnerSide, i, winnersIndex(r + 1, p >>> 1), p & 1);
+                else route(winnerTo, winnerSide, i, grandFinal, 0);
+                if (r == 1) route(loserTo, loserSide, i, losersIndex(1, p >>> 1), p & 1);
+                else route(loserTo, loserSide, i, losersIndex(2 * (r - 1), dropPosition(r, p, m)), 1);
+            }
+        }
+        for (int j = 1; j <= losersRounds; j++) {
+            for (int p = 0; p < losersMatches(j); p++) {
+                int i = losersIndex(j, p);
+                place(i, EliminationBracket.LOSERS, j, p);
+                if (j == losersRounds) route(winnerTo, winnerSide, i, grandFinal, 1);
+                else if ((j & 1) == 1) route(winnerTo, winnerSide, i, losersIndex(j + 1, p), 0);
+                else route(winnerTo, winnerSide, i, losersIndex(j + 1, p >>> 1), p & 1);
+            }
+        }
+        place(grandFinal, EliminationBracket.GRAND_FINAL, 1, 0);
+    }
+
+    // The player a loser of winners round r beat in round r - 1 dropped one losers round earlier, into the part
+    // of the losers bracket that an unchanged order (after a reversed drop) or a reversed one (after an unchanged
+    // drop) would send this loser into; alternating keeps the two apart whenever the round has two matches or more
+    private static int dropPosition(int winnersRound, int p, int m) {
+        return (winnersRound & 1) == 0 ? m - 1 - p : p;
+    }
+
+    private int losersMatches(int losersRound) {
+        return size >>> ((losersRound + 1) / 2 + 1);
+    }
+
+    private int winnersIndex(int r, int p) { return size - (size >>> (r - 1)) + p; }
+
+    private int losersIndex(int j, int p) { return losersRoundStart[j] + p; }
+
+    private void place(int i, EliminationBracket b, int r, int p) {
+        bracket[i] = b;
+        round[i] = r;
+        position[i] = p;
+    }
+
+    private static void route(int[] to, byte[] side, int from, int target, int targetSide) {
+        to[from] = target;
+        side[from] = (byte) targetSide;
+    }
+
+    public int size() { return size; }
+
+    public int winnersRounds() { return winnersRounds; }
+
+    public int losersRounds() { return losersRounds; }
+
+    public int matchCount() { return bracket.length; }
+
+    public int grandFinal() { return bracket.length - 1; }
+
+    public int indexOf(EliminationBracket b, int r, int p) {
+        return switch (b) {
+            case WINNERS -> winnersIndex(r, p);
+            case LOSERS -> losersIndex(r, p);
+            case GRAND_FINAL -> grandFinal();
+        };
+    }
+
+    public EliminationBracket bracket(int i) { return bracket[i]; }
+
+    public int round(int i) { return round[i]; }
+
+    public int position(int i) { return position[i]; }
+
+    public int winnerTo(int i) { return winnerTo[i]; }
+
+    public short winnerAdvancesAs(int i) { return (short) (winnerSide[i] + 1); }
+
+    public int loserTo(int i) { return loserTo[i]; }
+
+    public short loserAdvancesAs(int i) { return (short) (loserSide[i] + 1); }
+
+    /**
+     * Seats winners round 1 from {@code lines} (registration ids, two per match, {@link BracketTopology#NONE} for an
+     * empty line) and settles what the empty lines decide. A match one of whose slots can never be filled is a BYE:
+     * completed at once when its player is already known, otherwise left for a walkover when the player arrives.
+     * A BYE has no loser, so the slot its loser would drop into can never be filled either.
+     */
+    public Seating seat(long[] lines) {
+        if (lines.length != size) throw new IllegalArgumentException("Expected " + size + " lines, got " + lines.length);
+        int count = matchCount();
+        Seating s = new Seating(count);
+        boolean[] empty1 = new boolean[count];
+        boolean[] empty2 = new boolean[count];
+        for (int i = 0; i < size >>> 1; i++) {
+            s.participant1[i] = lines[2 * i];
+            s.participant2[i] = lines[2 * i + 1];
+            empty1[i] = lines[2 * i] == BracketTopology.NONE;
+            empty2[i] = lines[2 * i + 1] == BracketTopology.NONE;
+        }
+        // Index order is feeder-first, so every slot is final by the time its match is looked at
+        for (int i = 0; i < count; i++) {
+            s.status[i] = MatchStatus.SCHEDULED;
+            if (!empty1[i] && !empty2[i]) continue;
+            s.bye[i] = true;
+            markEmpty(loserTo[i], loserSide[i], empty1, empty2);
+            if (empty1[i] && empty2[i]) {
+                s.status[i] = MatchStatus.COMPLETED;
+                markEmpty(winnerTo[i], winnerSide[i], empty1, empty2);
+                continue;
+            }
+            long present = empty1[i] ? s.participant2[i] : s.participant1[i];
+            if (present == BracketTopology.NONE) continue;
+            s.status[i] = MatchStatus.COMPLETED;
+            s.winner[i] = present;
+            int next = winnerTo[i];
+            if (next != NONE) {
+                if (winnerSide[i] == 0) s.participant1[next] = present; else s.participant2[next] = present;
+            }
+        }
+        return s;
+    }
+
+    private static void markEmpty(int target, int side, boolean[] empty1, boolean[] empty2) {
+        if (target == NONE) return;
+        if (side == 0) empty1[target] = true; else empty2[target] = true;
+    }
+
+    /** Per-draw state over the layout's indices; registration ids use {@link BracketTopology#NONE} for an empty slot. */
+    public static final class Seating {
+        private final long[] participant1;
+        private final long[] participant2;
+        private final long[] winner;
+        private final boolean[] bye;
+        private final MatchStatus[] status;
+
+        private Seating(int count) {
+            participant1 = new long[count];
+            participant2 = new long[count];
+            winner = new long[count];
+            bye = new boolean[count];
+            status = new MatchStatus[count];
+        }
+
+        public long participant1(int i) { return participant1[i]; }
+
+        public long participant2(int i) { return participant2[i]; }
+
+        public long winner(int i) { return winner[i]; }
+
+        public boolean isBye(int i) { return bye[i]; }
+
+        public MatchStatus status(int i) { return status[i]; }
+    }
+}
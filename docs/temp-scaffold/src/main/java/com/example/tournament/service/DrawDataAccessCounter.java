@@ -0,0 +1,72 @@
+package com.example.tournament.service;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+// Feeds DrawMetrics: counts repository invocations and JDBC statements created on a thread with an open recording.
+// Statements are counted where they are prepared, so a JDBC batch counts once however many rows it carries.
+// Off unless app.bracket.metrics.count-statements is set: it proxies every connection of the primary DataSource.
+@Component
+@ConditionalOnProperty(name = "app.bracket.metrics.count-statements", havingValue = "true")
+public class DrawDataAccessCounter implements BeanPostProcessor {
+
+    // The bean Spring Boot's DataSource auto-configuration registers; any other DataSource is left alone
+    private static final String PRIMARY_DATA_SOURCE = "dataSource";
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factory) {
+            factory.addRepositoryFactoryCustomizer(f -> f.addInvocationListener(invocation -> DrawMetrics.repositoryCall()));
+        }
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (PRIMARY_DATA_SOURCE.equals(beanName) && bean instanceof DataSource ds && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(ds);
+        }
+        return bean;
+    }
+
+    static final class CountingDataSource extends DelegatingDataSource {
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection target) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("equals")) return proxy == args[0];
+                        if (name.equals("hashCode")) return System.identityHashCode(proxy);
+                        if (name.startsWith("prepare") || name.equals("createStatement")) DrawMetrics.sqlStatement();
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.api.dto.RoundRobinSummaryResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * One draw operation per category at a time, decided in memory before any transaction starts.
+ * <p>
+ * The first request for a category registers itself in an in-flight map and runs (its transaction commits
+ * before the entry is removed). An identical request arriving meanwhile waits for that run and gets the same
+ * result or exception; a different request fails fast with {@link DrawInProgressException} instead of queueing
+ * on row locks. Categories never contend with each other. The guard is per instance: the database checks
+ * inside the transaction still decide between application nodes.
+ */
+@Component
+public class DrawGenerationGuard {
+
+    private final BracketService bracketService;
+    private final ConcurrentHashMap<Long, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    public DrawGenerationGuard(BracketService bracketService) {
+        this.bracketService = bracketService;
+    }
+
+    public BracketSummaryResponse generateSingleElimination(Long tournamentId, Long categoryId, DrawGenerateRequest req) {
+        return run(categoryId, requestKey("SE", tournamentId, req),
+                () -> bracketService.generateSingleElimination(tournamentId, categoryId, req));
+    }
+
+    public BracketSummaryResponse generateDoubleElimination(Long tournamentId, Long categoryId, DrawGenerateRequest req) {
+        return run(categoryId, requestKey("DE", tournamentId, req),
+                () -> bracketService.generateDoubleElimination(tournamentId, categoryId, req));
+    }
+
+    public RoundRobinSummaryResponse generateRoundRobin(Long tournamentId, Long categoryId, DrawGenerateRequest req) {
+        return run(categoryId, requestKey("RR", tournamentId, req),
+                () -> bracketService.generateRoundRobin(tournamentId, categoryId, req));
+    }
+
+    public void deleteDraftBracket(Long categoryId) {
+        run(categoryId, "DELETE", () -> {
+            bracketService.deleteDraftBracket(categoryId);
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T run(Long categoryId, String key, Supplier<T> work) {
+        InFlight mine = new InFlight(key);
+        InFlight running = inFlight.putIfAbsent(categoryId, mine);
+        if (running != null) {
+            if (!running.key.equals(key)) throw new DrawInProgressException(categoryId);
+            try {
+                return (T) running.result.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) throw cause;
+                if (e.getCause() instanceof Error cause) throw cause;
+                throw e;
+            }
+        }
+        try {
+            T result = work.get();
+            mine.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            // Errors too: a waiter left with an incomplete future would block its thread forever
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(categoryId, mine);
+        }
+    }
+
+    // Requests are identical when they would produce the same draw
+    static String requestKey(String format, Long tournamentId, DrawGenerateRequest req) {
+        StringBuilder key = new StringBuilder(format).append('|').append(tournamentId);
+        if (req == null) return key.toString();
+        key.append('|').append(req.isOverwriteIfDraft()).append('|').append(req.getGroups());
+        if (req.getSeeds() != null) {
+            for (DrawGenerateRequest.SeedEntry se : req.getSeeds()) {
+                key.append('|').append(se.getRegistrationId()).append(':').append(se.getSeedNumber());
+            }
+        }
+        return key.toString();
+    }
+
+    private static final class InFlight {
+        final String key;
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        InFlight(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.tournament.service;
+
+// Another, different draw operation is running on the category right now (mapped to 409 Conflict)
+public class DrawInProgressException extends IllegalStateException {
+    public DrawInProgressException(Long categoryId) {
+        super("Another draw operation is in progress for category " + categoryId + ", retry shortly");
+    }
+}
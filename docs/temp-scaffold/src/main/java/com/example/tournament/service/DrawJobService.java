@@ -0,0 +1,188 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.api.dto.DrawJobDto;
+import com.example.tournament.domain.Category;
+import com.example.tournament.domain.TournamentFormat;
+import com.example.tournament.repository.CategoryRepository;
+import com.example.tournament.repository.RegistrationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates the draws of every category of a tournament as one asynchronous job.
+ * <p>
+ * Each category goes through the {@link DrawGenerationGuard} generator for its format on its own pool thread, so
+ * every category commits (or fails) in its own transaction. Categories are started largest first, which
+ * keeps the whole job close to the time of its biggest draw. The pool is bounded so a job never takes more
+ * connections than {@code app.draw.jobs.parallelism}.
+ */
+@Service
+public class DrawJobService {
+
+    private final CategoryRepository categoryRepository;
+    private final RegistrationRepository registrationRepository;
+    private final DrawGenerationGuard drawGenerationGuard;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Job> jobs = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterAccess(Duration.ofHours(6))
+            .build();
+
+    public DrawJobService(CategoryRepository categoryRepository,
+                          RegistrationRepository registrationRepository,
+                          DrawGenerationGuard drawGenerationGuard,
+                          @Value("${app.draw.jobs.parallelism:4}") int parallelism,
+                          @Value("${app.draw.jobs.queue-capacity:1000}") int queueCapacity) {
+        this.categoryRepository = categoryRepository;
+        this.registrationRepository = registrationRepository;
+        this.drawGenerationGuard = drawGenerationGuard;
+        AtomicInteger n = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "draw-job-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    public DrawJobDto generateAll(Long tournamentId, boolean overwriteIfDraft) {
+        List<Category> categories = categoryRepository.findByTournamentIdOrderByIdAsc(tournamentId);
+        if (categories.isEmpty()) throw new NoSuchElementException("No categories found for tournament");
+
+        Map<Long, Integer> sizes = new HashMap<>();
+        for (Object[] row : registrationRepository.countByCategoryForTournament(tournamentId)) {
+            sizes.put((Long) row[0], ((Number) row[1]).intValue());
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), tournamentId, categories.size());
+        for (int i = 0; i < categories.size(); i++) {
+            Category c = categories.get(i);
+            job.tasks[i] = new Task(c.getId(), c.getFormat(), sizes.getOrDefault(c.getId(), 0));
+        }
+        jobs.put(job.id, job);
+
+        DrawGenerateRequest req = new DrawGenerateRequest();
+        req.setOverwriteIfDraft(overwriteIfDraft);
+        Task[] byLargest = job.tasks.clone();
+        Arrays.sort(byLargest, (a, b) -> Integer.compare(b.participants, a.participants));
+        for (Task task : byLargest) {
+            if (task.format != TournamentFormat.SINGLE_ELIMINATION && task.format != TournamentFormat.DOUBLE_ELIMINATION
+                    && task.format != TournamentFormat.ROUND_ROBIN) {
+                job.finish(task, "SKIPPED", null, 0);
+                continue;
+            }
+            try {
+                executor.execute(() -> run(job, task, req));
+            } catch (RejectedExecutionException e) {
+                job.finish(task, "FAILED", "Draw generation is at capacity, retry later", 0);
+            }
+        }
+        return job.toDto();
+    }
+
+    public DrawJobDto getJob(String jobId) {
+        Job job = jobs.getIfPresent(jobId);
+        if (job == null) throw new NoSuchElementException("Draw job not found");
+        return job.toDto();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(Job job, Task task, DrawGenerateRequest req) {
+        task.status = "RUNNING";
+        long start = System.nanoTime();
+        try {
+            if (task.format == TournamentFormat.ROUND_ROBIN) {
+                task.matches = (int) drawGenerationGuard.generateRoundRobin(job.tournamentId, task.categoryId, req).getTotalMatches();
+            } else {
+                BracketSummaryResponse resp = task.format == TournamentFormat.DOUBLE_ELIMINATION
+                        ? drawGenerationGuard.generateDoubleElimination(job.tournamentId, task.categoryId, req)
+                        : drawGenerationGuard.generateSingleElimination(job.tournamentId, task.categoryId, req);
+                task.matches = resp.getMatches() == null ? 0 : resp.getMatches().size();
+            }
+            job.finish(task, "COMPLETED", null, System.nanoTime() - start);
+        } catch (RuntimeException e) {
+            job.finish(task, "FAILED", e.getMessage(), System.nanoTime() - start);
+        }
+    }
+
+    private static final class Task {
+        final Long categoryId;
+        final TournamentFormat format;
+        final int participants;
+        volatile String status = "PENDING";
+        volatile int matches;
+        volatile long elapsedNanos;
+        volatile String error;
+
+        Task(Long categoryId, TournamentFormat format, int participants) {
+            this.categoryId = categoryId;
+            this.format = format;
+            this.participants = participants;
+        }
+    }
+
+    private static final class Job {
+        final String id;
+        final Long tournamentId;
+        final Task[] tasks;
+        final long startNanos = System.nanoTime();
+        final AtomicInteger remaining;
+        final AtomicInteger failed = new AtomicInteger();
+        volatile long endNanos;
+
+        Job(String id, Long tournamentId, int size) {
+            this.id = id;
+            this.tournamentId = tournamentId;
+            this.tasks = new Task[size];
+            this.remaining = new AtomicInteger(size);
+        }
+
+        void finish(Task task, String status, String error, long elapsedNanos) {
+            task.error = error;
+            task.elapsedNanos = elapsedNanos;
+            task.status = status;
+            if ("FAILED".equals(status)) failed.incrementAndGet();
+            if (remaining.decrementAndGet() == 0) endNanos = System.nanoTime();
+        }
+
+        DrawJobDto toDto() {
+            DrawJobDto dto = new DrawJobDto();
+            dto.setJobId(id);
+            dto.setTournamentId(tournamentId);
+            long end = endNanos;
+            boolean done = end != 0;
+            dto.setStatus(!done ? "RUNNING" : failed.get() > 0 ? "COMPLETED_WITH_ERRORS" : "COMPLETED");
+            dto.setTotal(tasks.length);
+            dto.setCompleted(tasks.length - remaining.get());
+            dto.setFailed(failed.get());
+            dto.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis((done ? end : System.nanoTime()) - startNanos));
+            List<DrawJobDto.CategoryProgress> list = new ArrayList<>(tasks.length);
+            for (Task t : tasks) {
+                DrawJobDto.CategoryProgress p = new DrawJobDto.CategoryProgress();
+                p.setCategoryId(t.categoryId);
+                p.setStatus(t.status);
+                p.setParticipants(t.participants);
+                p.setMatches(t.matches);
+                p.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(t.elapsedNanos));
+                p.setError(t.error);
+                list.add(p);
+            }
+            dto.setCategories(list);
+            return dto;
+        }
+    }
+}
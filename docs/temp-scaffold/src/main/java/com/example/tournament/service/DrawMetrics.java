@@ -0,0 +1,252 @@
+package com.example.tournament.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stage timings and data-access counts for draw generation, bracket reads and draft deletes.
+ * <p>
+ * A service method opens a {@link Recording}, marks every stage as it finishes and closes the recording on the
+ * way out. On close each stage goes to the "bracket.stage" timer, the whole call to "bracket.operation", and the
+ * repository calls and JDBC statements issued on the thread in between (see {@link DrawDataAccessCounter}) to the
+ * "bracket.repository.calls" and "bracket.sql.statements" summaries, all tagged with the operation and a size
+ * bucket. The two summaries exist only with {@code app.bracket.metrics.count-statements} on, which also enables
+ * the counter; it is off by default because it proxies every JDBC connection. A call slower than {@code app.bracket.metrics.slow-threshold} is logged with its stage breakdown and
+ * kept for the "draws" actuator endpoint.
+ * <p>
+ * Meters are registered once per operation, size bucket and stage and then reused, so a cached bracket read
+ * records into existing meters instead of going through the builders and the registry lookup every time.
+ */
+@Component
+public class DrawMetrics {
+
+    public static final String GENERATE = "generate";
+    public static final String GENERATE_DOUBLE_ELIMINATION = "generate_double_elimination";
+    public static final String GENERATE_ROUND_ROBIN = "generate_round_robin";
+    public static final String READ = "read";
+    public static final String DELETE_DRAFT = "delete_draft";
+
+    static final int RECENT_SLOW_DRAWS = 20;
+
+    private static final Logger log = LoggerFactory.getLogger(DrawMetrics.class);
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+    private final boolean countDataAccess;
+    private final Deque<SlowDraw> recentSlow = new ArrayDeque<>(); // guarded by itself
+    // operation -> size bucket -> meters; both key sets are small and fixed
+    private final Map<String, Map<String, OperationMeters>> meters = new ConcurrentHashMap<>();
+
+    public DrawMetrics(MeterRegistry registry,
+                       @Value("${app.bracket.metrics.slow-threshold:2s}") Duration slowThreshold,
+                       @Value("${app.bracket.metrics.count-statements:false}") boolean countDataAccess) {
+        this.registry = registry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.countDataAccess = countDataAccess;
+    }
+
+    // A recording opened inside another one (a regenerate deleting its draft) is reported on its own and rolled into the outer one
+    public Recording start(String operation, Long categoryId) {
+        Recording r = new Recording(operation, categoryId, CURRENT.get());
+        CURRENT.set(r);
+        return r;
+    }
+
+    // Hooks for DrawDataAccessCounter; free outside a recording
+    static void repositoryCall() {
+        Recording r = CURRENT.get();
+        if (r != null) r.repositoryCalls++;
+    }
+
+    static void sqlStatement() {
+        Recording r = CURRENT.get();
+        if (r != null) r.sqlStatements++;
+    }
+
+    // By match count: rows written, statements issued and payload size all scale with it
+    static String sizeBucket(int matches) {
+        if (matches < 0) return "unknown";
+        if (matches <= 8) return "0-8";
+        if (matches <= 64) return "9-64";
+        if (matches <= 512) return "65-512";
+        if (matches <= 4096) return "513-4096";
+        return "4097+";
+    }
+
+    public long slowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    public List<SlowDraw> recentSlowDraws() {
+        synchronized (recentSlow) {
+            return new ArrayList<>(recentSlow);
+        }
+    }
+
+    private void finish(Recording r) {
+        if (r.parent != null) {
+            r.parent.repositoryCalls += r.repositoryCalls;
+            r.parent.sqlStatements += r.sqlStatements;
+            CURRENT.set(r.parent);
+        } else {
+            CURRENT.remove();
+        }
+        long total = System.nanoTime() - r.started;
+        OperationMeters m = meters(r.operation, sizeBucket(r.matches));
+        m.operation(r.completed ? "success" : "error").record(total, TimeUnit.NANOSECONDS);
+        for (int i = 0; i < r.stages.size(); i++) {
+            m.stage(r.stages.get(i)).record(r.stageNanos[i], TimeUnit.NANOSECONDS);
+        }
+        if (countDataAccess) {
+            m.repositoryCalls.record(r.repositoryCalls);
+            m.sqlStatements.record(r.sqlStatements);
+        }
+        if (total >= slowThresholdNanos) slow(r, total);
+    }
+
+    private OperationMeters meters(String operation, String size) {
+        Map<String, OperationMeters> bySize = meters.get(operation);
+        if (bySize == null) bySize = meters.computeIfAbsent(operation, k -> new ConcurrentHashMap<>());
+        OperationMeters m = bySize.get(size);
+        if (m == null) m = bySize.computeIfAbsent(size, k -> new OperationMeters(operation, size));
+        return m;
+    }
+
+    private void slow(Recording r, long totalNanos) {
+        Map<String, Double> stages = new LinkedHashMap<>();
+        for (int i = 0; i < r.stages.size(); i++) stages.merge(r.stages.get(i), millis(r.stageNanos[i]), Double::sum);
+        SlowDraw s = new SlowDraw(Instant.now(), r.operation, r.categoryId, r.matches, millis(totalNanos), stages,
+                r.repositoryCalls, r.sqlStatements, r.completed);
+        if (countDataAccess) {
+            log.warn("Slow {} for category {} ({} matches): {} ms, stages {}, {} repository calls, {} SQL statements{}",
+                    s.operation, s.categoryId, s.matches, s.totalMillis, s.stageMillis, s.repositoryCalls, s.sqlStatements,
+                    s.completed ? "" : ", failed");
+        } else {
+            log.warn("Slow {} for category {} ({} matches): {} ms, stages {}{}",
+                    s.operation, s.categoryId, s.matches, s.totalMillis, s.stageMillis, s.completed ? "" : ", failed");
+        }
+        synchronized (recentSlow) {
+            if (recentSlow.size() == RECENT_SLOW_DRAWS) recentSlow.removeFirst();
+            recentSlow.addLast(s);
+        }
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    // Meters of one operation and size bucket; outcome and stage timers are registered on first use
+    private final class OperationMeters {
+        private final String operation;
+        private final String size;
+        private final Map<String, Timer> outcomes = new ConcurrentHashMap<>(4);
+        private final Map<String, Timer> stages = new ConcurrentHashMap<>();
+        private final DistributionSummary repositoryCalls;
+        private final DistributionSummary sqlStatements;
+
+        private OperationMeters(String operation, String size) {
+            this.operation = operation;
+            this.size = size;
+            this.repositoryCalls = countDataAccess ? DistributionSummary.builder("bracket.repository.calls")
+                    .tag("operation", operation).tag("size", size).register(registry) : null;
+            this.sqlStatements = countDataAccess ? DistributionSummary.builder("bracket.sql.statements")
+                    .tag("operation", operation).tag("size", size).register(registry) : null;
+        }
+
+        Timer operation(String outcome) {
+            Timer t = outcomes.get(outcome);
+            return t != null ? t : outcomes.computeIfAbsent(outcome, o -> Timer.builder("bracket.operation")
+                    .tag("operation", operation).tag("size", size).tag("outcome", o).register(registry));
+        }
+
+        Timer stage(String name) {
+            Timer t = stages.get(name);
+            return t != null ? t : stages.computeIfAbsent(name, n -> Timer.builder("bracket.stage")
+                    .tag("operation", operation).tag("stage", n).tag("size", size).register(registry));
+        }
+    }
+
+    /** One timed call; not thread-safe, it lives on the thread that started it. */
+    public final class Recording implements AutoCloseable {
+        private final String operation;
+        private final Long categoryId;
+        private final Recording parent;
+        private final long started = System.nanoTime();
+        private final List<String> stages = new ArrayList<>(8);
+        private long[] stageNanos = new long[8];
+        private long stageStart = started;
+        private int matches = -1;
+        private int repositoryCalls;
+        private int sqlStatements;
+        private boolean completed;
+
+        private Recording(String operation, Long categoryId, Recording parent) {
+            this.operation = operation;
+            this.categoryId = categoryId;
+            this.parent = parent;
+        }
+
+        // Ends the stage that started at the previous mark (or at start)
+        public void stage(String name) {
+            long now = System.nanoTime();
+            if (stages.size() == stageNanos.length) stageNanos = Arrays.copyOf(stageNanos, stageNanos.length * 2);
+            stageNanos[stages.size()] = now - stageStart;
+            stages.add(name);
+            stageStart = now;
+        }
+
+        public boolean hasStages() {
+            return !stages.isEmpty();
+        }
+
+        public void matches(int matches) {
+            this.matches = matches;
+        }
+
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void close() {
+            finish(this);
+        }
+    }
+
+    public static final class SlowDraw {
+        public final Instant at;
+        public final String operation;
+        public final Long categoryId;
+        public final int matches;
+        public final double totalMillis;
+        public final Map<String, Double> stageMillis;
+        public final int repositoryCalls;
+        public final int sqlStatements;
+        public final boolean completed;
+
+        SlowDraw(Instant at, String operation, Long categoryId, int matches, double totalMillis,
+                 Map<String, Double> stageMillis, int repositoryCalls, int sqlStatements, boolean completed) {
+            this.at = at;
+            this.operation = operation;
+            this.categoryId = categoryId;
+            this.matches = matches;
+            this.totalMillis = totalMillis;
+            this.stageMillis = stageMillis;
+            this.repositoryCalls = repositoryCalls;
+            this.sqlStatements = sqlStatements;
+            this.completed = completed;
+        }
+    }
+}
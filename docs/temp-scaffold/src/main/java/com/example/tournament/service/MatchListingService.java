@@ -0,0 +1,95 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.MatchListItemDto;
+import com.example.tournament.api.dto.MatchPageResponse;
+import com.example.tournament.repository.MatchListingOperations;
+import com.example.tournament.repository.MatchRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Match listing without OFFSET and without loading the table: pages seek on (tournament_id, id) from an
+ * opaque cursor, and the export writes NDJSON row by row from a forward-only cursor, so memory stays flat
+ * however much history the database holds.
+ */
+@Service
+public class MatchListingService {
+
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1_000;
+
+    private final MatchRepository matchRepository;
+    private final ObjectMapper objectMapper;
+
+    public MatchListingService(MatchRepository matchRepository, ObjectMapper objectMapper) {
+        this.matchRepository = matchRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public MatchPageResponse page(MatchListingOperations.Filter filter, String cursor, Integer limit) {
+        int size = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (size < 1 || size > MAX_PAGE_SIZE) throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        long[] after = cursor == null || cursor.isEmpty() ? null : decodeCursor(cursor);
+
+        // One extra row tells whether there is a next page without a count query
+        List<MatchListItemDto> rows = matchRepository.findMatchPage(filter,
+                after == null ? null : after[0], after == null ? null : after[1], size + 1);
+        MatchPageResponse resp = new MatchPageResponse();
+        if (rows.size() > size) {
+            rows = rows.subList(0, size);
+            MatchListItemDto last = rows.get(size - 1);
+            resp.setNextCursor(encodeCursor(last.getTournamentId(), last.getId()));
+        }
+        resp.setItems(rows);
+        return resp;
+    }
+
+    // Postgres only streams through a cursor inside a transaction, hence readOnly rather than none
+    @Transactional(readOnly = true)
+    public long export(MatchListingOperations.Filter filter, OutputStream out) throws IOException {
+        long[] written = new long[1];
+        // Flushing is left to the servlet's buffer rather than done per row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            matchRepository.streamMatches(filter, row -> {
+                try {
+                    writer.writeValue(gen, row);
+                    gen.writeRaw('\n');
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return written[0];
+    }
+
+    static String encodeCursor(long tournamentId, long matchId) {
+        String key = tournamentId + ":" + matchId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long[] decodeCursor(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int sep = key.indexOf(':');
+            return new long[]{Long.parseLong(key.substring(0, sep)), Long.parseLong(key.substring(sep + 1))};
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.MatchShiftDto;
+
+import java.util.List;
+
+// Published (after commit) when delay propagation has moved matches to later starts
+public final class MatchesRescheduledEvent {
+    private final Long sourceMatchId;
+    private final List<MatchShiftDto> moved;
+
+    public MatchesRescheduledEvent(Long sourceMatchId, List<MatchShiftDto> moved) {
+        this.sourceMatchId = sourceMatchId;
+        this.moved = moved;
+    }
+
+    public Long getSourceMatchId() { return sourceMatchId; }
+    public List<MatchShiftDto> getMoved() { return moved; }
+}
@@ -0,0 +1,283 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.RegistrationImportResponse;
+import com.example.tournament.domain.Category;
+import com.example.tournament.repository.CategoryRepository;
+import com.example.tournament.repository.RegistrationImportOperations.NewPlayer;
+import com.example.tournament.repository.RegistrationRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk registration from CSV, read as a stream and processed {@link #CHUNK_SIZE} rows at a time.
+ * <p>
+ * The header names the columns, in any order and case: {@code playerId}, {@code firstName}, {@code lastName},
+ * {@code gender}, {@code phone}. A row registers an existing player given by {@code playerId}, or by a phone
+ * number already on file; otherwise a player is created from the other columns. Per chunk there is one lookup
+ * by id, one by phone, one for existing registrations, one id allocation and one batch each for players and
+ * registrations, so round-trips grow with chunks rather than rows and only one chunk is held in memory.
+ * Rows that cannot be registered (unknown player, already registered, category full, bad values) are skipped
+ * and reported by line; everything else is written in one transaction. The category row stays locked for that
+ * transaction, so concurrent imports into it take turns and cannot overfill it; a registration made meanwhile by
+ * any other path is caught by the unique (category, player) index and reported like a duplicate row.
+ */
+@Service
+public class RegistrationImportService {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_REPORTED_ERRORS = 1_000;
+    // Column sizes of the player table
+    static final int MAX_NAME_LENGTH = 255;
+    static final int MAX_GENDER_LENGTH = 16;
+    static final int MAX_PHONE_LENGTH = 64;
+
+    private final CategoryRepository categoryRepository;
+    private final RegistrationRepository registrationRepository;
+
+    public RegistrationImportService(CategoryRepository categoryRepository, RegistrationRepository registrationRepository) {
+        this.categoryRepository = categoryRepository;
+        this.registrationRepository = registrationRepository;
+    }
+
+    @Transactional
+    public RegistrationImportResponse importCsv(Long tournamentId, Long categoryId, InputStream csv) {
+        long t0 = System.nanoTime();
+        Category category = categoryRepository.findByIdAndTournamentIdForUpdate(categoryId, tournamentId)
+                .orElseThrow(() -> new NoSuchElementException("Category not found for tournament"));
+        Import run = new Import(tournamentId, category);
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
+            reader.mark(1);
+            if (reader.read() != '\uFEFF') reader.reset(); // spreadsheet exports often start with a BOM
+            CsvRecordReader records = new CsvRecordReader(reader);
+            Columns columns = Columns.of(records.next());
+
+            List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (List<String> rec = records.next(); rec != null; rec = records.next()) {
+                if (rec.size() == 1 && rec.get(0).isBlank()) continue;
+                run.rowsRead++;
+                Row row = columns.row(records.recordLine(), rec, run);
+                if (row == null) continue;
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    flush(run, chunk);
+                    chunk.clear();
+                }
+            }
+            flush(run, chunk);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        RegistrationImportResponse resp = new RegistrationImportResponse();
+        resp.setCategoryId(categoryId);
+        resp.setRowsRead(run.rowsRead);
+        resp.setImported(run.imported);
+        resp.setPlayersCreated(run.playersCreated);
+        resp.setPlayersMatched(run.playersMatched);
+        resp.setFailed(run.failed);
+        resp.setErrors(run.errors);
+        resp.setErrorsTruncated(run.failed > run.errors.size());
+        resp.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
+        return resp;
+    }
+
+    private void flush(Import run, List<Row> chunk) {
+        if (chunk.isEmpty()) return;
+        Set<Long> ids = new HashSet<>();
+        Set<String> phones = new HashSet<>();
+        for (Row r : chunk) {
+            if (r.playerId != null) ids.add(r.playerId);
+            else if (r.phone != null) phones.add(r.phone);
+        }
+        Set<Long> existing = registrationRepository.findExistingPlayerIds(ids);
+        Map<String, List<Long>> byPhone = registrationRepository.findPlayerIdsByPhone(phones);
+
+        // Resolve existing players; rows left without an id create a player
+        Set<Long> resolved = new HashSet<>();
+        for (Row r : chunk) {
+            if (r.playerId != null) {
+                if (!existing.contains(r.playerId)) { run.fail(r.line, "Player " + r.playerId + " not found"); r.rejected = true; continue; }
+            } else if (r.phone != null && byPhone.containsKey(r.phone)) {
+                List<Long> matches = byPhone.get(r.phone);
+                if (matches.size() > 1) { run.fail(r.line, "Phone " + r.phone + " belongs to several players, give playerId"); r.rejected = true; continue; }
+                r.playerId = matches.get(0);
+                r.matched = true;
+            }
+            if (r.playerId != null) resolved.add(r.playerId);
+            else if (r.firstName == null || r.lastName == null) {
+                run.fail(r.line, "No player has phone " + r.phone + "; firstName and lastName are needed to create one");
+                r.rejected = true;
+            }
+        }
+        Set<Long> registered = registrationRepository.findRegisteredPlayerIds(run.category.getId(), resolved);
+
+        // Decide in file order, so duplicates and the capacity cut-off hit the later rows
+        List<Row> accepted = new ArrayList<>(chunk.size());
+        Set<String> newPhones = new HashSet<>();
+        int creating = 0;
+        for (Row r : chunk) {
+            if (r.rejected) continue;
+            if (r.playerId != null) {
+                if (registered.contains(r.playerId) || !run.playerIds.add(r.playerId)) {
+                    run.fail(r.line, "Player " + r.playerId + " is already registered in this category");
+                    continue;
+                }
+            } else if (r.phone != null && !newPhones.add(r.phone)) {
+                run.fail(r.line, "Phone " + r.phone + " appears on an earlier row of this import");
+                continue;
+            }
+            if (run.remaining <= 0) {
+                run.fail(r.line, "Category is full");
+                if (r.playerId != null) run.playerIds.remove(r.playerId);
+                continue;
+            }
+            run.remaining--;
+            if (r.playerId == null) creating++;
+            accepted.add(r);
+        }
+
+        long[] newIds = registrationRepository.allocatePlayerIds(creating);
+        List<NewPlayer> players = new ArrayList<>(creating);
+        long[] playerIds = new long[accepted.size()];
+        int next = 0;
+        for (int i = 0; i < accepted.size(); i++) {
+            Row r = accepted.get(i);
+            if (r.playerId == null) {
+                r.playerId = newIds[next++];
+                run.playerIds.add(r.playerId);
+                players.add(new NewPlayer(r.playerId, r.firstName, r.lastName, r.gender, r.phone));
+            } else if (r.matched) {
+                run.playersMatched++;
+            }
+            playerIds[i] = r.playerId;
+        }
+        registrationRepository.insertPlayers(players);
+        int[] inserted = registrationRepository.insertRegistrations(run.tournamentId, run.category.getId(),
+                run.category.getCategoryType().name(), playerIds);
+        run.playersCreated += players.size();
+        run.imported += accepted.size();
+        // 0 rows: registered since the lookup above; a driver that reports no per-row counts leaves nothing to report
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] != 0) continue;
+            Row r = accepted.get(i);
+            run.fail(r.line, "Player " + r.playerId + " is already registered in this category");
+            run.imported--;
+            if (r.matched) run.playersMatched--;
+        }
+    }
+
+    // Per-request state; rows themselves are only held one chunk at a time
+    private final class Import {
+        final Long tournamentId;
+        final Category category;
+        final Set<Long> playerIds = new HashSet<>(); // registered by this import, for duplicates across chunks
+        final List<RegistrationImportResponse.RowError> errors = new ArrayList<>();
+        long remaining;
+        int rowsRead;
+        int imported;
+        int playersCreated;
+        int playersMatched;
+        int failed;
+
+        Import(Long tournamentId, Category category) {
+            this.tournamentId = tournamentId;
+            this.category = category;
+            this.remaining = category.getMaxParticipants() != null
+                    ? category.getMaxParticipants() - registrationRepository.countRegistrations(category.getId())
+                    : Long.MAX_VALUE;
+        }
+
+        void fail(int line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new RegistrationImportResponse.RowError(line, message));
+        }
+    }
+
+    private static final class Row {
+        final int line;
+        Long playerId;
+        final String firstName;
+        final String lastName;
+        final String gender;
+        final String phone;
+        boolean matched;
+        boolean rejected;
+
+        Row(int line, Long playerId, String firstName, String lastName, String gender, String phone) {
+            this.line = line;
+            this.playerId = playerId;
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.gender = gender;
+            this.phone = phone;
+        }
+    }
+
+    private static final class Columns {
+        final int playerId, firstName, lastName, gender, phone;
+
+        private Columns(Map<String, Integer> index) {
+            playerId = index.getOrDefault("playerid", -1);
+            firstName = index.getOrDefault("firstname", -1);
+            lastName = index.getOrDefault("lastname", -1);
+            gender = index.getOrDefault("gender", -1);
+            phone = index.getOrDefault("phone", -1);
+        }
+
+        static Columns of(List<String> header) {
+            if (header == null) throw new IllegalArgumentException("CSV is empty");
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                index.putIfAbsent(header.get(i).trim().replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT), i);
+            }
+            Columns c = new Columns(index);
+            if (c.playerId < 0 && (c.firstName < 0 || c.lastName < 0)) {
+                throw new IllegalArgumentException("CSV header needs a playerId column or firstName and lastName columns");
+            }
+            return c;
+        }
+
+        // Validated row, or null after reporting why it was rejected
+        Row row(int line, List<String> rec, Import run) {
+            String id = value(rec, playerId);
+            Long pid = null;
+            if (id != null) {
+                try {
+                    pid = Long.parseLong(id);
+                } catch (NumberFormatException e) {
+                    run.fail(line, "playerId '" + id + "' is not a number");
+                    return null;
+                }
+            }
+            String first = value(rec, firstName);
+            String last = value(rec, lastName);
+            String g = value(rec, gender);
+            String p = value(rec, phone);
+            if (pid == null && (first == null || last == null) && p == null) {
+                run.fail(line, "Either playerId, phone or firstName and lastName is required");
+                return null;
+            }
+            if (tooLong(first, MAX_NAME_LENGTH) || tooLong(last, MAX_NAME_LENGTH) || tooLong(g, MAX_GENDER_LENGTH) || tooLong(p, MAX_PHONE_LENGTH)) {
+                run.fail(line, "A value is longer than its column allows");
+                return null;
+            }
+            return new Row(line, pid, first, last, g, p);
+        }
+
+        private static String value(List<String> rec, int i) {
+            if (i < 0 || i >= rec.size()) return null;
+            String v = rec.get(i).trim();
+            return v.isEmpty() ? null : v;
+        }
+
+        private static boolean tooLong(String v, int max) {
+            return v != null && v.length() > max;
+        }
+    }
+}
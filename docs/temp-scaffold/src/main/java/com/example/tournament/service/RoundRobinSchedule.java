@@ -0,0 +1,84 @@
+package com.example.tournament.service;
+
+import com.example.tournament.repository.MatchBulkOperations.FixtureSink;
+
+/**
+ * Round-robin groups and fixtures by the circle method.
+ * <p>
+ * Participants are dealt into groups in serpentine order, so seeds spread evenly and group sizes differ
+ * by at most one. Within a group of k, one participant stays fixed while the others rotate: k-1 rounds
+ * (k rounds for odd k, where the phantom opponent is a rest) in which everybody plays at most once and
+ * every pair meets exactly once. Fixtures are produced on demand, nothing is materialized.
+ */
+public final class RoundRobinSchedule {
+
+    private final long[][] groups;
+
+    private RoundRobinSchedule(long[][] groups) {
+        this.groups = groups;
+    }
+
+    // `ordered` is seed order (seeds first, then natural order)
+    public static RoundRobinSchedule of(long[] ordered, int groupCount) {
+        if (groupCount < 1) throw new IllegalArgumentException("Group count must be at least 1");
+        if (ordered.length < 2 * groupCount) {
+            throw new IllegalArgumentException("Every group needs at least two participants");
+        }
+        int[] sizes = new int[groupCount];
+        for (int i = 0; i < ordered.length; i++) sizes[groupOf(i, groupCount)]++;
+        long[][] groups = new long[groupCount][];
+        for (int g = 0; g < groupCount; g++) groups[g] = new long[sizes[g]];
+        int[] fill = new int[groupCount];
+        for (int i = 0; i < ordered.length; i++) {
+            int g = groupOf(i, groupCount);
+            groups[g][fill[g]++] = ordered[i];
+        }
+        return new RoundRobinSchedule(groups);
+    }
+
+    // Serpentine deal: 0,1,..,G-1 then G-1,..,0, so seed 1 and seed 2G land in the same group
+    static int groupOf(int index, int groupCount) {
+        int row = index / groupCount;
+        int col = index % groupCount;
+        return (row & 1) == 0 ? col : groupCount - 1 - col;
+    }
+
+    public int groupCount() { return groups.length; }
+
+    public long[] group(int g) { return groups[g].clone(); }
+
+    public static int roundsFor(int k) { return (k & 1) == 0 ? k - 1 : k; }
+
+    public static long fixturesFor(int k) { return (long) k * (k - 1) / 2; }
+
+    public long totalFixtures() {
+        long total = 0;
+        for (long[] g : groups) total += fixturesFor(g.length);
+        return total;
+    }
+
+    // Emits every fixture group by group, round by round; group numbers and rounds are 1-based
+    public void forEachFixture(FixtureSink sink) {
+        for (int g = 0; g < groups.length; g++) {
+            long[] members = groups[g];
+            int k = members.length;
+            int m = (k & 1) == 0 ? k : k + 1; // odd groups get a phantom slot at index k
+            for (int r = 0; r < m - 1; r++) {
+                int position = 0;
+                for (int i = 0; i < (m >> 1); i++) {
+                    int a = slot(i, r, m);
+                    int b = slot(m - 1 - i, r, m);
+                    if (a >= k || b >= k) continue; // paired with the phantom: a rest round
+                    // Alternate sides for the fixed participant so nobody is always listed first
+                    if (i == 0 && (r & 1) == 1) { int t = a; a = b; b = t; }
+                    sink.accept(g + 1, r + 1, position++, members[a], members[b]);
+                }
+            }
+        }
+    }
+
+    // Participant index at seat j in round r: seat 0 is fixed, the rest rotate by one each round
+    private static int slot(int j, int r, int m) {
+        return j == 0 ? 0 : 1 + (j - 1 + r) % (m - 1);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.tournament.service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Time-budgeted local search over the order in which {@link SchedulePlanner} places matches.
+ * <p>
+ * The greedy plan is the seed. Every worker on the fork-join pool repeatedly moves one or a few matches to
+ * another position in the placement order (never before a feeder or after the match it feeds), replays the
+ * planner on a copy of the timeline and keeps the new order when it scores no worse. Because every candidate
+ * is produced by the planner itself, court buffers, {@link SchedulePlanner#PLAYER_GAP_MINUTES} and feeder
+ * dependencies hold for every schedule it can return. Workers adopt the shared best order every
+ * {@link #SYNC_EVERY} moves so the search does not drift apart.
+ */
+public class ScheduleOptimizer {
+
+    // Lower is better: unplaced matches first, then the day's length, then gaps left on courts
+    static final long UNPLACED_WEIGHT = 1_000_000_000L;
+    static final long MAKESPAN_WEIGHT = 1_000L;
+    static final int SYNC_EVERY = 64;
+    static final int MAX_BLOCK = 4;
+
+    private final SchedulePlanner planner;
+    private final ForkJoinPool pool;
+
+    public ScheduleOptimizer(SchedulePlanner planner, ForkJoinPool pool) {
+        this.planner = planner;
+        this.pool = pool;
+    }
+
+    public Result optimize(List<SchedulePlanner.Item> seedOrder, ScheduleTimeline base, Map<Long, Integer> fixedEnds,
+                           Map<Long, List<Long>> feeders, long budgetMillis, long seed) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        Candidate greedy = evaluate(seedOrder, base, fixedEnds, feeders);
+        AtomicReference<Candidate> best = new AtomicReference<>(greedy);
+        AtomicLong evaluated = new AtomicLong(1);
+
+        if (seedOrder.size() > 1 && budgetMillis > 0) {
+            Precedence prec = new Precedence(seedOrder, feeders);
+            SplittableRandom root = new SplittableRandom(seed);
+            int workers = Math.max(1, pool.getParallelism());
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                SplittableRandom rnd = root.split();
+                tasks.add(pool.submit(() -> search(prec, base, fixedEnds, feeders, deadline, rnd, best, evaluated)));
+            }
+            for (ForkJoinTask<?> t : tasks) t.join();
+        }
+        Candidate b = best.get();
+        return new Result(b.plan, b.score, greedy.score, evaluated.get());
+    }
+
+    private void search(Precedence prec, ScheduleTimeline base, Map<Long, Integer> fixedEnds,
+                        Map<Long, List<Long>> feeders, long deadline, SplittableRandom rnd,
+                        AtomicReference<Candidate> best, AtomicLong evaluated) {
+        Candidate current = best.get();
+        int moves = 0;
+        while (System.nanoTime() < deadline) {
+            if (++moves % SYNC_EVERY == 0) {
+                Candidate shared = best.get();
+                if (shared.score < current.score) current = shared;
+            }
+            List<SchedulePlanner.Item> order = new ArrayList<>(current.order);
+            int block = 1 + rnd.nextInt(MAX_BLOCK);
+            for (int k = 0; k < block; k++) prec.relocate(order, rnd);
+
+            Candidate next = evaluate(order, base, fixedEnds, feeders);
+            evaluated.incrementAndGet();
+            if (next.score <= current.score) {
+                current = next;
+                offer(best, next);
+            }
+        }
+    }
+
+    private static void offer(AtomicReference<Candidate> best, Candidate c) {
+        Candidate b;
+        do {
+            b = best.get();
+            if (c.score >= b.score) return;
+        } while (!best.compareAndSet(b, c));
+    }
+
+    private Candidate evaluate(List<SchedulePlanner.Item> order, ScheduleTimeline base,
+                               Map<Long, Integer> fixedEnds, Map<Long, List<Long>> feeders) {
+        SchedulePlanner.Plan plan = planner.plan(order, base.copy(), fixedEnds, feeders);
+        return new Candidate(order, plan, score(plan, planner.windowStart()));
+    }
+
+    public static long score(SchedulePlanner.Plan plan, int windowStart) {
+        int last = plan.lastEnd();
+        long makespan = last < 0 ? 0 : last - windowStart;
+        return plan.unplacedMatchIds().size() * UNPLACED_WEIGHT + makespan * MAKESPAN_WEIGHT + idleCourtMinutes(plan, windowStart);
+    }
+
+    // Minutes between the window start and each used court's last end that the court sits empty
+    public static long idleCourtMinutes(SchedulePlanner.Plan plan, int windowStart) {
+        Map<Long, int[]> perCourt = new HashMap<>(); // courtId -> {lastEnd, busy}
+        for (long id : plan.matchIds()) {
+            int[] c = perCourt.computeIfAbsent(plan.courtOf(id), k -> new int[2]);
+            c[0] = Math.max(c[0], plan.endOf(id));
+            c[1] += plan.endOf(id) - plan.startOf(id);
+        }
+        long idle = 0;
+        for (int[] c : perCourt.values()) idle += Math.max(0, c[0] - windowStart - c[1]);
+        return idle;
+    }
+
+    /** Moves matches within the placement order without putting a match ahead of its feeders. */
+    static final class Precedence {
+        private final Map<Long, List<Long>> feedersInOrder = new HashMap<>();
+        private final Map<Long, Long> nextInOrder = new HashMap<>();
+
+        Precedence(List<SchedulePlanner.Item> items, Map<Long, List<Long>> feeders) {
+            Set<Long> ids = new HashSet<>(items.size() * 2);
+            for (SchedulePlanner.Item i : items) ids.add(i.matchId);
+            for (SchedulePlanner.Item i : items) {
+                if (i.nextMatchId != null && ids.contains(i.nextMatchId)) nextInOrder.put(i.matchId, i.nextMatchId);
+                List<Long> f = feeders.get(i.matchId);
+                if (f == null) continue;
+                for (Long id : f) {
+                    if (ids.contains(id)) feedersInOrder.computeIfAbsent(i.matchId, k -> new ArrayList<>(2)).add(id);
+                }
+            }
+        }
+
+        void relocate(List<SchedulePlanner.Item> order, SplittableRandom rnd) {
+            int from = rnd.nextInt(order.size());
+            SchedulePlanner.Item item = order.remove(from);
+            int lo = 0;
+            int hi = order.size();
+            List<Long> f = feedersInOrder.get(item.matchId);
+            Long next = nextInOrder.get(item.matchId);
+            for (int i = 0; i < order.size(); i++) {
+                long id = order.get(i).matchId;
+                if (f != null && f.contains(id)) lo = Math.max(lo, i + 1);
+                if (next != null && next == id) hi = Math.min(hi, i);
+            }
+            order.add(lo >= hi ? lo : lo + rnd.nextInt(hi - lo + 1), item);
+        }
+    }
+
+    private static final class Candidate {
+        final List<SchedulePlanner.Item> order;
+        final SchedulePlanner.Plan plan;
+        final long score;
+
+        Candidate(List<SchedulePlanner.Item> order, SchedulePlanner.Plan plan, long score) {
+            this.order = order;
+            this.plan = plan;
+            this.score = score;
+        }
+    }
+
+    public static final class Result {
+        public final SchedulePlanner.Plan plan;
+        public final long score;
+        public final long greedyScore;
+        public final long evaluated;
+
+        Result(SchedulePlanner.Plan plan, long score, long greedyScore, long evaluated) {
+            this.plan = plan;
+            this.score = score;
+            this.greedyScore = greedyScore;
+            this.evaluated = evaluated;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.tournament.service;
+
+import java.util.*;
+
+/**
+ * Greedy first-fit placement of unscheduled matches on a {@link ScheduleTimeline}.
+ * <p>
+ * Matches go in bracket order (round, then category and position). Each one takes the earliest
+ * {@link #SLOT_MINUTES}-aligned start, on the lowest court, where the court (with buffer) and all of
+ * its players (with {@link #PLAYER_GAP_MINUTES}) are free and every already placed feeder match has
+ * finished plus the buffer. All checks are bitset probes; nothing here touches the database.
+ */
+public class SchedulePlanner {
+
+    public static final int DEFAULT_DURATION_MINUTES = 45;
+    public static final int DEFAULT_BUFFER_MINUTES = 15;
+    public static final int PLAYER_GAP_MINUTES = 30; // Minimum gap between matches for same player
+    public static final int SLOT_MINUTES = 15;
+
+    public static final Comparator<Item> BRACKET_ORDER = Comparator
+            .comparing((Item i) -> i.round, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(i -> i.categoryId, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(i -> i.position, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparingLong(i -> i.matchId);
+
+    private final long[] courtIds;
+    private final int windowStart;
+    private final int windowEnd;
+
+    public SchedulePlanner(long[] courtIds, int windowStartMinute, int windowEndMinute) {
+        if (courtIds.length == 0) throw new IllegalArgumentException("No courts available for scheduling");
+        if (windowEndMinute <= windowStartMinute) throw new IllegalArgumentException("End time must be after start time");
+        this.courtIds = courtIds;
+        this.windowStart = windowStartMinute;
+        this.windowEnd = windowEndMinute;
+    }
+
+    public long[] courtIds() { return courtIds; }
+
+    public int windowStart() { return windowStart; }
+
+    public int windowEnd() { return windowEnd; }
+
+    /**
+     * Places {@code items} in the given order, booking each placement on {@code timeline}.
+     * {@code fixedEnds} holds end minutes of already scheduled matches and {@code feeders} maps a match id
+     * to the ids of the matches that feed it (see {@link #feedersOf}), so dependencies on either are honoured.
+     */
+    public Plan plan(List<Item> items, ScheduleTimeline timeline, Map<Long, Integer> fixedEnds, Map<Long, List<Long>> feeders) {
+        Plan plan = new Plan(items.size());
+        Map<Long, Integer> ends = new HashMap<>(fixedEnds);
+        for (Item item : items) {
+            int earliest = earliestStart(item, feeders, ends, timeline.courtBuffer());
+            if (place(item, earliest, timeline, plan)) ends.put(item.matchId, plan.endOf(item.matchId));
+        }
+        return plan;
+    }
+
+    // Feeder ids per target match; `fixedNext` links already scheduled matches to their next match
+    public static Map<Long, List<Long>> feedersOf(List<Item> items, Map<Long, Long> fixedNext) {
+        Map<Long, List<Long>> feeders = new HashMap<>();
+        fixedNext.forEach((id, next) -> feeders.computeIfAbsent(next, k -> new ArrayList<>(2)).add(id));
+        for (Item i : items) {
+            if (i.nextMatchId != null) feeders.computeIfAbsent(i.nextMatchId, k -> new ArrayList<>(2)).add(i.matchId);
+        }
+        return feeders;
+    }
+
+    // Latest placed feeder end plus buffer (later rounds wait for earlier ones), never before the window
+    public int earliestStart(Item item, Map<Long, List<Long>> feeders, Map<Long, Integer> ends, int buffer) {
+        int earliest = windowStart;
+        List<Long> f = feeders.get(item.matchId);
+        if (f != null) {
+            for (Long id : f) {
+                Integer end = ends.get(id);
+                if (end != null) earliest = Math.max(earliest, end + buffer);
+            }
+        }
+        // Align to the slot grid the way the scheduler always has
+        int offset = earliest - windowStart;
+        return windowStart + ((offset + SLOT_MINUTES - 1) / SLOT_MINUTES) * SLOT_MINUTES;
+    }
+
+    public boolean place(Item item, int earliest, ScheduleTimeline timeline, Plan plan) {
+        for (int start = earliest; start + item.durationMinutes <= windowEnd; start += SLOT_MINUTES) {
+            int end = start + item.durationMinutes;
+            if (!timeline.playersFree(item.playerIds, start, end)) continue;
+            for (long court : courtIds) {
+                if (timeline.courtFree(court, start, end)) {
+                    timeline.book(court, item.playerIds, start, end);
+                    plan.assign(item.matchId, court, start, end);
+                    return true;
+                }
+            }
+        }
+        plan.unplaced(item.matchId);
+        return false;
+    }
+
+    public static final class Item {
+        public final long matchId;
+        public final Integer round;
+        public final Long categoryId;
+        public final Integer position;
+        public final Long nextMatchId;
+        public final int durationMinutes;
+        public final long[] playerIds;
+
+        public Item(long matchId, Integer round, Long categoryId, Integer position, Long nextMatchId,
+                    int durationMinutes, long[] playerIds) {
+            this.matchId = matchId;
+            this.round = round;
+            this.categoryId = categoryId;
+            this.position = position;
+            this.nextMatchId = nextMatchId;
+            this.durationMinutes = durationMinutes;
+            this.playerIds = playerIds;
+        }
+    }
+
+    public static final class Plan {
+        private final Map<Long, long[]> slots; // matchId -> {courtId, start, end}
+        private final List<Long> unplaced = new ArrayList<>();
+
+        public Plan(int expected) {
+            this.slots = new LinkedHashMap<>(Math.max(16, expected * 2));
+        }
+
+        void assign(long matchId, long courtId, int start, int end) {
+            slots.put(matchId, new long[]{courtId, start, end});
+        }
+
+        void unplaced(long matchId) { unplaced.add(matchId); }
+
+        public int size() { return slots.size(); }
+
+        public Set<Long> matchIds() { return Collections.unmodifiableSet(slots.keySet()); }
+
+        public long courtOf(long matchId) { return slots.get(matchId)[0]; }
+
+        public int startOf(long matchId) { return (int) slots.get(matchId)[1]; }
+
+        public int endOf(long matchId) { return (int) slots.get(matchId)[2]; }
+
+        public List<Long> unplacedMatchIds() { return Collections.unmodifiableList(unplaced); }
+
+        // Last end minute over all placements (the day's makespan end), or -1 when nothing was placed
+        public int lastEnd() {
+            int last = -1;
+            for (long[] s : slots.values()) last = Math.max(last, (int) s[2]);
+            return last;
+        }
+    }
+}
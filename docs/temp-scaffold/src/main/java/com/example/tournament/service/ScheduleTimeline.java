@@ -0,0 +1,100 @@
+package com.example.tournament.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Minute-resolution occupancy of courts and players, one {@link BitSet} each, indexed from a fixed origin.
+ * <p>
+ * Every booking is stored with its trailing buffer already added (court buffer for courts, player gap for
+ * players), and every probe adds the same trailing buffer. Two bookings then conflict exactly when their
+ * extended ranges intersect, which matches the repository's buffered overlap queries
+ * ({@code start - buffer < otherEnd && end + buffer > otherStart}) without any database round-trip.
+ */
+public class ScheduleTimeline {
+
+    private final LocalDateTime origin;
+    private final int courtBuffer;
+    private final int playerGap;
+    private final Map<Long, BitSet> courts;
+    private final Map<Long, BitSet> players;
+
+    public ScheduleTimeline(LocalDateTime origin, int courtBufferMinutes, int playerGapMinutes) {
+        this(origin, courtBufferMinutes, playerGapMinutes, new HashMap<>(), new HashMap<>());
+    }
+
+    private ScheduleTimeline(LocalDateTime origin, int courtBuffer, int playerGap,
+                             Map<Long, BitSet> courts, Map<Long, BitSet> players) {
+        this.origin = origin;
+        this.courtBuffer = courtBuffer;
+        this.playerGap = playerGap;
+        this.courts = courts;
+        this.players = players;
+    }
+
+    public int minuteOf(LocalDateTime t) {
+        return (int) Duration.between(origin, t).toMinutes();
+    }
+
+    public LocalDateTime timeOf(int minute) {
+        return origin.plusMinutes(minute);
+    }
+
+    public int courtBuffer() { return courtBuffer; }
+
+    public int playerGap() { return playerGap; }
+
+    // Books [start, end) for the court and every given player; null ids (unknown participants) are ignored
+    public void book(Long courtId, long[] playerIds, int start, int end) {
+        if (courtId != null) set(courts, courtId, start, end + courtBuffer);
+        for (long p : playerIds) set(players, p, start, end + playerGap);
+    }
+
+    public void release(Long courtId, long[] playerIds, int start, int end) {
+        if (courtId != null) clear(courts, courtId, start, end + courtBuffer);
+        for (long p : playerIds) clear(players, p, start, end + playerGap);
+    }
+
+    public boolean courtFree(long courtId, int start, int end) {
+        return free(courts.get(courtId), start, end + courtBuffer);
+    }
+
+    public boolean playersFree(long[] playerIds, int start, int end) {
+        for (long p : playerIds) {
+            if (!free(players.get(p), start, end + playerGap)) return false;
+        }
+        return true;
+    }
+
+    public boolean fits(long courtId, long[] playerIds, int start, int end) {
+        return courtFree(courtId, start, end) && playersFree(playerIds, start, end);
+    }
+
+    // Independent copy for speculative planning (the optimizer works on copies)
+    public ScheduleTimeline copy() {
+        Map<Long, BitSet> c = new HashMap<>(courts.size() * 2);
+        courts.forEach((k, v) -> c.put(k, (BitSet) v.clone()));
+        Map<Long, BitSet> p = new HashMap<>(players.size() * 2);
+        players.forEach((k, v) -> p.put(k, (BitSet) v.clone()));
+        return new ScheduleTimeline(origin, courtBuffer, playerGap, c, p);
+    }
+
+    private static void set(Map<Long, BitSet> map, long id, int from, int to) {
+        if (to <= 0) return;
+        map.computeIfAbsent(id, k -> new BitSet()).set(Math.max(0, from), to);
+    }
+
+    private static void clear(Map<Long, BitSet> map, long id, int from, int to) {
+        BitSet b = map.get(id);
+        if (b != null && to > 0) b.clear(Math.max(0, from), to);
+    }
+
+    private static boolean free(BitSet b, int from, int to) {
+        if (b == null) return true;
+        int next = b.nextSetBit(Math.max(0, from));
+        return next < 0 || next >= to;
+    }
+}
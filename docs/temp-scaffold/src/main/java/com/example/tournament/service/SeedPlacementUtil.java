@@ -5,6 +5,9 @@ import java.util.*;
 public final class SeedPlacementUtil {
     private SeedPlacementUtil() {}
 
+    // Standard placement per power-of-two size, indexed by log2(size); built on first use
+    private static final Placement[] PLACEMENTS = new Placement[31];
+
     public static int nextPowerOfTwo(int n) {
         int p = 1; while (p < n) p <<= 1; return p;
     }
@@ -21,7 +24,103 @@ public final class SeedPlacementUtil {
         return out;
     }
 
-    public static int opponentIndexForRound1(int idx, int size) { return size - 1 - idx; }
+    // Primitive variant: seeds[i] is the seed number of regs[i] (0 = unseeded), already validated.
+    // Seeded registrations come first in seed order, then the rest in natural order; O(n), no boxing.
+    public static long[] orderBySeedOrNatural(long[] regs, int[] seeds) {
+        int n = regs.length;
+        long[] out = new long[n];
+        long[] bySeed = new long[n + 1];
+        boolean[] present = new boolean[n + 1];
+        int seededCount = 0;
+        for (int i = 0; i < n; i++) {
+            int s = seeds[i];
+            if (s > 0) { bySeed[s] = regs[i]; present[s] = true; seededCount++; }
+        }
+        int k = 0;
+        for (int s = 1; s <= n && k < seededCount; s++) {
+            if (present[s]) out[k++] = bySeed[s];
+        }
+        for (int i = 0; i < n; i++) {
+            if (seeds[i] == 0) out[k++] = regs[i];
+        }
+        return out;
+    }
+
+    // Rejects duplicate and out-of-range (outside 1..participants) seed numbers in one pass over a bitset
+    public static void validateSeeds(int[] seedNumbers, int participants) {
+        BitSet used = new BitSet(participants + 1);
+        for (int s : seedNumbers) {
+            if (s < 1 || s > participants)
+                throw new IllegalArgumentException("Seed number out of range: " + s);
+            if (used.get(s))
+                throw new IllegalArgumentException("Duplicate seed number: " + s);
+            used.set(s);
+        }
+    }
+
+    // Maps seed entries onto a per-registration seed vector; sortedRegs must be ascending (findByCategoryIdOrderByIdAsc)
+    public static int[] seedsByIndex(long[] sortedRegs, long[] seedRegIds, int[] seedNumbers) {
+        validateSeeds(seedNumbers, sortedRegs.length);
+        int[] seeds = new int[sortedRegs.length];
+        for (int i = 0; i < seedRegIds.length; i++) {
+            int idx = Arrays.binarySearch(sortedRegs, seedRegIds[i]);
+            if (idx < 0)
+                throw new IllegalArgumentException("Seeded registration is not in this category: " + seedRegIds[i]);
+            if (seeds[idx] != 0)
+                throw new IllegalArgumentException("Registration seeded more than once: " + seedRegIds[i]);
+            seeds[idx] = seedNumbers[i];
+        }
+        return seeds;
+    }
+
+    // 0-based seed index placed on draw line `line` (lines 2k and 2k+1 meet in first-round match k)
+    public static int seedIndexAtLine(int line, int size) { return placement(size).seedAtLine[line]; }
+
+    // First-round match position of the 0-based seed index
+    public static int round1PositionOf(int idx, int size) { return placement(size).lineOfSeed[idx] >> 1; }
+
+    public static int opponentIndexForRound1(int idx, int size) {
+        Placement p = placement(size);
+        return p.seedAtLine[p.lineOfSeed[idx] ^ 1];
+    }
+
+    // Copy of the standard seed order for a draw of `size` lines: 1 v 16, 8 v 9, 4 v 13, ... (0-based)
+    public static int[] standardPlacement(int size) { return placement(size).seedAtLine.clone(); }
+
+    private static Placement placement(int size) {
+        if (size < 1 || Integer.bitCount(size) != 1)
+            throw new IllegalArgumentException("Draw size must be a power of two: " + size);
+        int log = Integer.numberOfTrailingZeros(size);
+        Placement p = PLACEMENTS[log];
+        if (p == null) {
+            // Benign race: every thread computes the same table, and final fields make it safe to publish
+            p = new Placement(size);
+            PLACEMENTS[log] = p;
+        }
+        return p;
+    }
+
+    private static final class Placement {
+        final int[] seedAtLine;
+        final int[] lineOfSeed;
+
+        Placement(int size) {
+            int[] lines = {0};
+            // Each doubling keeps the previous order and pairs seed s with its mirror (m*2 - 1 - s)
+            for (int m = 1; m < size; m <<= 1) {
+                int[] next = new int[m << 1];
+                for (int k = 0; k < m; k++) {
+                    next[2 * k] = lines[k];
+                    next[2 * k + 1] = (m << 1) - 1 - lines[k];
+                }
+                lines = next;
+            }
+            int[] inverse = new int[size];
+            for (int line = 0; line < size; line++) inverse[lines[line]] = line;
+            this.seedAtLine = lines;
+            this.lineOfSeed = inverse;
+        }
+    }
 
     public static NextRef nextFor(int round, int position) {
         int nextRound = round + 1;
@@ -0,0 +1,212 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.StandingDto;
+import com.example.tournament.api.dto.StandingsResponse;
+import com.example.tournament.domain.Match;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.domain.Standing;
+import com.example.tournament.repository.MatchRepository;
+import com.example.tournament.repository.StandingRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Round-robin standings kept in the {@code standings} table and updated by delta on every result.
+ * <p>
+ * A result adds (or, for a correction, subtracts) its contribution to the two participants' rows with
+ * relative UPDATEs, so recording is O(1) whatever the group size. Ranked tables are cached per group
+ * and only the group a result belongs to is re-sorted, after the result commits. {@link #rebuild}
+ * recomputes everything from the matches for repair.
+ */
+@Service
+public class StandingsService {
+
+    public static final int POINTS_PER_WIN = 2;
+
+    // Points, then wins, then game difference, then games won; registration id keeps the order total
+    static final Comparator<StandingDto> TIE_BREAK = Comparator
+            .comparingInt(StandingDto::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(StandingDto::getWins).reversed())
+            .thenComparing(Comparator.comparingInt(StandingDto::getGameDifference).reversed())
+            .thenComparing(Comparator.comparingInt(StandingDto::getGamesFor).reversed())
+            .thenComparing(StandingDto::getRegistrationId);
+
+    private final StandingRepository standingRepository;
+    private final MatchRepository matchRepository;
+    private final Cache<Long, Board> boards;
+
+    public StandingsService(StandingRepository standingRepository,
+                            MatchRepository matchRepository,
+                            @Value("${app.standings.cache.max-entries:500}") long maxEntries) {
+        this.standingRepository = standingRepository;
+        this.matchRepository = matchRepository;
+        this.boards = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    // Zero rows for every group member, written with the fixtures
+    public void initialize(Long categoryId, RoundRobinSchedule schedule) {
+        List<Standing> rows = new ArrayList<>();
+        for (int g = 0; g < schedule.groupCount(); g++) {
+            for (long regId : schedule.group(g)) rows.add(newRow(categoryId, g + 1, regId));
+        }
+        standingRepository.deleteAllInCategory(categoryId);
+        standingRepository.insertStandings(rows);
+        afterCommit(() -> boards.invalidate(categoryId));
+    }
+
+    public void clear(Long categoryId) {
+        standingRepository.deleteAllInCategory(categoryId);
+        afterCommit(() -> boards.invalidate(categoryId));
+    }
+
+    // sign = +1 applies the match's current result, -1 takes it back (before a correction)
+    public void applyResult(Match m, int sign) {
+        if (m.getGroupNumber() == null || m.getWinnerRegistrationId() == null) return;
+        Long p1 = m.getParticipant1RegistrationId();
+        Long p2 = m.getParticipant2RegistrationId();
+        int g1 = m.getScore1() == null ? 0 : m.getScore1();
+        int g2 = m.getScore2() == null ? 0 : m.getScore2();
+        boolean p1Won = m.getWinnerRegistrationId().equals(p1);
+        applyDelta(m.getCategoryId(), m.getGroupNumber(), p1, sign, p1Won, g1, g2);
+        applyDelta(m.getCategoryId(), m.getGroupNumber(), p2, sign, !p1Won, g2, g1);
+        Long categoryId = m.getCategoryId();
+        Integer group = m.getGroupNumber();
+        afterCommit(() -> {
+            Board board = boards.getIfPresent(categoryId);
+            if (board != null) board.groups.remove(group);
+        });
+    }
+
+    private void applyDelta(Long categoryId, Integer group, Long regId, int sign, boolean won, int gamesFor, int gamesAgainst) {
+        int updated = standingRepository.applyDelta(categoryId, group, regId, sign,
+                won ? sign : 0, won ? 0 : sign, sign * gamesFor, sign * gamesAgainst, won ? sign * POINTS_PER_WIN : 0);
+        if (updated != 1) {
+            throw new IllegalStateException("No standings row for registration " + regId + " in group " + group);
+        }
+    }
+
+    // Repair path: recomputes every row of the category from its decided group matches
+    @Transactional
+    public StandingsResponse rebuild(Long categoryId) {
+        Map<Integer, Map<Long, Standing>> byGroup = new TreeMap<>();
+        for (Match m : matchRepository.findByCategoryIdOrderByRoundAscPositionAsc(categoryId)) {
+            if (m.getGroupNumber() == null) continue;
+            Map<Long, Standing> group = byGroup.computeIfAbsent(m.getGroupNumber(), k -> new LinkedHashMap<>());
+            Standing s1 = group.computeIfAbsent(m.getParticipant1RegistrationId(), id -> newRow(categoryId, m.getGroupNumber(), id));
+            Standing s2 = group.computeIfAbsent(m.getParticipant2RegistrationId(), id -> newRow(categoryId, m.getGroupNumber(), id));
+            if (m.getWinnerRegistrationId() == null || !isDecided(m.getStatus())) continue;
+            int g1 = m.getScore1() == null ? 0 : m.getScore1();
+            int g2 = m.getScore2() == null ? 0 : m.getScore2();
+            boolean p1Won = m.getWinnerRegistrationId().equals(m.getParticipant1RegistrationId());
+            accumulate(s1, p1Won, g1, g2);
+            accumulate(s2, !p1Won, g2, g1);
+        }
+        List<Standing> rows = new ArrayList<>();
+        byGroup.values().forEach(g -> rows.addAll(g.values()));
+        standingRepository.deleteAllInCategory(categoryId);
+        standingRepository.insertStandings(rows);
+        afterCommit(() -> boards.invalidate(categoryId));
+
+        StandingsResponse resp = new StandingsResponse();
+        resp.setCategoryId(categoryId);
+        List<StandingsResponse.GroupStandings> groups = new ArrayList<>();
+        byGroup.forEach((g, members) -> groups.add(group(g, rank(members.values()))));
+        resp.setGroups(groups);
+        return resp;
+    }
+
+    // Served from the cached board; only groups invalidated since the last read are reloaded and re-sorted.
+    // No transaction here, so a fully cached read never touches the connection pool.
+    public StandingsResponse getStandings(Long categoryId) {
+        Board board = boards.get(categoryId, k -> new Board(standingRepository.findGroupNumbers(k)));
+        List<StandingsResponse.GroupStandings> groups = new ArrayList<>(board.groupNumbers.size());
+        for (Integer g : board.groupNumbers) {
+            List<StandingDto> rows = board.groups.computeIfAbsent(g,
+                    k -> rank(standingRepository.findByCategoryIdAndGroupNumber(categoryId, k)));
+            groups.add(group(g, rows));
+        }
+        StandingsResponse resp = new StandingsResponse();
+        resp.setCategoryId(categoryId);
+        resp.setGroups(groups);
+        return resp;
+    }
+
+    private static List<StandingDto> rank(Collection<Standing> rows) {
+        List<StandingDto> out = new ArrayList<>(rows.size());
+        for (Standing s : rows) out.add(toDto(s));
+        out.sort(TIE_BREAK);
+        for (int i = 0; i < out.size(); i++) out.get(i).setRank(i + 1);
+        return Collections.unmodifiableList(out);
+    }
+
+    private static StandingsResponse.GroupStandings group(int groupNumber, List<StandingDto> rows) {
+        StandingsResponse.GroupStandings gs = new StandingsResponse.GroupStandings();
+        gs.setGroupNumber(groupNumber);
+        gs.setRows(rows);
+        return gs;
+    }
+
+    private static void accumulate(Standing s, boolean won, int gamesFor, int gamesAgainst) {
+        s.setPlayed(s.getPlayed() + 1);
+        if (won) {
+            s.setWins(s.getWins() + 1);
+            s.setPoints(s.getPoints() + POINTS_PER_WIN);
+        } else {
+            s.setLosses(s.getLosses() + 1);
+        }
+        s.setGamesFor(s.getGamesFor() + gamesFor);
+        s.setGamesAgainst(s.getGamesAgainst() + gamesAgainst);
+    }
+
+    private static boolean isDecided(MatchStatus status) {
+        return status == MatchStatus.COMPLETED || status == MatchStatus.WALKOVER;
+    }
+
+    private static Standing newRow(Long categoryId, int groupNumber, Long registrationId) {
+        Standing s = new Standing();
+        s.setCategoryId(categoryId);
+        s.setGroupNumber(groupNumber);
+        s.setRegistrationId(registrationId);
+        return s;
+    }
+
+    private static StandingDto toDto(Standing s) {
+        StandingDto d = new StandingDto();
+        d.setRegistrationId(s.getRegistrationId());
+        d.setPlayed(s.getPlayed());
+        d.setWins(s.getWins());
+        d.setLosses(s.getLosses());
+        d.setGamesFor(s.getGamesFor());
+        d.setGamesAgainst(s.getGamesAgainst());
+        d.setPoints(s.getPoints());
+        return d;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() { action.run(); }
+        });
+    }
+
+    private static final class Board {
+        final List<Integer> groupNumbers;
+        final ConcurrentHashMap<Integer, List<StandingDto>> groups = new ConcurrentHashMap<>();
+
+        Board(List<Integer> groupNumbers) {
+            this.groupNumbers = List.copyOf(groupNumbers);
+        }
+    }
+}
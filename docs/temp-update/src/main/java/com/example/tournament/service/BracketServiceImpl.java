@@ -3,13 +3,16 @@ package com.example.tournament.service;
 import com.example.tournament.api.dto.BracketSummaryResponse;
 import com.example.tournament.api.dto.DrawGenerateRequest;
 import com.example.tournament.api.dto.MatchDto;
+import com.example.tournament.api.dto.RoundRobinSummaryResponse;
 import com.example.tournament.domain.Category;
 import com.example.tournament.domain.Match;
 import com.example.tournament.domain.MatchStatus;
-import com.example.tournament.domain.Registration;
+import com.example.tournament.domain.TournamentFormat;
 import com.example.tournament.repository.CategoryRepository;
 import com.example.tournament.repository.MatchRepository;
 import com.example.tournament.repository.RegistrationRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,173 +25,310 @@ public class BracketServiceImpl implements BracketService {
     private final CategoryRepository categoryRepository;
     private final RegistrationRepository registrationRepository;
     private final MatchRepository matchRepository;
+    private final BracketCache bracketCache;
+    private final StandingsService standingsService;
+    private final ObjectMapper objectMapper;
+    private final DrawMetrics drawMetrics;
 
     public BracketServiceImpl(CategoryRepository categoryRepository,
                               RegistrationRepository registrationRepository,
-                              MatchRepository matchRepository) {
+                              MatchRepository matchRepository,
+                              BracketCache bracketCache,
+                              StandingsService standingsService,
+                              ObjectMapper objectMapper,
+                              DrawMetrics drawMetrics) {
         this.categoryRepository = categoryRepository;
         this.registrationRepository = registrationRepository;
         this.matchRepository = matchRepository;
+        this.bracketCache = bracketCache;
+        this.standingsService = standingsService;
+        this.objectMapper = objectMapper;
+        this.drawMetrics = drawMetrics;
     }
 
     @Override
     @Transactional
     public BracketSummaryResponse generateSingleElimination(Long tournamentId, Long categoryId, DrawGenerateRequest req) {
-        Category category = categoryRepository.findByIdAndTournamentId(categoryId, tournamentId)
-                .orElseThrow(() -> new NoSuchElementException("Category not found for tournament"));
+        try (DrawMetrics.Recording rec = drawMetrics.start(DrawMetrics.GENERATE, categoryId)) {
+            Category category = categoryRepository.findByIdAndTournamentId(categoryId, tournamentId)
+                    .orElseThrow(() -> new NoSuchElementException("Category not found for tournament"));
+            rec.stage("load_category");
 
-        if (matchRepository.existsByCategoryId(category.getId())) {
+            replaceExistingDraft(category.getId(), req);
+            rec.stage("replace_draft");
+            long[] ordered = orderedRegistrations(category.getId(), req);
+            rec.stage("load_registrations");
+
+            int n = ordered.length;
+            int effective = SeedPlacementUtil.nextPowerOfTwo(n);
+            int rounds = Integer.numberOfTrailingZeros(effective);
+            rec.matches(effective - 1);
+
+            // Plan the bracket on the array-backed topology
+            BracketTopology topology = new BracketTopology(effective);
+            long[] lines = seedLines(ordered, effective);
+            for (int pos = 0; pos < (effective >> 1); pos++) {
+                topology.seat(topology.indexOf(1, pos), lines[2 * pos], lines[2 * pos + 1]);
+            }
+            rec.stage("build_skeleton");
+
+            // --- AUTO-ADVANCE BYEs ---
+            // Resolved in memory before the write, so no per-BYE findById/save round-trips.
+            topology.advanceByes();
+            rec.stage("advance_byes");
+
+            // Reserve every match id up front so links can be resolved before anything is written
+            topology.assignIds(matchRepository.allocateMatchIds(topology.matchCount()));
+            rec.stage("link_matches");
+            List<MatchDto> rows = toRows(topology);
+            rec.stage("map_dtos");
+
+            // Persist the whole bracket in one JDBC batch; the response is built from the same rows
+            matchRepository.insertBracketMatches(tournamentId, category.getId(), rows);
+            bracketCache.invalidateAfterCommit(category.getId());
+            rec.stage("persist");
+
+            BracketSummaryResponse resp = new BracketSummaryResponse();
+            resp.setCategoryId(category.getId());
+            resp.setTotalParticipants(n);
+            resp.setEffectiveSize(effective);
+            resp.setRounds(rounds);
+            resp.setMatches(rows);
+            rec.complete();
+            return resp;
+        }
+    }
+
+    @Override
+    @Transactional
+    public BracketSummaryResponse generateDoubleElimination(Long tournamentId, Long categoryId, DrawGenerateRequest req) {
+        try (DrawMetrics.Recording rec = drawMetrics.start(DrawMetrics.GENERATE_DOUBLE_ELIMINATION, categoryId)) {
+            Category category = categoryRepository.findByIdAndTournamentId(categoryId, tournamentId)
+                    .orElseThrow(() -> new NoSuchElementException("Category not found for tournament"));
+            if (category.getFormat() != TournamentFormat.DOUBLE_ELIMINATION) {
+                throw new IllegalStateException("Category format is not DOUBLE_ELIMINATION");
+            }
+            rec.stage("load_category");
+            replaceExistingDraft(category.getId(), req);
+            rec.stage("replace_draft");
+            long[] ordered = orderedRegistrations(category.getId(), req);
+            rec.stage("load_registrations");
+
+            int n = ordered.length;
+            int effective = Math.max(DoubleEliminationLayout.MIN_SIZE, SeedPlacementUtil.nextPowerOfTwo(n));
+            // Winner and loser routing comes from the per-size cache; only the seating is done per draw
+            DoubleEliminationLayout layout = DoubleEliminationLayout.of(effective);
+            rec.matches(layout.matchCount());
+            long[] lines = seedLines(ordered, effective);
+            rec.stage("build_skeleton");
+            DoubleEliminationLayout.Seating seating = layout.seat(lines);
+            rec.stage("advance_byes");
+            long[] ids = matchRepository.allocateMatchIds(layout.matchCount());
+            rec.stage("link_matches");
+            List<MatchDto> rows = toRows(layout, seating, ids);
+            rec.stage("map_dtos");
+
+            // Both brackets and the grand final go out in the same single JDBC batch
+            matchRepository.insertBracketMatches(tournamentId, category.getId(), rows);
+            bracketCache.invalidateAfterCommit(category.getId());
+            rec.stage("persist");
+
+            BracketSummaryResponse resp = new BracketSummaryResponse();
+            resp.setCategoryId(category.getId());
+            resp.setTotalParticipants(n);
+            resp.setEffectiveSize(effective);
+            resp.setRounds(layout.winnersRounds());
+            resp.setMatches(rows);
+            rec.complete();
+            return resp;
+        }
+    }
+
+    // First-round lines in standard seed placement, so seeds 1 and 2 can only meet in the final;
+    // missing seeds on a line become first-round BYEs
+    private static long[] seedLines(long[] ordered, int effective) {
+        long[] lines = new long[effective];
+        for (int line = 0; line < effective; line++) {
+            int idx = SeedPlacementUtil.seedIndexAtLine(line, effective);
+            lines[line] = idx < ordered.length ? ordered[idx] : BracketTopology.NONE;
+        }
+        return lines;
+    }
+
+    private void replaceExistingDraft(Long categoryId, DrawGenerateRequest req) {
+        if (matchRepository.existsByCategoryId(categoryId)) {
             if (req == null || !req.isOverwriteIfDraft()) {
                 throw new IllegalStateException("Bracket already exists. Set overwriteIfDraft=true to recreate (draft only).");
             }
-            deleteDraftBracket(category.getId()); // TODO: ensure none progressed
+            deleteDraftBracket(categoryId);
         }
+    }
 
-        // Load registrations
-        List<Long> regIds = registrationRepository.findByCategoryIdOrderByIdAsc(category.getId())
-                .stream().map(Registration::getId).collect(Collectors.toList());
-        if (regIds.size() < 2) throw new IllegalStateException("At least two registrations are required");
+    // Registration ids in draw order: seeds first by seed number, then the rest by ascending id
+    private long[] orderedRegistrations(Long categoryId, DrawGenerateRequest req) {
+        // Registration ids only (ascending, kept unboxed); no entities are loaded
+        long[] regIds = registrationRepository.findIdsByCategoryId(categoryId)
+                .stream().mapToLong(Long::longValue).toArray();
+        if (regIds.length < 2) throw new IllegalStateException("At least two registrations are required");
 
-        // Seeds
-        Map<Long,Integer> seedMap = new HashMap<>();
-        if (req != null && req.getSeeds() != null) {
-            for (DrawGenerateRequest.SeedEntry se : req.getSeeds()) {
-                if (seedMap.containsValue(se.getSeedNumber()))
-                    throw new IllegalArgumentException("Duplicate seed number: " + se.getSeedNumber());
-                seedMap.put(se.getRegistrationId(), se.getSeedNumber());
+        // Seeds: one seed number per registration (0 = unseeded); duplicates/out-of-range rejected in O(n)
+        int[] seeds = new int[regIds.length];
+        if (req != null && req.getSeeds() != null && !req.getSeeds().isEmpty()) {
+            List<DrawGenerateRequest.SeedEntry> entries = req.getSeeds();
+            long[] seedRegIds = new long[entries.size()];
+            int[] seedNumbers = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                DrawGenerateRequest.SeedEntry se = entries.get(i);
+                if (se.getRegistrationId() == null)
+                    throw new IllegalArgumentException("Seed entry is missing registrationId");
+                seedRegIds[i] = se.getRegistrationId();
+                seedNumbers[i] = se.getSeedNumber();
             }
+            seeds = SeedPlacementUtil.seedsByIndex(regIds, seedRegIds, seedNumbers);
         }
-        List<Long> ordered = SeedPlacementUtil.orderBySeedOrNatural(regIds, seedMap);
+        return SeedPlacementUtil.orderBySeedOrNatural(regIds, seeds);
+    }
+
+    @Override
+    @Transactional
+    public RoundRobinSummaryResponse generateRoundRobin(Long tournamentId, Long categoryId, DrawGenerateRequest req) {
+        try (DrawMetrics.Recording rec = drawMetrics.start(DrawMetrics.GENERATE_ROUND_ROBIN, categoryId)) {
+            Category category = categoryRepository.findByIdAndTournamentId(categoryId, tournamentId)
+                    .orElseThrow(() -> new NoSuchElementException("Category not found for tournament"));
+            if (category.getFormat() != TournamentFormat.ROUND_ROBIN) {
+                throw new IllegalStateException("Category format is not ROUND_ROBIN");
+            }
+            rec.stage("load_category");
+            replaceExistingDraft(category.getId(), req);
+            rec.stage("replace_draft");
+            long[] ordered = orderedRegistrations(category.getId(), req);
+            rec.stage("load_registrations");
+            int groupCount = (req == null || req.getGroups() == null) ? 1 : req.getGroups();
+            RoundRobinSchedule schedule = RoundRobinSchedule.of(ordered, groupCount);
+            rec.stage("build_groups");
 
-        int n = ordered.size();
-        int effective = SeedPlacementUtil.nextPowerOfTwo(n);
-        int rounds = Integer.numberOfTrailingZeros(effective);
+            // O(n^2) fixtures go straight from the circle method into fixed-size JDBC batches
+            long written = matchRepository.insertFixtures(tournamentId, category.getId(), schedule::forEachFixture);
+            rec.matches((int) written);
+            rec.stage("persist");
+            standingsService.initialize(category.getId(), schedule);
+            bracketCache.invalidateAfterCommit(category.getId());
+            rec.stage("init_standings");
 
-        // Build match skeletons (round/position)
-        Map<String, Match> byRoundPos = new HashMap<>();
-        for (int r = 1; r <= rounds; r++) {
-            int matchesThisRound = effective >> r;
-            for (int pos = 0; pos < matchesThisRound; pos++) {
-                Match m = new Match();
-                m.setCategoryId(category.getId());
-                m.setRound(r);
-                m.setPosition(pos);
-                m.setStatus(MatchStatus.SCHEDULED);
-                m.setBye(false);
-                byRoundPos.put(r+":"+pos, m);
+            RoundRobinSummaryResponse resp = new RoundRobinSummaryResponse();
+            resp.setCategoryId(category.getId());
+            resp.setTotalParticipants(ordered.length);
+            resp.setTotalMatches(written);
+            List<RoundRobinSummaryResponse.GroupSummary> groups = new ArrayList<>(schedule.groupCount());
+            for (int g = 0; g < schedule.groupCount(); g++) {
+                long[] members = schedule.group(g);
+                RoundRobinSummaryResponse.GroupSummary gs = new RoundRobinSummaryResponse.GroupSummary();
+                gs.setGroupNumber(g + 1);
+                gs.setRegistrationIds(Arrays.stream(members).boxed().collect(Collectors.toList()));
+                gs.setRounds(RoundRobinSchedule.roundsFor(members.length));
+                gs.setMatches(RoundRobinSchedule.fixturesFor(members.length));
+                groups.add(gs);
             }
+            resp.setGroups(groups);
+            rec.stage("map_dtos");
+            rec.complete();
+            return resp;
         }
-        // Link nextMatch side (we'll set IDs after save)
-        Map<Match, SeedPlacementUtil.NextRef> nextRefs = new HashMap<>();
-        for (int r = 1; r < rounds; r++) {
-            int matchesThisRound = effective >> r;
-            for (int pos = 0; pos < matchesThisRound; pos++) {
-                SeedPlacementUtil.NextRef ref = SeedPlacementUtil.nextFor(r, pos);
-                Match cur = byRoundPos.get(r+":"+pos);
-                cur.setWinnerAdvancesAs(ref.whichSide);
-                nextRefs.put(cur, ref);
+    }
+
+    // Round-ascending, position-ascending rows, the same order getBracket reads them back in
+    private static List<MatchDto> toRows(BracketTopology topology) {
+        List<MatchDto> rows = new ArrayList<>(topology.matchCount());
+        for (int r = 1; r <= topology.rounds(); r++) {
+            int first = topology.firstIndexOfRound(r);
+            for (int i = first; i < (first << 1); i++) {
+                MatchDto m = new MatchDto();
+                m.setId(topology.matchId(i));
+                m.setRound(r);
+                m.setPosition(i - first);
+                m.setParticipant1RegistrationId(toRegId(topology.participant1(i)));
+                m.setParticipant2RegistrationId(toRegId(topology.participant2(i)));
+                m.setBye(topology.isBye(i));
+                if (i > 1) {
+                    m.setNextMatchId(topology.nextMatchId(i));
+                    m.setWinnerAdvancesAs(BracketTopology.winnerAdvancesAs(i));
+                }
+                m.setStatus((topology.isBye(i) ? MatchStatus.COMPLETED : MatchStatus.SCHEDULED).name());
+                m.setWinnerRegistrationId(toRegId(topology.winner(i)));
+                rows.add(m);
             }
         }
+        return rows;
+    }
 
-        // First round pairings & BYEs
-        int firstRound = 1;
-        int matchesFirstRound = effective >> firstRound;
-        for (int i = 0; i < matchesFirstRound; i++) {
-            Match m = byRoundPos.get(firstRound+":"+i);
-            int idx1 = i;
-            int idx2 = SeedPlacementUtil.opponentIndexForRound1(i, effective);
-            Long p1 = (idx1 < n) ? ordered.get(idx1) : null;
-            Long p2 = (idx2 < n) ? ordered.get(idx2) : null;
-            m.setParticipant1RegistrationId(p1);
-            m.setParticipant2RegistrationId(p2);
-            boolean bye = (p1 == null || p2 == null);
-            m.setBye(bye);
-        }
-
-        // Persist all matches round-by-round
-        for (int r = 1; r <= rounds; r++) {
-            int matchesThisRound = effective >> r;
-            for (int pos = 0; pos < matchesThisRound; pos++) {
-                Match saved = matchRepository.save(byRoundPos.get(r+":"+pos));
-                byRoundPos.put(r+":"+pos, saved);
+    // In layout order: winners rounds, losers rounds, grand final, each feeder before the match it feeds
+    private static List<MatchDto> toRows(DoubleEliminationLayout layout, DoubleEliminationLayout.Seating seating, long[] ids) {
+        List<MatchDto> rows = new ArrayList<>(layout.matchCount());
+        for (int i = 0; i < layout.matchCount(); i++) {
+            MatchDto m = new MatchDto();
+            m.setId(ids[i]);
+            m.setBracket(layout.bracket(i).name());
+            m.setRound(layout.round(i));
+            m.setPosition(layout.position(i));
+            m.setParticipant1RegistrationId(toRegId(seating.participant1(i)));
+            m.setParticipant2RegistrationId(toRegId(seating.participant2(i)));
+            m.setBye(seating.isBye(i));
+            if (layout.winnerTo(i) != DoubleEliminationLayout.NONE) {
+                m.setNextMatchId(ids[layout.winnerTo(i)]);
+                m.setWinnerAdvancesAs(layout.winnerAdvancesAs(i));
             }
-        }
-        // Set nextMatchId now that IDs exist
-        for (Map.Entry<Match, SeedPlacementUtil.NextRef> e : nextRefs.entrySet()) {
-            Match cur = e.getKey();
-            SeedPlacementUtil.NextRef ref = e.getValue();
-            Match next = byRoundPos.get(ref.round+":"+ref.position);
-            cur.setNextMatchId(next.getId());
-            matchRepository.save(cur);
-        }
-
-        // --- AUTO-ADVANCE BYEs ---
-        // If a first-round match has a BYE, immediately mark COMPLETED and advance the present participant.
-        for (int pos = 0; pos < (effective >> 1); pos++) { // first round count
-            Match m = byRoundPos.get("1:"+pos);
-            if (Boolean.TRUE.equals(m.getBye())) {
-                Long winnerRegId = (m.getParticipant1RegistrationId() != null)
-                        ? m.getParticipant1RegistrationId()
-                        : m.getParticipant2RegistrationId();
-                // mark this match COMPLETED
-                m.setStatus(MatchStatus.COMPLETED);
-                matchRepository.save(m);
-
-                // advance to next
-                if (m.getNextMatchId() != null && winnerRegId != null) {
-                    Match next = matchRepository.findById(m.getNextMatchId())
-                            .orElseThrow(() -> new IllegalStateException("Broken bracket: next match missing"));
-                    if (m.getWinnerAdvancesAs() != null && m.getWinnerAdvancesAs() == 1) {
-                        next.setParticipant1RegistrationId(winnerRegId);
-                    } else {
-                        next.setParticipant2RegistrationId(winnerRegId);
-                    }
-                    matchRepository.save(next);
-                }
+            if (layout.loserTo(i) != DoubleEliminationLayout.NONE) {
+                m.setLoserNextMatchId(ids[layout.loserTo(i)]);
+                m.setLoserAdvancesAs(layout.loserAdvancesAs(i));
             }
+            m.setStatus(seating.status(i).name());
+            m.setWinnerRegistrationId(toRegId(seating.winner(i)));
+            rows.add(m);
         }
+        return rows;
+    }
 
-        // Map to response
-        List<MatchDto> dtos = matchRepository.findByCategoryIdOrderByRoundAscPositionAsc(category.getId())
-                .stream().map(m -> {
-                    MatchDto d = new MatchDto();
-                    d.setId(m.getId());
-                    d.setRound(m.getRound());
-                    d.setPosition(m.getPosition());
-                    d.setParticipant1RegistrationId(m.getParticipant1RegistrationId());
-                    d.setParticipant2RegistrationId(m.getParticipant2RegistrationId());
-                    d.setBye(Boolean.TRUE.equals(m.getBye()));
-                    d.setNextMatchId(m.getNextMatchId());
-                    d.setWinnerAdvancesAs(m.getWinnerAdvancesAs());
-                    d.setStatus(m.getStatus().name());
-                    return d;
-                }).collect(Collectors.toList());
+    private static Long toRegId(long v) { return v == BracketTopology.NONE ? null : v; }
 
-        BracketSummaryResponse resp = new BracketSummaryResponse();
-        resp.setCategoryId(category.getId());
-        resp.setTotalParticipants(n);
-        resp.setEffectiveSize(effective);
-        resp.setRounds(rounds);
-        resp.setMatches(dtos);
-        return resp;
+    @Override
+    public BracketSummaryResponse getBracket(Long categoryId) {
+        return getBracketSnapshot(categoryId).getResponse();
     }
 
+    // No transaction here: a cache hit must not touch the connection pool
     @Override
-    public BracketSummaryResponse getBracket(Long categoryId) {
-        List<MatchDto> dtos = matchRepository.findByCategoryIdOrderByRoundAscPositionAsc(categoryId)
-                .stream().map(m -> {
-                    MatchDto d = new MatchDto();
-                    d.setId(m.getId());
-                    d.setRound(m.getRound());
-                    d.setPosition(m.getPosition());
-                    d.setParticipant1RegistrationId(m.getParticipant1RegistrationId());
-                    d.setParticipant2RegistrationId(m.getParticipant2RegistrationId());
-                    d.setBye(Boolean.TRUE.equals(m.getBye()));
-                    d.setNextMatchId(m.getNextMatchId());
-                    d.setWinnerAdvancesAs(m.getWinnerAdvancesAs());
-                    d.setStatus(m.getStatus().name());
-                    return d;
-                }).collect(Collectors.toList());
+    public BracketSnapshot getBracketSnapshot(Long categoryId) {
+        try (DrawMetrics.Recording rec = drawMetrics.start(DrawMetrics.READ, categoryId)) {
+            BracketSnapshot snapshot = bracketCache.get(categoryId, version -> {
+                BracketSummaryResponse resp = loadBracket(categoryId);
+                rec.stage("load_matches");
+                return render(categoryId, version, resp, rec);
+            });
+            if (!rec.hasStages()) rec.stage("cache_hit");
+            rec.matches(snapshot.getResponse().getMatches().size());
+            rec.complete();
+            return snapshot;
+        }
+    }
+
+    // Serialized once per bracket version; every read of that version reuses the same bytes
+    private BracketSnapshot render(Long categoryId, long version, BracketSummaryResponse resp, DrawMetrics.Recording rec) {
+        try {
+            BracketSnapshot snapshot = new BracketSnapshot(categoryId, version, resp, objectMapper.writeValueAsBytes(resp));
+            rec.stage("render_json");
+            return snapshot;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize bracket for category " + categoryId, e);
+        }
+    }
+
+    @Override
+    public String getBracketETag(Long categoryId) {
+        return bracketCache.eTag(categoryId);
+    }
+
+    private BracketSummaryResponse loadBracket(Long categoryId) {
+        List<MatchDto> dtos = matchRepository.findMatchDtosByCategoryId(categoryId);
         BracketSummaryResponse resp = new BracketSummaryResponse();
         resp.setCategoryId(categoryId);
         resp.setMatches(dtos);
@@ -198,7 +338,176 @@ public class BracketServiceImpl implements BracketService {
     @Override
     @Transactional
     public void deleteDraftBracket(Long categoryId) {
-        matchRepository.findByCategoryIdOrderByRoundAscPositionAsc(categoryId)
-                .forEach(matchRepository::delete);
+        try (DrawMetrics.Recording rec = drawMetrics.start(DrawMetrics.DELETE_DRAFT, categoryId)) {
+            // Two round-trips regardless of draw size: one locking guard, one set-based delete
+            if (matchRepository.countProgressedMatchesForUpdate(categoryId) > 0) {
+                throw new IllegalStateException("Bracket has progressed beyond draft and cannot be deleted");
+            }
+            rec.stage("check_progress");
+            rec.matches(matchRepository.deleteAllInCategory(categoryId));
+            rec.stage("delete_matches");
+            standingsService.clear(categoryId);
+            bracketCache.invalidateAfterCommit(categoryId);
+            rec.stage("clear_standings");
+            rec.complete();
+        }
+    }
+
+    @Override
+    @Transactional
+    public List<MatchDto> recordResult(Long matchId, Long winnerRegistrationId, Integer score1, Integer score2) {
+        // Locked, so a concurrent draft delete either sees this result or removes the match before it is read
+        Match match = matchRepository.findByIdForUpdate(matchId)
+                .orElseThrow(() -> new NoSuchElementException("Match not found"));
+        requireParticipant(match, winnerRegistrationId);
+        if (match.getWinnerRegistrationId() != null) {
+            // Retried request: same winner is a no-op, a different one needs a correction flow
+            if (winnerRegistrationId.equals(match.getWinnerRegistrationId())) return List.of();
+            throw new IllegalStateException("Match already has a different result");
+        }
+        if (match.getParticipant1RegistrationId() == null || match.getParticipant2RegistrationId() == null) {
+            throw new IllegalStateException("Both participants must be known before recording a result");
+        }
+
+        List<MatchDto> changed = new ArrayList<>();
+        match.setWinnerRegistrationId(winnerRegistrationId);
+        match.setScore1(score1);
+        match.setScore2(score2);
+        match.setStatus(MatchStatus.COMPLETED);
+        changed.add(toDto(match));
+        if (match.getGroupNumber() != null) {
+            standingsService.applyResult(match, 1);
+        } else if (match.getBracket() != null) {
+            Long loserRegistrationId = winnerRegistrationId.equals(match.getParticipant1RegistrationId())
+                    ? match.getParticipant2RegistrationId() : match.getParticipant1RegistrationId();
+            // Loser route first: a losers-bracket chain can walk on into the grand final, so locking it before the
+            // winners' next match keeps every result taking rows in the same order
+            advance(match.getLoserNextMatchId(), match.getLoserAdvancesAs(), loserRegistrationId, changed);
+            advance(match.getNextMatchId(), match.getWinnerAdvancesAs(), winnerRegistrationId, changed);
+        } else {
+            propagateWinner(match, winnerRegistrationId, changed);
+        }
+        bracketCache.invalidateAfterCommit(match.getCategoryId(), changed);
+        return changed;
+    }
+
+    // Group matches only: a knockout winner may already have played on, so there is nothing safe to undo
+    @Override
+    @Transactional
+    public List<MatchDto> correctResult(Long matchId, Long winnerRegistrationId, Integer score1, Integer score2) {
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new NoSuchElementException("Match not found"));
+        if (match.getGroupNumber() == null) {
+            throw new IllegalStateException("Only round-robin results can be corrected");
+        }
+        if (match.getWinnerRegistrationId() == null) {
+            throw new IllegalStateException("Match has no result to correct");
+        }
+        requireParticipant(match, winnerRegistrationId);
+
+        standingsService.applyResult(match, -1);
+        match.setWinnerRegistrationId(winnerRegistrationId);
+        match.setScore1(score1);
+        match.setScore2(score2);
+        match.setStatus(MatchStatus.COMPLETED);
+        standingsService.applyResult(match, 1);
+        List<MatchDto> changed = List.of(toDto(match));
+        bracketCache.invalidateAfterCommit(match.getCategoryId(), changed);
+        return changed;
+    }
+
+    private static void requireParticipant(Match match, Long registrationId) {
+        if (!registrationId.equals(match.getParticipant1RegistrationId())
+                && !registrationId.equals(match.getParticipant2RegistrationId())) {
+            throw new IllegalArgumentException("Winner is not a participant of this match");
+        }
+    }
+
+    // Walks nextMatchId links one level at a time (O(depth) targeted reads/updates). A match whose
+    // other slot can never be filled (its feeder finished without a winner, e.g. an empty BYE or a
+    // double walkover) is settled as a WALKOVER and the same winner keeps moving up. Each next match is
+    // locked before it is read, so the sibling result waits and then sees this slot filled.
+    private void propagateWinner(Match from, Long winnerRegId, List<MatchDto> changed) {
+        Match cur = from;
+        while (cur.getNextMatchId() != null) {
+            Match next = matchRepository.findByIdForUpdate(cur.getNextMatchId())
+                    .orElseThrow(() -> new IllegalStateException("Broken bracket: next match missing"));
+            int side = cur.getWinnerAdvancesAs() != null ? cur.getWinnerAdvancesAs() - 1 : BracketTopology.side(cur.getPosition());
+            Long occupant = side == 0 ? next.getParticipant1RegistrationId() : next.getParticipant2RegistrationId();
+            if (occupant != null && !occupant.equals(winnerRegId)) {
+                throw new IllegalStateException("Broken bracket: slot already taken in match " + next.getId());
+            }
+            if (side == 0) next.setParticipant1RegistrationId(winnerRegId); else next.setParticipant2RegistrationId(winnerRegId);
+
+            if (!opponentCanStillArrive(next, side)) {
+                next.setWinnerRegistrationId(winnerRegId);
+                next.setStatus(MatchStatus.WALKOVER);
+                changed.add(toDto(next));
+                cur = next;
+                continue;
+            }
+            changed.add(toDto(next));
+            break;
+        }
+    }
+
+    // Double elimination: one targeted read and update per hop along the stored link. Which slots can never be
+    // filled is settled at generation, so a BYE reached here is a pass-through: it becomes a WALKOVER and the
+    // same player moves on along its winner link. Each hop is locked like in propagateWinner, so the other
+    // feeder of the same match waits and then sees this slot filled.
+    private void advance(Long nextMatchId, Short advancesAs, Long regId, List<MatchDto> changed) {
+        while (nextMatchId != null) {
+            Match next = matchRepository.findByIdForUpdate(nextMatchId)
+                    .orElseThrow(() -> new IllegalStateException("Broken bracket: next match missing"));
+            int side = advancesAs - 1;
+            Long occupant = side == 0 ? next.getParticipant1RegistrationId() : next.getParticipant2RegistrationId();
+            if (occupant != null && !occupant.equals(regId)) {
+                throw new IllegalStateException("Broken bracket: slot already taken in match " + next.getId());
+            }
+            if (side == 0) next.setParticipant1RegistrationId(regId); else next.setParticipant2RegistrationId(regId);
+            if (!Boolean.TRUE.equals(next.getBye())) {
+                changed.add(toDto(next));
+                return;
+            }
+            next.setWinnerRegistrationId(regId);
+            next.setStatus(MatchStatus.WALKOVER);
+            changed.add(toDto(next));
+            nextMatchId = next.getNextMatchId();
+            advancesAs = next.getWinnerAdvancesAs();
+        }
+    }
+
+    private boolean opponentCanStillArrive(Match next, int filledSide) {
+        Long other = filledSide == 0 ? next.getParticipant2RegistrationId() : next.getParticipant1RegistrationId();
+        if (other != null) return true;
+        int feederPos = BracketTopology.child(next.getPosition(), filledSide ^ 1);
+        return matchRepository.findByCategoryIdAndRoundAndPosition(next.getCategoryId(), next.getRound() - 1, feederPos)
+                .map(feeder -> feeder.getWinnerRegistrationId() != null || !isSettled(feeder))
+                .orElse(false);
+    }
+
+    private static boolean isSettled(Match m) {
+        return m.getStatus() == MatchStatus.COMPLETED || m.getStatus() == MatchStatus.WALKOVER;
+    }
+
+    private static MatchDto toDto(Match m) {
+        MatchDto d = new MatchDto();
+        d.setId(m.getId());
+        d.setGroupNumber(m.getGroupNumber());
+        d.setBracket(m.getBracket() != null ? m.getBracket().name() : null);
+        d.setRound(m.getRound());
+        d.setPosition(m.getPosition());
+        d.setParticipant1RegistrationId(m.getParticipant1RegistrationId());
+        d.setParticipant2RegistrationId(m.getParticipant2RegistrationId());
+        d.setBye(Boolean.TRUE.equals(m.getBye()));
+        d.setNextMatchId(m.getNextMatchId());
+        d.setWinnerAdvancesAs(m.getWinnerAdvancesAs());
+        d.setLoserNextMatchId(m.getLoserNextMatchId());
+        d.setLoserAdvancesAs(m.getLoserAdvancesAs());
+        d.setStatus(m.getStatus().name());
+        d.setWinnerRegistrationId(m.getWinnerRegistrationId());
+        d.setScore1(m.getScore1());
+        d.setScore2(m.getScore2());
+        return d;
     }
 }
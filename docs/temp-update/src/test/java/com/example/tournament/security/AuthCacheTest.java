@@ -0,0 +1,55 @@
+package com.example.tournament.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AuthCacheTest {
+
+    private final AuthCache cache = new AuthCache(new SimpleMeterRegistry(), 100, 100, Duration.ofMinutes(1));
+
+    @Test
+    void token_isParsedOncePerToken_untilItExpires() {
+        AtomicInteger parses = new AtomicInteger();
+        long exp = System.currentTimeMillis() + 60_000;
+        for (int i = 0; i < 3; i++) {
+            JwtUtil.ParsedToken t = cache.token("a.b.c", tok -> {
+                parses.incrementAndGet();
+                return new JwtUtil.ParsedToken("admin@example.com", exp);
+            });
+            assertEquals("admin@example.com", t.getSubject());
+        }
+        assertEquals(1, parses.get());
+
+        cache.token("x.y.z", tok -> new JwtUtil.ParsedToken("other@example.com", exp));
+        assertEquals(1, parses.get());
+    }
+
+    @Test
+    void principal_isLoadedOnce_andReloadedAfterAccountChange() {
+        AtomicInteger loads = new AtomicInteger();
+        String role = "ROLE_USER";
+        UserDetails first = cache.principal("u@example.com", s -> load(loads, s, role));
+        UserDetails again = cache.principal("u@example.com", s -> load(loads, s, role));
+        assertSame(first, again);
+        assertEquals(1, loads.get());
+
+        cache.onUserAccountChanged(new UserAccountChangedEvent("u@example.com"));
+        UserDetails reloaded = cache.principal("u@example.com", s -> load(loads, s, "ROLE_ADMIN"));
+        assertEquals(2, loads.get());
+        assertTrue(reloaded.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+    }
+
+    private static UserDetails load(AtomicInteger loads, String email, String role) {
+        loads.incrementAndGet();
+        return new User(email, "hash", List.of(new SimpleGrantedAuthority(role)));
+    }
+}
@@ -2,17 +2,24 @@ package com.example.tournament.service;
 
 import com.example.tournament.api.dto.BracketSummaryResponse;
 import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.api.dto.MatchDto;
+import com.example.tournament.api.dto.RoundRobinSummaryResponse;
 import com.example.tournament.domain.Category;
+import com.example.tournament.domain.EliminationBracket;
 import com.example.tournament.domain.Match;
 import com.example.tournament.domain.MatchStatus;
-import com.example.tournament.domain.Registration;
+import com.example.tournament.domain.TournamentFormat;
 import com.example.tournament.repository.CategoryRepository;
+import com.example.tournament.repository.MatchBulkOperations;
 import com.example.tournament.repository.MatchRepository;
 import com.example.tournament.repository.RegistrationRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.time.Duration;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -23,6 +30,7 @@ public class BracketServiceImplTest {
     private CategoryRepository categoryRepo;
     private RegistrationRepository registrationRepo;
     private MatchRepository matchRepo;
+    private StandingsService standingsService;
     private BracketServiceImpl service;
 
     @BeforeEach
@@ -30,7 +38,10 @@ public class BracketServiceImplTest {
         categoryRepo = mock(CategoryRepository.class);
         registrationRepo = mock(RegistrationRepository.class);
         matchRepo = mock(MatchRepository.class);
-        service = new BracketServiceImpl(categoryRepo, registrationRepo, matchRepo);
+        standingsService = mock(StandingsService.class);
+        service = new BracketServiceImpl(categoryRepo, registrationRepo, matchRepo,
+                new BracketCache(new SimpleMeterRegistry(), 100, 1_000, event -> {}), standingsService, new ObjectMapper(),
+                new DrawMetrics(new SimpleMeterRegistry(), Duration.ofSeconds(2), false));
     }
 
     @Test
@@ -49,24 +60,9 @@ public class BracketServiceImplTest {
         when(matchRepo.existsByCategoryId(categoryId)).thenReturn(false);
 
         // 3 registrations (forces one BYE in an effective size of 4)
-        Registration r1 = new Registration(); setId(r1, 101L);
-        Registration r2 = new Registration(); setId(r2, 102L);
-        Registration r3 = new Registration(); setId(r3, 103L);
-        when(registrationRepo.findByCategoryIdOrderByIdAsc(categoryId)).thenReturn(Arrays.asList(r1, r2, r3));
-
-        // capture saved matches to give them IDs
-        when(matchRepo.save(any(Match.class))).thenAnswer(inv -> {
-            Match m = inv.getArgument(0);
-            if (m.getId() == null) {
-                try {
-                    var f = Match.class.getDeclaredField("id");
-                    f.setAccessible(true);
-                    f.set(m, new Random().nextLong(1_000_000)); // temp id
-                } catch (Exception ignored) {}
-            }
-            return m;
-        });
-        when(matchRepo.findByCategoryIdOrderByRoundAscPositionAsc(categoryId)).thenReturn(new ArrayList<>());
+        when(registrationRepo.findIdsByCategoryId(categoryId)).thenReturn(Arrays.asList(101L, 102L, 103L));
+
+        when(matchRepo.allocateMatchIds(anyInt())).thenAnswer(inv -> sequentialIds(inv.getArgument(0)));
 
         BracketSummaryResponse resp = service.generateSingleElimination(tournamentId, categoryId, new DrawGenerateRequest());
         assertEquals(3, resp.getTotalParticipants());
@@ -75,8 +71,162 @@ public class BracketServiceImplTest {
 
         // verify BYE advancement: at least one first-round match should be COMPLETED
         // and next match should have a participant filled.
-        verify(matchRepo, atLeast(1)).save(argThat(m -> m.getRound()!=null && m.getRound()==1 && Boolean.TRUE.equals(m.getBye()) && m.getStatus()== MatchStatus.COMPLETED));
-        verify(matchRepo, atLeast(1)).save(argThat(m -> m.getRound()!=null && m.getRound()==2 && (m.getParticipant1RegistrationId()!=null || m.getParticipant2RegistrationId()!=null)));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MatchDto>> rows = ArgumentCaptor.forClass(List.class);
+        verify(matchRepo).insertBracketMatches(eq(tournamentId), eq(categoryId), rows.capture());
+        assertTrue(rows.getValue().stream().anyMatch(m -> m.getRound()==1 && m.isBye() && MatchStatus.COMPLETED.name().equals(m.getStatus())));
+        assertTrue(rows.getValue().stream().anyMatch(m -> m.getRound()==2 && (m.getParticipant1RegistrationId()!=null || m.getParticipant2RegistrationId()!=null)));
+        assertEquals(rows.getValue(), resp.getMatches());
+        verify(matchRepo, never()).save(any());
+        verify(matchRepo, never()).findById(any());
+    }
+
+    @Test
+    void generate_statementCountDoesNotGrowWithDrawSize() {
+        int[] drawSizes = {4, 64, 512};
+        int[] repositoryCalls = new int[drawSizes.length];
+        for (int i = 0; i < drawSizes.length; i++) {
+            setUp();
+            Long categoryId = 20L + i;
+            Category cat = new Category();
+            setId(cat, categoryId);
+            when(categoryRepo.findByIdAndTournamentId(categoryId, 1L)).thenReturn(Optional.of(cat));
+            when(matchRepo.existsByCategoryId(categoryId)).thenReturn(false);
+            when(matchRepo.allocateMatchIds(anyInt())).thenAnswer(inv -> sequentialIds(inv.getArgument(0)));
+            List<Long> regs = new ArrayList<>();
+            for (int r = 0; r < drawSizes[i] - 1; r++) regs.add(1000L + r); // one short, so the draw contains a BYE
+            when(registrationRepo.findIdsByCategoryId(categoryId)).thenReturn(regs);
+
+            BracketSummaryResponse resp = service.generateSingleElimination(1L, categoryId, new DrawGenerateRequest());
+            assertEquals(drawSizes[i] - 1, resp.getMatches().size());
+
+            verify(matchRepo, times(1)).allocateMatchIds(drawSizes[i] - 1);
+            verify(matchRepo, times(1)).insertBracketMatches(eq(1L), eq(categoryId), anyList());
+            repositoryCalls[i] = mockingDetails(categoryRepo).getInvocations().size()
+                    + mockingDetails(registrationRepo).getInvocations().size()
+                    + mockingDetails(matchRepo).getInvocations().size();
+        }
+        assertEquals(repositoryCalls[0], repositoryCalls[1]);
+        assertEquals(repositoryCalls[0], repositoryCalls[2]);
+    }
+
+    @Test
+    void generateDoubleElimination_writesBothBracketsAndTheirLinksInOneBatch() {
+        Long categoryId = 61L;
+        Category cat = new Category();
+        setId(cat, categoryId);
+        cat.setFormat(TournamentFormat.DOUBLE_ELIMINATION);
+        when(categoryRepo.findByIdAndTournamentId(categoryId, 1L)).thenReturn(Optional.of(cat));
+        when(registrationRepo.findIdsByCategoryId(categoryId)).thenReturn(Arrays.asList(101L, 102L, 103L, 104L, 105L));
+        when(matchRepo.allocateMatchIds(anyInt())).thenAnswer(inv -> sequentialIds(inv.getArgument(0)));
+
+        BracketSummaryResponse resp = service.generateDoubleElimination(1L, categoryId, new DrawGenerateRequest());
+        assertEquals(8, resp.getEffectiveSize());
+        assertEquals(14, resp.getMatches().size());
+        verify(matchRepo, times(1)).allocateMatchIds(14);
+        verify(matchRepo, times(1)).insertBracketMatches(1L, categoryId, resp.getMatches());
+
+        Map<Long, MatchDto> byId = new HashMap<>();
+        for (MatchDto m : resp.getMatches()) byId.put(m.getId(), m);
+        for (MatchDto m : resp.getMatches()) {
+            if ("WINNERS".equals(m.getBracket())) {
+                assertEquals("LOSERS", byId.get(m.getLoserNextMatchId()).getBracket());
+                assertNotNull(m.getLoserAdvancesAs());
+            } else {
+                assertNull(m.getLoserNextMatchId());
+            }
+            if ("GRAND_FINAL".equals(m.getBracket())) assertNull(m.getNextMatchId());
+            else assertNotNull(byId.get(m.getNextMatchId()));
+        }
+
+        cat.setFormat(TournamentFormat.SINGLE_ELIMINATION);
+        assertThrows(IllegalStateException.class, () -> service.generateDoubleElimination(1L, categoryId, null));
+    }
+
+    @Test
+    void recordResult_doubleElimination_routesLoserAndWalksThroughPassThroughBye() {
+        Match winnersSemi = doubleElimMatch(1L, EliminationBracket.WINNERS, 101L, 102L, 3L, (short) 1, 5L, (short) 2, false);
+        Match winnersFinal = doubleElimMatch(3L, EliminationBracket.WINNERS, null, 103L, 7L, (short) 1, 6L, (short) 2, false);
+        Match losersBye = doubleElimMatch(5L, EliminationBracket.LOSERS, null, null, 6L, (short) 1, null, null, true);
+        Match losersFinal = doubleElimMatch(6L, EliminationBracket.LOSERS, null, null, 7L, (short) 2, null, null, false);
+        for (Match m : List.of(winnersSemi, winnersFinal, losersBye, losersFinal)) {
+            when(matchRepo.findByIdForUpdate(m.getId())).thenReturn(Optional.of(m));
+        }
+
+        List<MatchDto> changed = service.recordResult(1L, 101L);
+        // Loser route before the winner's, the lock order every result follows
+        assertEquals(List.of(1L, 5L, 6L, 3L), changed.stream().map(MatchDto::getId).toList());
+        assertEquals(101L, winnersFinal.getParticipant1RegistrationId());
+        assertEquals(102L, losersBye.getParticipant2RegistrationId());
+        assertEquals(MatchStatus.WALKOVER, losersBye.getStatus());
+        assertEquals(102L, losersBye.getWinnerRegistrationId());
+        assertEquals(102L, losersFinal.getParticipant1RegistrationId());
+        assertEquals(MatchStatus.SCHEDULED, losersFinal.getStatus());
+        verify(matchRepo, never()).findByCategoryIdAndRoundAndPosition(any(), any(), any());
+        verify(matchRepo, never()).findById(any());
+    }
+
+    @Test
+    void generateRoundRobin_streamsAllFixturesThroughOneBulkInsert() {
+        Long categoryId = 51L;
+        Category cat = new Category();
+        setId(cat, categoryId);
+        cat.setFormat(TournamentFormat.ROUND_ROBIN);
+        when(categoryRepo.findByIdAndTournamentId(categoryId, 1L)).thenReturn(Optional.of(cat));
+        List<Long> regs = new ArrayList<>();
+        for (int r = 0; r < 64; r++) regs.add(1000L + r);
+        when(registrationRepo.findIdsByCategoryId(categoryId)).thenReturn(regs);
+        int[] fixtures = new int[1];
+        when(matchRepo.insertFixtures(eq(1L), eq(categoryId), any())).thenAnswer(inv -> {
+            MatchBulkOperations.FixtureSource source = inv.getArgument(2);
+            source.forEach((g, round, pos, p1, p2) -> fixtures[0]++);
+            return (long) fixtures[0];
+        });
+
+        DrawGenerateRequest req = new DrawGenerateRequest();
+        req.setGroups(2);
+        RoundRobinSummaryResponse resp = service.generateRoundRobin(1L, categoryId, req);
+
+        assertEquals(2 * 32 * 31 / 2, fixtures[0]);
+        assertEquals(fixtures[0], resp.getTotalMatches());
+        assertEquals(2, resp.getGroups().size());
+        assertEquals(31, resp.getGroups().get(0).getRounds());
+        verify(matchRepo, times(1)).insertFixtures(eq(1L), eq(categoryId), any());
+        verify(matchRepo, never()).save(any());
+        verify(standingsService).initialize(eq(categoryId), any());
+    }
+
+    @Test
+    void groupResult_updatesStandings_andCorrectionReversesTheOldResult() {
+        Match m = bracketMatch(7L, 1, 0, 101L, 102L, null, null, MatchStatus.SCHEDULED);
+        m.setGroupNumber(1);
+        when(matchRepo.findByIdForUpdate(7L)).thenReturn(Optional.of(m));
+        when(matchRepo.findById(7L)).thenReturn(Optional.of(m));
+
+        service.recordResult(7L, 101L, 2, 1);
+        verify(standingsService).applyResult(m, 1);
+        assertThrows(IllegalStateException.class, () -> service.recordResult(7L, 102L));
+
+        service.correctResult(7L, 102L, 1, 2);
+        verify(standingsService).applyResult(m, -1);
+        verify(standingsService, times(2)).applyResult(m, 1);
+        assertEquals(102L, m.getWinnerRegistrationId());
+        assertEquals(Integer.valueOf(2), m.getScore2());
+    }
+
+    @Test
+    void generateRoundRobin_rejectsKnockoutCategories() {
+        Long categoryId = 52L;
+        Category cat = new Category();
+        setId(cat, categoryId);
+        when(categoryRepo.findByIdAndTournamentId(categoryId, 1L)).thenReturn(Optional.of(cat));
+        assertThrows(IllegalStateException.class, () -> service.generateRoundRobin(1L, categoryId, null));
+    }
+
+    private static long[] sequentialIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) ids[i] = 500L + i;
+        return ids;
     }
 
     private static void setId(Object entity, Long id) {
@@ -86,4 +236,100 @@ public class BracketServiceImplTest {
             f.set(entity, id);
         } catch (Exception ignored) {}
     }
+
+    @Test
+    void getBracket_servesRepeatReadsFromCacheUntilInvalidated() {
+        Long categoryId = 31L;
+        when(matchRepo.findMatchDtosByCategoryId(categoryId)).thenReturn(new ArrayList<>());
+
+        String etag = service.getBracketETag(categoryId);
+        BracketSummaryResponse first = service.getBracket(categoryId);
+        assertSame(first, service.getBracket(categoryId));
+        byte[] json = service.getBracketSnapshot(categoryId).getJson();
+        assertSame(json, service.getBracketSnapshot(categoryId).getJson());
+        assertEquals(etag, service.getBracketETag(categoryId));
+        verify(matchRepo, times(1)).findMatchDtosByCategoryId(categoryId);
+
+        service.deleteDraftBracket(categoryId);
+        assertNotEquals(etag, service.getBracketETag(categoryId));
+        service.getBracket(categoryId);
+        verify(matchRepo, times(2)).findMatchDtosByCategoryId(categoryId);
+    }
+
+    @Test
+    void deleteDraft_isSetBased_andRefusesOnceBracketHasProgressed() {
+        Long categoryId = 41L;
+        when(matchRepo.countProgressedMatchesForUpdate(categoryId)).thenReturn(0L);
+        service.deleteDraftBracket(categoryId);
+        verify(matchRepo).deleteAllInCategory(categoryId);
+        verify(matchRepo, never()).findByCategoryIdOrderByRoundAscPositionAsc(categoryId);
+        verify(matchRepo, never()).findMatchDtosByCategoryId(categoryId);
+        verify(matchRepo, never()).delete(any());
+
+        when(matchRepo.countProgressedMatchesForUpdate(categoryId)).thenReturn(1L);
+        assertThrows(IllegalStateException.class, () -> service.deleteDraftBracket(categoryId));
+        verify(matchRepo, times(1)).deleteAllInCategory(categoryId);
+    }
+
+    @Test
+    void recordResult_advancesWinnerAndIsIdempotent() {
+        Match semi = bracketMatch(1L, 1, 0, 101L, 102L, 3L, (short) 1, MatchStatus.SCHEDULED);
+        Match otherSemi = bracketMatch(2L, 1, 1, 103L, 104L, 3L, (short) 2, MatchStatus.SCHEDULED);
+        Match fin = bracketMatch(3L, 2, 0, null, null, null, null, MatchStatus.SCHEDULED);
+        when(matchRepo.findByIdForUpdate(1L)).thenReturn(Optional.of(semi));
+        when(matchRepo.findByIdForUpdate(3L)).thenReturn(Optional.of(fin));
+        when(matchRepo.findByCategoryIdAndRoundAndPosition(40L, 1, 1)).thenReturn(Optional.of(otherSemi));
+
+        List<MatchDto> changed = service.recordResult(1L, 102L);
+        assertEquals(2, changed.size());
+        assertEquals(102L, changed.get(0).getWinnerRegistrationId());
+        assertEquals(102L, changed.get(1).getParticipant1RegistrationId());
+        assertEquals(MatchStatus.SCHEDULED.name(), changed.get(1).getStatus());
+
+        // a retried request changes nothing
+        assertTrue(service.recordResult(1L, 102L).isEmpty());
+        assertThrows(IllegalStateException.class, () -> service.recordResult(1L, 101L));
+    }
+
+    @Test
+    void recordResult_cascadesThroughSlotThatCanNeverBeFilled() {
+        Match semi = bracketMatch(1L, 1, 0, 101L, 102L, 3L, (short) 1, MatchStatus.SCHEDULED);
+        Match emptySemi = bracketMatch(2L, 1, 1, null, null, 3L, (short) 2, MatchStatus.WALKOVER);
+        Match fin = bracketMatch(3L, 2, 0, null, null, null, null, MatchStatus.SCHEDULED);
+        when(matchRepo.findByIdForUpdate(1L)).thenReturn(Optional.of(semi));
+        when(matchRepo.findByIdForUpdate(3L)).thenReturn(Optional.of(fin));
+        when(matchRepo.findByCategoryIdAndRoundAndPosition(40L, 1, 1)).thenReturn(Optional.of(emptySemi));
+
+        List<MatchDto> changed = service.recordResult(1L, 101L);
+        assertEquals(2, changed.size());
+        assertEquals(MatchStatus.WALKOVER.name(), changed.get(1).getStatus());
+        assertEquals(101L, changed.get(1).getWinnerRegistrationId());
+    }
+
+    private static Match doubleElimMatch(Long id, EliminationBracket bracket, Long p1, Long p2,
+                                         Long nextMatchId, Short advancesAs, Long loserNextMatchId, Short loserAdvancesAs,
+                                         boolean bye) {
+        Match m = bracketMatch(id, 1, 0, p1, p2, nextMatchId, advancesAs, MatchStatus.SCHEDULED);
+        m.setBracket(bracket);
+        m.setLoserNextMatchId(loserNextMatchId);
+        m.setLoserAdvancesAs(loserAdvancesAs);
+        m.setBye(bye);
+        return m;
+    }
+
+    private static Match bracketMatch(Long id, int round, int position, Long p1, Long p2,
+                                      Long nextMatchId, Short advancesAs, MatchStatus status) {
+        Match m = new Match();
+        setId(m, id);
+        m.setCategoryId(40L);
+        m.setRound(round);
+        m.setPosition(position);
+        m.setParticipant1RegistrationId(p1);
+        m.setParticipant2RegistrationId(p2);
+        m.setNextMatchId(nextMatchId);
+        m.setWinnerAdvancesAs(advancesAs);
+        m.setStatus(status);
+        m.setBye(false);
+        return m;
+    }
 }
@@ -0,0 +1,126 @@
+package com.example.tournament.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketSimulatorTest {
+
+    private static final long NO_DEADLINE = 60_000;
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void equalRatingsGiveEveryoneTheSameOdds() {
+        BracketSimulator.Result r = new BracketSimulator(pool)
+                .run(new double[8], new int[]{0, 1, 2, 3, 4, 5, 6, 7}, false, 200_000, NO_DEADLINE, 1L);
+        assertEquals(200_000, r.iterations());
+        assertEquals(3, r.rounds());
+        for (int i = 0; i < 8; i++) {
+            assertEquals(0.5, r.reachProbability(i, 2), 0.01);
+            assertEquals(0.25, r.reachProbability(i, 3), 0.01);
+            assertEquals(0.125, r.winProbability(i), 0.01);
+        }
+    }
+
+    @Test
+    void ratingGapFollowsTheEloExpectation() {
+        // 400 points: a 10:1 favourite
+        BracketSimulator.Result r = new BracketSimulator(pool)
+                .run(new double[]{1900, 1500}, new int[]{0, 1}, false, 200_000, NO_DEADLINE, 2L);
+        assertEquals(10.0 / 11, r.winProbability(0), 0.005);
+        assertEquals(1.0, r.winProbability(0) + r.winProbability(1), 1e-9);
+    }
+
+    @Test
+    void everyRoundIsFilledDespiteByes() {
+        // 5 players on 8 lines: whoever is alone in a match goes through, so every later slot is occupied
+        double[] ratings = {1700, 1650, 1600, 1550, 1500};
+        int[] lines = {0, -1, 3, 4, 2, -1, -1, 1};
+        for (boolean shuffle : new boolean[]{false, true}) {
+            BracketSimulator.Result r = new BracketSimulator(pool).run(ratings, lines, shuffle, 50_000, NO_DEADLINE, 3L);
+            for (int round = 2; round <= r.rounds(); round++) {
+                double sum = 0;
+                for (int i = 0; i < ratings.length; i++) sum += r.reachProbability(i, round);
+                assertEquals(8 >> (round - 1), sum, 1e-9, "round " + round + (shuffle ? ", shuffled" : ""));
+            }
+            double wins = 0;
+            for (int i = 0; i < ratings.length; i++) wins += r.winProbability(i);
+            assertEquals(1.0, wins, 1e-9);
+        }
+        // Unshuffled, the three BYEs are certain
+        BracketSimulator.Result fixed = new BracketSimulator(pool).run(ratings, lines, false, 10_000, NO_DEADLINE, 4L);
+        assertEquals(1.0, fixed.reachProbability(0, 2));
+        assertEquals(1.0, fixed.reachProbability(1, 2));
+        assertEquals(1.0, fixed.reachProbability(2, 2));
+    }
+
+    @Test
+    void standardPlacementKeepsTheTopSeedsApart() {
+        double[] ratings = new double[8];
+        for (int s = 0; s < 8; s++) ratings[s] = 2200 - 100 * s;
+        int[] standard = new int[8];
+        int[] sequential = new int[8];
+        for (int l = 0; l < 8; l++) {
+            standard[l] = SeedPlacementUtil.seedIndexAtLine(l, 8);
+            sequential[l] = l;
+        }
+        BracketSimulator sim = new BracketSimulator(pool);
+        BracketSimulator.Result apart = sim.run(ratings, standard, false, 100_000, NO_DEADLINE, 5L);
+        BracketSimulator.Result together = sim.run(ratings, sequential, false, 100_000, NO_DEADLINE, 5L);
+
+        // Sequentially seed 2 meets seed 1 straight away; placed properly it should get to the final
+        assertEquals(1 / (1 + Math.pow(10, 100 / 400.0)), together.reachProbability(1, 2), 0.01);
+        assertTrue(apart.reachProbability(1, 3) > together.reachProbability(1, 3) + 0.2);
+        assertTrue(apart.reachProbability(1, 3) > 0.5);
+    }
+
+    @Test
+    void anExhaustedBudgetStillPlaysAChunkPerWorker() {
+        BracketSimulator.Result r = new BracketSimulator(pool)
+                .run(new double[4], new int[]{0, 1, 2, 3}, true, 1_000_000_000L, 0, 6L);
+        assertTrue(r.iterations() >= BracketSimulator.CHUNK);
+        assertTrue(r.iterations() <= (long) pool.getParallelism() * BracketSimulator.CHUNK);
+        assertEquals(0.25, r.winProbability(0), 0.05);
+    }
+
+    @Test
+    void aSeedReproducesTheRunWhateverThePoolSize() {
+        double[] ratings = {1800, 1700, 1600, 1500, 1650};
+        int[] lines = {0, -1, 3, 4, 2, -1, -1, 1};
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            for (boolean shuffle : new boolean[]{false, true}) {
+                BracketSimulator.Result a = new BracketSimulator(pool).run(ratings, lines, shuffle, 50_000, NO_DEADLINE, 7L);
+                BracketSimulator.Result b = new BracketSimulator(single).run(ratings, lines, shuffle, 50_000, NO_DEADLINE, 7L);
+                BracketSimulator.Result other = new BracketSimulator(pool).run(ratings, lines, shuffle, 50_000, NO_DEADLINE, 8L);
+                boolean differs = false;
+                for (int i = 0; i < ratings.length; i++) {
+                    for (int round = 2; round <= a.rounds(); round++) {
+                        assertEquals(a.reachProbability(i, round), b.reachProbability(i, round), 0.0);
+                    }
+                    assertEquals(a.winProbability(i), b.winProbability(i), 0.0);
+                    differs |= a.winProbability(i) != other.winProbability(i);
+                }
+                assertTrue(differs, "another seed should give another sample");
+            }
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsDrawsThatAreNotAPowerOfTwo() {
+        BracketSimulator sim = new BracketSimulator(pool);
+        assertThrows(IllegalArgumentException.class, () -> sim.run(new double[3], new int[]{0, 1, 2}, false, 10, 10, 1L));
+        assertThrows(IllegalArgumentException.class, () -> sim.run(new double[2], new int[]{0, 1}, false, 0, 10, 1L));
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.DrawGenerateRequest;
+import com.example.tournament.domain.Category;
+import com.example.tournament.domain.Player;
+import com.example.tournament.domain.Registration;
+import com.example.tournament.domain.Tournament;
+import com.example.tournament.domain.TournamentFormat;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement budgets for the draw and bracket paths on H2. Every bound is a constant, so a change that goes back
+ * to per-row round-trips (a findById per BYE, a save per match, an entity load per row) fails at 64 or 1024
+ * participants even if it still passes at 4.
+ * <p>
+ * JDBC statements are counted by {@link DrawDataAccessCounter}, which also sees the JdbcTemplate batches that
+ * Hibernate statistics miss; Hibernate statistics cover entity loads and fetches.
+ */
+@SpringBootTest(classes = BracketStatementBudgetTest.Config.class, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:budget;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.open-in-view=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.flyway.enabled=false",
+        "spring.sql.init.mode=never",
+        "app.bracket.metrics.count-statements=true",
+        // H2 has no pg_get_serial_sequence; ids come from a plain sequence instead
+        "app.bracket.match-id-allocation-sql=SELECT NEXT VALUE FOR match_id_seq FROM SYSTEM_RANGE(1, ?)"
+})
+class BracketStatementBudgetTest {
+
+    // Per call, whatever the draw size
+    static final int GENERATE_STATEMENTS = 6;
+    static final int REGENERATE_STATEMENTS = 10;
+    static final int READ_STATEMENTS = 1;
+    static final int DELETE_STATEMENTS = 3;
+    static final int GENERATE_ENTITY_LOADS = 2; // the category and its tournament
+
+    @Autowired BracketService bracketService;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired EntityManager entityManager;
+    @Autowired TransactionTemplate tx;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS match_id_seq START WITH 1000000");
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64, 1024})
+    void generateStaysWithinBudget(int participants) {
+        long[] ids = category(participants);
+
+        Budget b = measure(DrawMetrics.GENERATE, () -> bracketService.generateSingleElimination(ids[0], ids[1], null));
+        assertTrue(b.statements <= GENERATE_STATEMENTS, "generate issued " + b.statements + " statements");
+        assertTrue(b.entityLoads <= GENERATE_ENTITY_LOADS, "generate loaded " + b.entityLoads + " entities");
+        assertEquals(0, b.entityInserts + b.entityUpdates, "matches must be written by the JDBC batch, not by save()");
+
+        DrawGenerateRequest overwrite = new DrawGenerateRequest();
+        overwrite.setOverwriteIfDraft(true);
+        b = measure(DrawMetrics.GENERATE, () -> bracketService.generateSingleElimination(ids[0], ids[1], overwrite));
+        assertTrue(b.statements <= REGENERATE_STATEMENTS, "regenerate issued " + b.statements + " statements");
+        assertTrue(b.entityLoads <= GENERATE_ENTITY_LOADS, "regenerate loaded " + b.entityLoads + " entities");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64, 1024})
+    void generateDoubleEliminationStaysWithinBudget(int participants) {
+        long[] ids = category(participants, TournamentFormat.DOUBLE_ELIMINATION);
+
+        Budget b = measure(DrawMetrics.GENERATE_DOUBLE_ELIMINATION,
+                () -> bracketService.generateDoubleElimination(ids[0], ids[1], null));
+        assertTrue(b.statements <= GENERATE_STATEMENTS, "generate issued " + b.statements + " statements");
+        assertTrue(b.entityLoads <= GENERATE_ENTITY_LOADS, "generate loaded " + b.entityLoads + " entities");
+        assertEquals(0, b.entityInserts + b.entityUpdates, "both brackets must be written by the JDBC batch");
+        long expected = 2L * Math.max(4, SeedPlacementUtil.nextPowerOfTwo(participants)) - 2;
+        assertEquals(Long.valueOf(expected), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM matches WHERE category_id = ?", Long.class, ids[1]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64, 1024})
+    void readStaysWithinBudget(int participants) {
+        long[] ids = category(participants);
+        bracketService.generateSingleElimination(ids[0], ids[1], null);
+
+        Budget miss = measure(DrawMetrics.READ, () -> {
+            BracketSummaryResponse resp = bracketService.getBracket(ids[1]);
+            assertEquals(SeedPlacementUtil.nextPowerOfTwo(participants) - 1, resp.getMatches().size());
+        });
+        assertTrue(miss.statements <= READ_STATEMENTS, "read issued " + miss.statements + " statements");
+        assertEquals(0, miss.entityLoads, "the bracket read must project DTOs, not load entities");
+
+        Budget hit = measure(DrawMetrics.READ, () -> bracketService.getBracket(ids[1]));
+        assertEquals(0, hit.statements, "a cached bracket must not touch the database");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 64, 1024})
+    void deleteStaysWithinBudget(int participants) {
+        long[] ids = category(participants);
+        bracketService.generateSingleElimination(ids[0], ids[1], null);
+
+        Budget b = measure(DrawMetrics.DELETE_DRAFT, () -> bracketService.deleteDraftBracket(ids[1]));
+        assertTrue(b.statements <= DELETE_STATEMENTS, "delete issued " + b.statements + " statements");
+        assertEquals(0, b.entityLoads, "the draft delete must be set-based");
+        assertEquals(Long.valueOf(0), jdbcTemplate.queryForObject("SELECT COUNT(*) FROM matches WHERE category_id = ?", Long.class, ids[1]));
+    }
+
+    private Budget measure(String operation, Runnable call) {
+        double before = statements(operation);
+        stats.clear();
+        call.run();
+        Budget b = new Budget();
+        b.statements = (long) (statements(operation) - before);
+        b.entityLoads = stats.getEntityLoadCount() + stats.getEntityFetchCount();
+        b.entityInserts = stats.getEntityInsertCount();
+        b.entityUpdates = stats.getEntityUpdateCount();
+        return b;
+    }
+
+    // Summed over the size buckets
+    private double statements(String operation) {
+        double total = 0;
+        for (DistributionSummary s : meterRegistry.find("bracket.sql.statements").tag("operation", operation).summaries()) {
+            total += s.totalAmount();
+        }
+        return total;
+    }
+
+    private long[] category(int n) {
+        return category(n, TournamentFormat.SINGLE_ELIMINATION);
+    }
+
+    // {tournamentId, categoryId} of a fresh category with n registrations
+    private long[] category(int n, TournamentFormat format) {
+        return tx.execute(status -> {
+            Tournament t = new Tournament();
+            t.setName("Budget Open");
+            t.setLocation("Hall");
+            t.setStartDate(LocalDate.now());
+            t.setEndDate(LocalDate.now().plusDays(2));
+            entityManager.persist(t);
+            Category c = new Category();
+            c.setTournament(t);
+            c.setName("MS-" + n);
+            c.setFormat(format);
+            entityManager.persist(c);
+            for (int i = 0; i < n; i++) {
+                Player p = new Player();
+                p.setFirstName("Player");
+                p.setLastName(Integer.toString(i));
+                p.setGender("M");
+                entityManager.persist(p);
+                Registration r = new Registration();
+                r.setTournament(t);
+                r.setCategory(c);
+                r.setPlayer(p);
+                entityManager.persist(r);
+            }
+            return new long[]{t.getId(), c.getId()};
+        });
+    }
+
+    private static final class Budget {
+        long statements;
+        long entityLoads;
+        long entityInserts;
+        long entityUpdates;
+    }
+
+    @Configuration
+    @EnableAutoConfiguration
+    @EntityScan("com.example.tournament.domain")
+    @EnableJpaRepositories("com.example.tournament.repository")
+    @Import({BracketServiceImpl.class, BracketCache.class, StandingsService.class, DrawMetrics.class, DrawDataAccessCounter.class})
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketDeltaDto;
+import com.example.tournament.api.dto.MatchDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BracketStreamHubTest {
+
+    private static final Long CATEGORY = 5L;
+    private static final Long OTHER_CATEGORY = 6L;
+
+    private BracketCache cache;
+    private BracketStreamHub hub;
+    // Emitters handed to subscribers, in subscription order
+    private final BlockingQueue<RecordingEmitter> emitters = new LinkedBlockingQueue<>();
+    // Set by a test before it subscribes, to make that subscriber's next emitter misbehave
+    private volatile CountDownLatch gate;
+    private volatile boolean failSends;
+
+    @BeforeEach
+    void setUp() {
+        BracketStreamHub[] self = new BracketStreamHub[1];
+        cache = new BracketCache(new SimpleMeterRegistry(), 100, 1_000, event -> self[0].onBracketChanged((BracketChangedEvent) event));
+        BracketService bracketService = mock(BracketService.class);
+        when(bracketService.getBracketSnapshot(CATEGORY)).thenAnswer(inv -> snapshot(CATEGORY));
+        when(bracketService.getBracketSnapshot(OTHER_CATEGORY)).thenAnswer(inv -> snapshot(OTHER_CATEGORY));
+        hub = new BracketStreamHub(bracketService, cache, 1, 100, 4) {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter e = new RecordingEmitter(gate, failSends);
+                emitters.add(e);
+                return e;
+            }
+        };
+        self[0] = hub;
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void newSubscriberStartsFromASnapshot() throws Exception {
+        RecordingEmitter e = subscribe(CATEGORY, null);
+        Sent first = e.next();
+        assertEquals("snapshot", first.name);
+        assertEquals(cache.version(CATEGORY), first.id);
+        assertEquals("{}", new String((byte[]) first.data, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void lastEventIdIsReplayedFromTheLog() throws Exception {
+        RecordingEmitter live = subscribe(CATEGORY, null);
+        live.next();
+        cache.invalidate(CATEGORY, List.of(match(1, 21)));
+        long seen = live.next().id;
+        cache.invalidate(CATEGORY, List.of(match(2, 21)));
+        cache.invalidate(CATEGORY, List.of(match(3, 21)));
+
+        // Reconnecting after the first delta: only what was missed, no snapshot
+        RecordingEmitter resumed = subscribe(CATEGORY, Long.toString(seen));
+        List<Long> replayed = new ArrayList<>();
+        Sent s = resumed.next();
+        assertEquals("delta", s.name);
+        replayed.addAll(matchIds(s));
+        while (s.id != cache.version(CATEGORY)) {
+            s = resumed.next();
+            assertEquals("delta", s.name);
+            replayed.addAll(matchIds(s));
+        }
+        assertEquals(List.of(2L, 3L), replayed);
+
+        // An id the log does not cover gets a snapshot instead
+        RecordingEmitter unknown = subscribe(CATEGORY, "12345");
+        assertEquals("snapshot", unknown.next().name);
+    }
+
+    @Test
+    void updatesQueuedDuringASendAreCoalescedPerMatch() throws Exception {
+        gate = new CountDownLatch(1);
+        RecordingEmitter e = subscribe(CATEGORY, null);
+        gate = null;
+        e.awaitBlocked();
+
+        cache.invalidate(CATEGORY, List.of(match(1, 10)));
+        cache.invalidate(CATEGORY, List.of(match(2, 10)));
+        cache.invalidate(CATEGORY, List.of(match(1, 21)));
+        e.release();
+
+        assertEquals("snapshot", e.next().name);
+        Sent delta = e.next();
+        assertEquals("delta", delta.name);
+        assertEquals(cache.version(CATEGORY), delta.id);
+        List<MatchDto> matches = ((BracketDeltaDto) delta.data).getMatches();
+        assertEquals(List.of(1L, 2L), matchIds(delta));
+        assertEquals(Integer.valueOf(21), matches.get(0).getScore1());
+        assertNull(e.poll(), "three changes must go out as one event");
+    }
+
+    @Test
+    void structuralChangeReplacesPendingDeltasWithASnapshot() throws Exception {
+        gate = new CountDownLatch(1);
+        RecordingEmitter e = subscribe(CATEGORY, null);
+        gate = null;
+        e.awaitBlocked();
+
+        cache.invalidate(CATEGORY, List.of(match(1, 10)));
+        cache.invalidate(CATEGORY);
+        cache.invalidate(CATEGORY, List.of(match(2, 10)));
+        e.release();
+
+        assertEquals("snapshot", e.next().name);
+        Sent reset = e.next();
+        assertEquals("snapshot", reset.name);
+        assertEquals(cache.version(CATEGORY), reset.id);
+        assertNull(e.poll(), "the snapshot already contains the later delta");
+    }
+
+    @Test
+    void failedSendDropsOnlyThatSubscriber() throws Exception {
+        RecordingEmitter healthy = subscribe(CATEGORY, null);
+        healthy.next();
+        failSends = true;
+        RecordingEmitter broken = subscribe(CATEGORY, null);
+        failSends = false;
+
+        assertTrue(broken.completed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, hub.subscriberCount(CATEGORY));
+        cache.invalidate(CATEGORY, List.of(match(1, 21)));
+        assertEquals("delta", healthy.next().name);
+    }
+
+    @Test
+    void aClientThatStopsReadingDoesNotHoldUpOtherCategories() throws Exception {
+        // One sender thread, stuck writing to the first client
+        gate = new CountDownLatch(1);
+        RecordingEmitter stuck = subscribe(CATEGORY, null);
+        gate = null;
+        stuck.awaitBlocked();
+
+        RecordingEmitter other = subscribe(OTHER_CATEGORY, null);
+        assertEquals("snapshot", other.next().name);
+        assertEquals(0, hub.subscriberCount(CATEGORY), "the stuck client is cut off");
+
+        stuck.release();
+        assertTrue(stuck.completed.await(5, TimeUnit.SECONDS));
+        cache.invalidate(OTHER_CATEGORY, List.of(match(1, 21)));
+        assertEquals("delta", other.next().name);
+    }
+
+    @Test
+    void lastSubscriberLeavingRemovesTheChannel() throws Exception {
+        RecordingEmitter e = subscribe(CATEGORY, null);
+        e.next();
+        e.fireCompletion();
+        assertEquals(0, hub.subscriberCount(CATEGORY));
+        RecordingEmitter again = subscribe(CATEGORY, null);
+        assertEquals("snapshot", again.next().name);
+        assertEquals(1, hub.subscriberCount(CATEGORY));
+    }
+
+    private RecordingEmitter subscribe(Long categoryId, String lastEventId) throws InterruptedException {
+        hub.subscribe(categoryId, lastEventId);
+        return emitters.poll(5, TimeUnit.SECONDS);
+    }
+
+    private BracketSnapshot snapshot(Long categoryId) {
+        return new BracketSnapshot(categoryId, cache.version(categoryId), null, "{}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MatchDto match(long id, int score1) {
+        MatchDto m = new MatchDto();
+        m.setId(id);
+        m.setScore1(score1);
+        return m;
+    }
+
+    private static List<Long> matchIds(Sent s) {
+        return ((BracketDeltaDto) s.data).getMatches().stream().map(MatchDto::getId).toList();
+    }
+
+    private record Sent(long id, String name, Object data) {}
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private static final Pattern ID = Pattern.compile("id:(\\d+)");
+        private static final Pattern NAME = Pattern.compile("event:(\\w+)");
+
+        final BlockingQueue<Sent> sent = new LinkedBlockingQueue<>();
+        final CountDownLatch completed = new CountDownLatch(1);
+        final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch gate;
+        private final boolean fail;
+        private Runnable onCompletion = () -> {};
+
+        RecordingEmitter(CountDownLatch gate, boolean fail) {
+            this.gate = gate;
+            this.fail = fail;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) throw new IOException("Broken pipe");
+            if (gate != null) {
+                blocked.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            StringBuilder text = new StringBuilder();
+            Object data = null;
+            for (ResponseBodyEmitter.DataWithMediaType d : builder.build()) {
+                if (d.getData() instanceof String str) text.append(str);
+                else data = d.getData();
+            }
+            Matcher id = ID.matcher(text);
+            Matcher name = NAME.matcher(text);
+            if (!name.find()) return; // keepalive comment
+            sent.add(new Sent(id.find() ? Long.parseLong(id.group(1)) : -1, name.group(1), data));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            this.onCompletion = callback;
+        }
+
+        void fireCompletion() {
+            onCompletion.run();
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            assertTrue(blocked.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        Sent next() throws InterruptedException {
+            Sent s = sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(s, "nothing was sent");
+            return s;
+        }
+
+        Sent poll() throws InterruptedException {
+            return sent.poll(200, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.MatchDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BracketWireFormatTest {
+
+    @Test
+    void roundTripsAPartlyPlayedBracketWithByes() {
+        BracketSummaryResponse resp = bracket(13, 2, 501L);
+        byte[] bytes = BracketWireFormat.encode(resp);
+        assertNotNull(bytes);
+        assertSameBracket(resp, BracketWireFormat.decode(bytes));
+    }
+
+    @Test
+    void roundTripsScatteredIdsAndMatchesInAnyOrder() {
+        BracketSummaryResponse resp = bracket(64, 3, 10L);
+        for (MatchDto m : resp.getMatches()) m.setId(m.getId() * 7);
+        for (MatchDto m : resp.getMatches()) if (m.getNextMatchId() != null) m.setNextMatchId(m.getNextMatchId() * 7);
+        List<MatchDto> shuffled = new ArrayList<>(resp.getMatches());
+        Collections.reverse(shuffled);
+        resp.setMatches(shuffled);
+
+        BracketSummaryResponse decoded = BracketWireFormat.decode(BracketWireFormat.encode(resp));
+        resp.setMatches(bracketOrder(shuffled));
+        assertSameBracket(resp, decoded);
+    }
+
+    @Test
+    void roundTripsParticipantsThatDoNotFollowTheWinners() {
+        BracketSummaryResponse resp = bracket(8, 1, 1L);
+        MatchDto semi = resp.getMatches().get(4);
+        semi.setParticipant1RegistrationId(999L); // e.g. a withdrawal replaced by a lucky loser
+        assertSameBracket(resp, BracketWireFormat.decode(BracketWireFormat.encode(resp)));
+    }
+
+    @Test
+    void isMuchSmallerThanJson() {
+        BracketSummaryResponse resp = bracket(1024, 4, 100_000L);
+        byte[] bytes = BracketWireFormat.encode(resp);
+        int json = roughJsonSize(resp);
+        assertTrue(bytes.length * 10 < json, bytes.length + " bytes vs " + json + " bytes of JSON");
+    }
+
+    @Test
+    void roundRobinIsNotRepresentable() {
+        BracketSummaryResponse resp = bracket(4, 0, 1L);
+        resp.getMatches().get(0).setGroupNumber(1);
+        assertNull(BracketWireFormat.encode(resp));
+
+        BracketSummaryResponse empty = new BracketSummaryResponse();
+        empty.setMatches(List.of());
+        assertNull(BracketWireFormat.encode(empty));
+    }
+
+    @Test
+    void rejectsTruncatedData() {
+        byte[] bytes = BracketWireFormat.encode(bracket(16, 1, 1L));
+        byte[] cut = new byte[bytes.length - 1];
+        System.arraycopy(bytes, 0, cut, 0, cut.length);
+        assertThrows(IllegalArgumentException.class, () -> BracketWireFormat.decode(cut));
+    }
+
+    // Natural placement, BYEs advanced, the first `played` rounds won by participant 1
+    static BracketSummaryResponse bracket(int participants, int played, long firstId) {
+        int size = SeedPlacementUtil.nextPowerOfTwo(participants);
+        BracketTopology t = new BracketTopology(size);
+        for (int pos = 0; pos < size / 2; pos++) {
+            int a = 2 * pos;
+            int b = 2 * pos + 1;
+            t.seat(t.indexOf(1, pos), a < participants ? 1_000L + a : BracketTopology.NONE,
+                    b < participants ? 1_000L + b : BracketTopology.NONE);
+        }
+        t.advanceByes();
+        long[] ids = new long[size - 1];
+        for (int k = 0; k < ids.length; k++) ids[k] = firstId + k;
+        t.assignIds(ids);
+        List<Integer> scored = new ArrayList<>();
+        for (int r = 1; r <= played && r <= t.rounds(); r++) {
+            for (int p = 0; p < size >>> r; p++) {
+                int i = t.indexOf(r, p);
+                if (t.isBye(i) || t.participant1(i) == BracketTopology.NONE || t.participant2(i) == BracketTopology.NONE) continue;
+                t.advance(i, t.participant1(i));
+                scored.add(i);
+            }
+        }
+
+        List<MatchDto> matches = new ArrayList<>(size - 1);
+        for (int r = 1; r <= t.rounds(); r++) {
+            for (int p = 0; p < size >>> r; p++) {
+                int i = t.indexOf(r, p);
+                MatchDto m = new MatchDto();
+                m.setId(t.matchId(i));
+                m.setRound(r);
+                m.setPosition(p);
+                m.setParticipant1RegistrationId(reg(t.participant1(i)));
+                m.setParticipant2RegistrationId(reg(t.participant2(i)));
+                m.setBye(t.isBye(i));
+                m.setNextMatchId(reg(t.nextMatchId(i)));
+                m.setWinnerAdvancesAs(i > 1 ? BracketTopology.winnerAdvancesAs(i) : null);
+                m.setWinnerRegistrationId(reg(t.winner(i)));
+                m.setStatus(t.winner(i) != BracketTopology.NONE ? "COMPLETED" : "SCHEDULED");
+                if (scored.contains(i)) {
+                    m.setScore1(21);
+                    m.setScore2(10 + p % 10);
+                }
+                matches.add(m);
+            }
+        }
+        BracketSummaryResponse resp = new BracketSummaryResponse();
+        resp.setCategoryId(42L);
+        resp.setTotalParticipants(participants);
+        resp.setEffectiveSize(size);
+        resp.setRounds(t.rounds());
+        resp.setMatches(matches);
+        return resp;
+    }
+
+    private static Long reg(long v) { return v == BracketTopology.NONE ? null : v; }
+
+    private static List<MatchDto> bracketOrder(List<MatchDto> matches) {
+        List<MatchDto> sorted = new ArrayList<>(matches);
+        sorted.sort((a, b) -> a.getRound() != b.getRound() ? Integer.compare(a.getRound(), b.getRound())
+                : Integer.compare(a.getPosition(), b.getPosition()));
+        return sorted;
+    }
+
+    private static int roughJsonSize(BracketSummaryResponse resp) {
+        StringBuilder sb = new StringBuilder();
+        for (MatchDto m : resp.getMatches()) {
+            sb.append("{\"id\":").append(m.getId()).append(",\"groupNumber\":null,\"round\":").append(m.getRound())
+                    .append(",\"position\":").append(m.getPosition())
+                    .append(",\"participant1RegistrationId\":").append(m.getParticipant1RegistrationId())
+                    .append(",\"participant2RegistrationId\":").append(m.getParticipant2RegistrationId())
+                    .append(",\"bye\":").append(m.isBye()).append(",\"nextMatchId\":").append(m.getNextMatchId())
+                    .append(",\"winnerAdvancesAs\":").append(m.getWinnerAdvancesAs())
+                    .append(",\"status\":\"").append(m.getStatus()).append("\",\"winnerRegistrationId\":")
+                    .append(m.getWinnerRegistrationId()).append(",\"score1\":").append(m.getScore1())
+                    .append(",\"score2\":").append(m.getScore2()).append("},");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static void assertSameBracket(BracketSummaryResponse expected, BracketSummaryResponse actual) {
+        assertEquals(expected.getCategoryId(), actual.getCategoryId());
+        assertEquals(expected.getTotalParticipants(), actual.getTotalParticipants());
+        assertEquals(expected.getEffectiveSize(), actual.getEffectiveSize());
+        assertEquals(expected.getRounds(), actual.getRounds());
+        assertEquals(expected.getMatches().size(), actual.getMatches().size());
+        for (int k = 0; k < expected.getMatches().size(); k++) {
+            MatchDto e = expected.getMatches().get(k);
+            MatchDto a = actual.getMatches().get(k);
+            String at = "match " + e.getId();
+            assertEquals(e.getId(), a.getId(), at);
+            assertEquals(e.getRound(), a.getRound(), at);
+            assertEquals(e.getPosition(), a.getPosition(), at);
+            assertEquals(e.getParticipant1RegistrationId(), a.getParticipant1RegistrationId(), at);
+            assertEquals(e.getParticipant2RegistrationId(), a.getParticipant2RegistrationId(), at);
+            assertEquals(e.isBye(), a.isBye(), at);
+            assertEquals(e.getNextMatchId(), a.getNextMatchId(), at);
+            assertEquals(e.getWinnerAdvancesAs(), a.getWinnerAdvancesAs(), at);
+            assertEquals(e.getStatus(), a.getStatus(), at);
+            assertEquals(e.getWinnerRegistrationId(), a.getWinnerRegistrationId(), at);
+            assertEquals(e.getScore1(), a.getScore1(), at);
+            assertEquals(e.getScore2(), a.getScore2(), at);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.tournament.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readsQuotedFieldsAndTracksLines() throws IOException {
+        CsvRecordReader r = new CsvRecordReader(new StringReader(
+                "firstName,lastName\r\n\"O\"\"Brien\",\"Smith, Jr\"\r\n\"multi\nline\",x\nlast,"));
+        assertEquals(List.of("firstName", "lastName"), r.next());
+        assertEquals(List.of("O\"Brien", "Smith, Jr"), r.next());
+        assertEquals(2, r.recordLine());
+        assertEquals(List.of("multi\nline", "x"), r.next());
+        assertEquals(3, r.recordLine());
+        assertEquals(List.of("last", ""), r.next());
+        assertEquals(5, r.recordLine());
+        assertNull(r.next());
+    }
+
+    @Test
+    void rejectsAnUnterminatedQuote() throws IOException {
+        CsvRecordReader r = new CsvRecordReader(new StringReader("a,b\n\"open,c\n"));
+        r.next();
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, r::next);
+        assertTrue(e.getMessage().startsWith("Line 2"));
+    }
+}
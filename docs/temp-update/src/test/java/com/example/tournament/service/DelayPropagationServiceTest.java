@@ -0,0 +1,62 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.MatchShiftDto;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.repository.MatchScheduleRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DelayPropagationServiceTest {
+
+    private static final LocalDateTime T9 = LocalDateTime.of(2025, 10, 26, 9, 0);
+
+    @Test
+    void overrun_shiftsSameCourtAndPlayerChains_only() {
+        MatchScheduleRow source = row(1, 1L, T9, null, MatchStatus.IN_PROGRESS, 10L, 11L);
+        List<MatchScheduleRow> later = List.of(
+                source,
+                row(2, 1L, T9.plusMinutes(60), null, MatchStatus.SCHEDULED, 12L, 13L),  // same court
+                row(3, 2L, T9.plusMinutes(75), null, MatchStatus.SCHEDULED, 10L, 14L),  // player 10 on court 2
+                row(4, 3L, T9.plusMinutes(60), null, MatchStatus.SCHEDULED, 15L, 16L),  // unrelated
+                row(5, 1L, T9.plusMinutes(120), null, MatchStatus.SCHEDULED, 17L, 18L), // behind match 2 on court 1
+                row(6, 2L, T9.plusMinutes(8 * 60), null, MatchStatus.SCHEDULED, 12L, 10L)); // far later, untouched
+
+        // Planned 45 minutes, actually ran 75
+        List<MatchShiftDto> moved = DelayPropagationService.propagate(source, T9.plusMinutes(75), later, 15, 30, 45);
+
+        assertEquals(List.of(2L, 3L, 5L), moved.stream().map(MatchShiftDto::getMatchId).toList());
+        assertEquals(T9.plusMinutes(90), moved.get(0).getNewStart());   // 75 + 15 court buffer
+        assertEquals(T9.plusMinutes(105), moved.get(1).getNewStart());  // 75 + 30 player gap
+        assertEquals(T9.plusMinutes(150), moved.get(2).getNewStart());  // match 2 now ends 135, + 15
+        assertEquals(T9.plusMinutes(120), moved.get(2).getPreviousStart());
+    }
+
+    @Test
+    void startedMatchesStay_andNextRoundWaitsForItsFeeder() {
+        MatchScheduleRow source = row(1, 1L, T9, 7L, MatchStatus.IN_PROGRESS, 10L, 11L);
+        List<MatchScheduleRow> later = List.of(
+                row(2, 1L, T9.plusMinutes(60), null, MatchStatus.IN_PROGRESS, 12L, 13L),
+                row(7, 2L, T9.plusMinutes(90), null, MatchStatus.SCHEDULED, 20L, 21L));
+
+        List<MatchShiftDto> moved = DelayPropagationService.propagate(source, T9.plusMinutes(100), later, 15, 30, 45);
+
+        assertEquals(1, moved.size());
+        assertEquals(Long.valueOf(7), moved.get(0).getMatchId());
+        assertEquals(T9.plusMinutes(115), moved.get(0).getNewStart());
+    }
+
+    @Test
+    void endingOnTime_movesNothing() {
+        MatchScheduleRow source = row(1, 1L, T9, null, MatchStatus.COMPLETED, 10L, 11L);
+        List<MatchScheduleRow> later = List.of(row(2, 1L, T9.plusMinutes(60), null, MatchStatus.SCHEDULED, 10L, 12L));
+        assertTrue(DelayPropagationService.propagate(source, T9.plusMinutes(30), later, 15, 30, 45).isEmpty());
+    }
+
+    private static MatchScheduleRow row(long id, Long court, LocalDateTime start, Long next, MatchStatus status, Long p1, Long p2) {
+        return new MatchScheduleRow(id, court, start, 45, 1L, 1, (int) id, next, status, null, null, p1, p2);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.tournament.service;
+
+import com.example.tournament.domain.EliminationBracket;
+import com.example.tournament.domain.MatchStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleEliminationLayoutTest {
+
+    @Test
+    void everySlotIsFedExactlyOnce() {
+        for (int size = 4; size <= 256; size <<= 1) {
+            DoubleEliminationLayout layout = DoubleEliminationLayout.of(size);
+            assertEquals(2 * size - 2, layout.matchCount());
+            int[][] fed = new int[layout.matchCount()][2];
+            for (int i = 0; i < layout.matchCount(); i++) {
+                if (layout.winnerTo(i) != DoubleEliminationLayout.NONE) {
+                    assertTrue(layout.winnerTo(i) > i, "feeders come first");
+                    fed[layout.winnerTo(i)][layout.winnerAdvancesAs(i) - 1]++;
+                }
+                if (layout.loserTo(i) != DoubleEliminationLayout.NONE) {
+                    assertEquals(EliminationBracket.WINNERS, layout.bracket(i));
+                    assertEquals(EliminationBracket.LOSERS, layout.bracket(layout.loserTo(i)));
+                    fed[layout.loserTo(i)][layout.loserAdvancesAs(i) - 1]++;
+                }
+                assertEquals(i, layout.indexOf(layout.bracket(i), layout.round(i), layout.position(i)));
+            }
+            for (int i = size >>> 1; i < layout.matchCount(); i++) {
+                assertArrayEquals(new int[]{1, 1}, fed[i], "size " + size + ", match " + i);
+            }
+            assertEquals(DoubleEliminationLayout.NONE, layout.winnerTo(layout.grandFinal()));
+            assertEquals(EliminationBracket.GRAND_FINAL, layout.bracket(layout.grandFinal()));
+        }
+    }
+
+    @Test
+    void layoutsAreComputedOncePerSize() {
+        assertSame(DoubleEliminationLayout.of(32), DoubleEliminationLayout.of(32));
+        assertThrows(IllegalArgumentException.class, () -> DoubleEliminationLayout.of(2));
+        assertThrows(IllegalArgumentException.class, () -> DoubleEliminationLayout.of(24));
+    }
+
+    @Test
+    void droppedPlayersDoNotMeetWhomTheyJustBeat() {
+        Random random = new Random(7);
+        for (int size = 8; size <= 128; size <<= 1) {
+            for (int run = 0; run < 50; run++) {
+                Played played = play(DoubleEliminationLayout.of(size), full(size), random);
+                assertEquals(2 * size - 2, played.matches);
+                assertFalse(played.beatenBeforeDrop.isEmpty());
+                for (Map.Entry<Long, Long> drop : played.beatenBeforeDrop.entrySet()) {
+                    assertNotEquals(drop.getValue(), played.firstLosersOpponent.get(drop.getKey()),
+                            "size " + size + ": " + drop.getKey() + " meets " + drop.getValue() + " again");
+                }
+            }
+        }
+    }
+
+    @Test
+    void byesLeaveEmptySlotsInTheLosersBracket() {
+        // 5 players in 8 lines: seeds 1-3 get first-round BYEs, so only one first-round match produces a loser
+        DoubleEliminationLayout layout = DoubleEliminationLayout.of(8);
+        long[] lines = {1, 0, 4, 5, 3, 0, 0, 2};
+        DoubleEliminationLayout.Seating seating = layout.seat(lines);
+
+        int byes = 0;
+        for (int p = 0; p < 4; p++) {
+            int i = layout.indexOf(EliminationBracket.WINNERS, 1, p);
+            if (seating.isBye(i)) {
+                byes++;
+                assertEquals(MatchStatus.COMPLETED, seating.status(i));
+                assertNotEquals(BracketTopology.NONE, seating.winner(i));
+            }
+        }
+        assertEquals(3, byes);
+        // Losers round 1: both slots empty, and one live slot waiting for the loser of 4 v 5
+        int emptyLosers = layout.indexOf(EliminationBracket.LOSERS, 1, 1);
+        assertTrue(seating.isBye(emptyLosers));
+        assertEquals(MatchStatus.COMPLETED, seating.status(emptyLosers));
+        assertEquals(BracketTopology.NONE, seating.winner(emptyLosers));
+        int passThrough = layout.indexOf(EliminationBracket.LOSERS, 1, 0);
+        assertTrue(seating.isBye(passThrough));
+        assertEquals(MatchStatus.SCHEDULED, seating.status(passThrough));
+
+        Played played = play(layout, lines, new Random(3));
+        assertEquals(5, played.eliminated.size() + 1);
+    }
+
+    @Test
+    void twoPlayersStillGetASecondChance() {
+        DoubleEliminationLayout layout = DoubleEliminationLayout.of(DoubleEliminationLayout.MIN_SIZE);
+        Played played = play(layout, new long[]{1, 0, 0, 2}, new Random(1));
+        // Winners final, then the grand final between the same two
+        assertEquals(2, played.games);
+    }
+
+    private static long[] full(int size) {
+        long[] lines = new long[size];
+        for (int k = 0; k < size; k++) lines[k] = k + 1;
+        return lines;
+    }
+
+    // Plays the draw out with random winners, following the routing tables the way recordResult follows the links
+    private static Played play(DoubleEliminationLayout layout, long[] lines, Random random) {
+        DoubleEliminationLayout.Seating seating = layout.seat(lines);
+        int count = layout.matchCount();
+        long[][] slots = new long[count][2];
+        long[] winner = new long[count];
+        for (int i = 0; i < count; i++) {
+            slots[i][0] = seating.participant1(i);
+            slots[i][1] = seating.participant2(i);
+            winner[i] = seating.winner(i);
+        }
+        Played played = new Played();
+        for (int i = 0; i < count; i++) {
+            played.matches++;
+            long a = slots[i][0];
+            long b = slots[i][1];
+            long w;
+            long l = BracketTopology.NONE;
+            if (seating.isBye(i)) {
+                w = winner[i] != BracketTopology.NONE ? winner[i] : (a != BracketTopology.NONE ? a : b);
+            } else {
+                assertNotEquals(BracketTopology.NONE, a, "match " + i + " is missing participant1");
+                assertNotEquals(BracketTopology.NONE, b, "match " + i + " is missing participant2");
+                played.games++;
+                w = random.nextBoolean() ? a : b;
+                l = w == a ? b : a;
+                if (layout.bracket(i) == EliminationBracket.WINNERS) {
+                    // The winners final loser goes straight to the losers final, where a rematch cannot be helped
+                    Long beatenByLoser = played.lastBeaten.get(l);
+                    if (beatenByLoser != null && layout.round(i) < layout.winnersRounds()) played.beatenBeforeDrop.put(l, beatenByLoser);
+                    played.lastBeaten.put(w, l);
+                } else if (layout.bracket(i) == EliminationBracket.LOSERS) {
+                    played.firstLosersOpponent.putIfAbsent(a, b);
+                    played.firstLosersOpponent.putIfAbsent(b, a);
+                }
+            }
+            if (w != BracketTopology.NONE && layout.winnerTo(i) != DoubleEliminationLayout.NONE) {
+                slots[layout.winnerTo(i)][layout.winnerAdvancesAs(i) - 1] = w;
+            }
+            if (l == BracketTopology.NONE) continue;
+            if (layout.loserTo(i) != DoubleEliminationLayout.NONE) {
+                slots[layout.loserTo(i)][layout.loserAdvancesAs(i) - 1] = l;
+            } else {
+                assertTrue(played.eliminated.add(l), "player " + l + " eliminated twice");
+            }
+        }
+        return played;
+    }
+
+    private static final class Played {
+        int matches;
+        int games;
+        final Set<Long> eliminated = new HashSet<>();
+        final Map<Long, Long> lastBeaten = new HashMap<>();
+        final Map<Long, Long> beatenBeforeDrop = new HashMap<>();
+        final Map<Long, Long> firstLosersOpponent = new HashMap<>();
+    }
+}
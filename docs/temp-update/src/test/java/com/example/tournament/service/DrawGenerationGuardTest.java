@@ -0,0 +1,100 @@
+package com.example.tournament.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DrawGenerationGuardTest {
+
+    private final DrawGenerationGuard guard = new DrawGenerationGuard(null);
+
+    @Test
+    void identicalConcurrentRequests_shareOneRun_andDifferentOnesGet409() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = pool.submit(() -> guard.run(7L, "SE|1", () -> {
+                runs.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "bracket";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> second = new CompletableFuture<>();
+            Thread waiter = new Thread(() -> second.complete(guard.run(7L, "SE|1", () -> {
+                runs.incrementAndGet();
+                return "other";
+            })));
+            waiter.start();
+            while (waiter.getState() != Thread.State.WAITING) Thread.sleep(1); // parked on the first run
+
+            assertThrows(DrawInProgressException.class, () -> guard.run(7L, "RR|1", () -> "rr"));
+            // Another category is not affected
+            assertEquals("x", guard.run(8L, "RR|1", () -> "x"));
+
+            release.countDown();
+            assertEquals("bracket", first.get(5, TimeUnit.SECONDS));
+            assertEquals("bracket", second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, runs.get());
+            // Finished runs leave nothing behind
+            assertEquals("next", guard.run(7L, "RR|1", () -> "next"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failure_isSharedAndReleasesTheCategory() {
+        IllegalStateException boom = new IllegalStateException("Bracket already exists");
+        assertSame(boom, assertThrows(IllegalStateException.class, () -> guard.run(3L, "SE|1", () -> { throw boom; })));
+        assertEquals("ok", guard.run(3L, "SE|1", () -> "ok"));
+    }
+
+    @Test
+    void anErrorInTheRun_isPassedToWaiters_insteadOfLeavingThemBlocked() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StackOverflowError overflow = new StackOverflowError();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = pool.submit(() -> guard.run(4L, "SE|1", () -> {
+                started.countDown();
+                await(release);
+                throw overflow;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Throwable> second = new CompletableFuture<>();
+            Thread waiter = new Thread(() -> {
+                try {
+                    guard.run(4L, "SE|1", () -> "other");
+                    second.complete(null);
+                } catch (Throwable t) {
+                    second.complete(t);
+                }
+            });
+            waiter.start();
+            while (waiter.getState() != Thread.State.WAITING) Thread.sleep(1); // parked on the first run
+
+            release.countDown();
+            ExecutionException thrown = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertSame(overflow, thrown.getCause());
+            assertSame(overflow, second.get(5, TimeUnit.SECONDS));
+            assertEquals("ok", guard.run(4L, "SE|1", () -> "ok"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.BracketSummaryResponse;
+import com.example.tournament.api.dto.DrawJobDto;
+import com.example.tournament.api.dto.RoundRobinSummaryResponse;
+import com.example.tournament.domain.Category;
+import com.example.tournament.domain.TournamentFormat;
+import com.example.tournament.repository.CategoryRepository;
+import com.example.tournament.repository.RegistrationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class DrawJobServiceTest {
+
+    private CategoryRepository categoryRepo;
+    private RegistrationRepository registrationRepo;
+    private BracketService bracketService;
+    private DrawJobService service;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepo = mock(CategoryRepository.class);
+        registrationRepo = mock(RegistrationRepository.class);
+        bracketService = mock(BracketService.class);
+        service = new DrawJobService(categoryRepo, registrationRepo, new DrawGenerationGuard(bracketService), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void generateAll_runsEachCategoryAndReportsFailuresPerCategory() throws Exception {
+        Long tournamentId = 5L;
+        Category ok = category(1L, TournamentFormat.SINGLE_ELIMINATION);
+        Category broken = category(2L, TournamentFormat.SINGLE_ELIMINATION);
+        Category roundRobin = category(3L, TournamentFormat.ROUND_ROBIN);
+        when(categoryRepo.findByTournamentIdOrderByIdAsc(tournamentId)).thenReturn(List.of(ok, broken, roundRobin));
+        when(registrationRepo.countByCategoryForTournament(tournamentId))
+                .thenReturn(List.of(new Object[]{1L, 8L}, new Object[]{2L, 3L}));
+        BracketSummaryResponse resp = new BracketSummaryResponse();
+        resp.setMatches(new ArrayList<>(Collections.nCopies(7, null)));
+        when(bracketService.generateSingleElimination(eq(tournamentId), eq(1L), any())).thenReturn(resp);
+        when(bracketService.generateSingleElimination(eq(tournamentId), eq(2L), any()))
+                .thenThrow(new IllegalStateException("Bracket already exists"));
+        RoundRobinSummaryResponse rr = new RoundRobinSummaryResponse();
+        rr.setTotalMatches(3);
+        when(bracketService.generateRoundRobin(eq(tournamentId), eq(3L), any())).thenReturn(rr);
+
+        String jobId = service.generateAll(tournamentId, false).getJobId();
+        DrawJobDto job = service.getJob(jobId);
+        for (int i = 0; i < 500 && "RUNNING".equals(job.getStatus()); i++) {
+            Thread.sleep(10);
+            job = service.getJob(jobId);
+        }
+
+        assertEquals("COMPLETED_WITH_ERRORS", job.getStatus());
+        assertEquals(3, job.getCompleted());
+        assertEquals(1, job.getFailed());
+        Map<Long, DrawJobDto.CategoryProgress> byId = new HashMap<>();
+        for (DrawJobDto.CategoryProgress p : job.getCategories()) byId.put(p.getCategoryId(), p);
+        assertEquals("COMPLETED", byId.get(1L).getStatus());
+        assertEquals(7, byId.get(1L).getMatches());
+        assertEquals(8, byId.get(1L).getParticipants());
+        assertEquals("FAILED", byId.get(2L).getStatus());
+        assertEquals("Bracket already exists", byId.get(2L).getError());
+        assertEquals("COMPLETED", byId.get(3L).getStatus());
+        assertEquals(3, byId.get(3L).getMatches());
+        verify(bracketService, never()).generateSingleElimination(eq(tournamentId), eq(3L), any());
+    }
+
+    @Test
+    void getJob_unknownIdIsNotFound() {
+        assertThrows(NoSuchElementException.class, () -> service.getJob("missing"));
+    }
+
+    private static Category category(Long id, TournamentFormat format) {
+        Category c = new Category();
+        c.setFormat(format);
+        try {
+            var f = Category.class.getDeclaredField("id");
+            f.setAccessible(true);
+            f.set(c, id);
+        } catch (Exception ignored) {}
+        return c;
+    }
+}
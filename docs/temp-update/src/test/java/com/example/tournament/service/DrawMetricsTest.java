@@ -0,0 +1,102 @@
+package com.example.tournament.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DrawMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void recordsStagesAndCountsTaggedBySizeBucket() {
+        DrawMetrics metrics = new DrawMetrics(registry, Duration.ofMinutes(1), true);
+        try (DrawMetrics.Recording rec = metrics.start(DrawMetrics.GENERATE, 5L)) {
+            DrawMetrics.repositoryCall();
+            DrawMetrics.sqlStatement();
+            rec.stage("load_registrations");
+            rec.matches(31);
+            rec.stage("persist");
+            rec.complete();
+        }
+        assertEquals(1, registry.find("bracket.stage").tag("stage", "persist").tag("size", "9-64").timer().count());
+        assertEquals(1, registry.find("bracket.operation").tag("outcome", "success").timer().count());
+        assertEquals(1.0, registry.find("bracket.sql.statements").tag("operation", "generate").summary().totalAmount());
+        assertTrue(metrics.recentSlowDraws().isEmpty());
+    }
+
+    @Test
+    void countsAreNotRegisteredUnlessEnabled() {
+        DrawMetrics metrics = new DrawMetrics(registry, Duration.ofMinutes(1), false);
+        read(metrics);
+        assertEquals(1, registry.find("bracket.operation").tag("operation", "read").timer().count());
+        assertNull(registry.find("bracket.repository.calls").summary());
+        assertNull(registry.find("bracket.sql.statements").summary());
+    }
+
+    @Test
+    void nestedRecordingRollsIntoTheOuterOne() {
+        DrawMetrics metrics = new DrawMetrics(registry, Duration.ofMinutes(1), true);
+        try (DrawMetrics.Recording outer = metrics.start(DrawMetrics.GENERATE, 5L)) {
+            try (DrawMetrics.Recording inner = metrics.start(DrawMetrics.DELETE_DRAFT, 5L)) {
+                DrawMetrics.repositoryCall();
+                DrawMetrics.repositoryCall();
+                inner.complete();
+            }
+            DrawMetrics.repositoryCall();
+        }
+        assertEquals(2.0, registry.find("bracket.repository.calls").tag("operation", "delete_draft").summary().totalAmount());
+        assertEquals(3.0, registry.find("bracket.repository.calls").tag("operation", "generate").summary().totalAmount());
+        assertEquals(1, registry.find("bracket.operation").tag("operation", "generate").tag("outcome", "error").timer().count());
+        // Closed: nothing is attributed any more
+        DrawMetrics.repositoryCall();
+        assertEquals(3.0, registry.find("bracket.repository.calls").tag("operation", "generate").summary().totalAmount());
+    }
+
+    @Test
+    void repeatedCallsRecordIntoTheSameMeters() {
+        DrawMetrics metrics = new DrawMetrics(registry, Duration.ofMinutes(1), true);
+        read(metrics);
+        int registered = registry.getMeters().size();
+        read(metrics);
+        read(metrics);
+        assertEquals(registered, registry.getMeters().size());
+        assertEquals(3, registry.find("bracket.stage").tag("stage", "cache_hit").tag("size", "0-8").timer().count());
+        assertEquals(3, registry.find("bracket.repository.calls").tag("operation", "read").summary().count());
+    }
+
+    @Test
+    void keepsTheBreakdownOfSlowCalls() {
+        DrawMetrics metrics = new DrawMetrics(registry, Duration.ZERO, true);
+        for (int i = 0; i < DrawMetrics.RECENT_SLOW_DRAWS + 3; i++) {
+            try (DrawMetrics.Recording rec = metrics.start(DrawMetrics.READ, (long) i)) {
+                rec.stage("load_matches");
+                rec.stage("render_json");
+                rec.complete();
+            }
+        }
+        assertEquals(DrawMetrics.RECENT_SLOW_DRAWS, metrics.recentSlowDraws().size());
+        DrawMetrics.SlowDraw last = metrics.recentSlowDraws().get(DrawMetrics.RECENT_SLOW_DRAWS - 1);
+        assertEquals(Long.valueOf(DrawMetrics.RECENT_SLOW_DRAWS + 2), last.categoryId);
+        assertEquals(2, last.stageMillis.size());
+    }
+
+    private static void read(DrawMetrics metrics) {
+        try (DrawMetrics.Recording rec = metrics.start(DrawMetrics.READ, 5L)) {
+            rec.stage("cache_hit");
+            rec.matches(7);
+            rec.complete();
+        }
+    }
+
+    @Test
+    void bucketsByMatchCount() {
+        assertEquals("unknown", DrawMetrics.sizeBucket(-1));
+        assertEquals("0-8", DrawMetrics.sizeBucket(7));
+        assertEquals("65-512", DrawMetrics.sizeBucket(511));
+        assertEquals("4097+", DrawMetrics.sizeBucket(10_000));
+    }
+}
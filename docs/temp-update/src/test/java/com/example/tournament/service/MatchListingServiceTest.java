@@ -0,0 +1,113 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.MatchListItemDto;
+import com.example.tournament.api.dto.MatchPageResponse;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.repository.MatchListingOperations;
+import com.example.tournament.repository.MatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class MatchListingServiceTest {
+
+    private MatchRepository matchRepo;
+    private MatchListingService service;
+
+    @BeforeEach
+    void setUp() {
+        matchRepo = mock(MatchRepository.class);
+        service = new MatchListingService(matchRepo, new ObjectMapper());
+    }
+
+    @Test
+    void page_fetchesOneExtraRow_andPointsTheCursorAtTheLastRowReturned() {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(3L, null, null, MatchStatus.SCHEDULED);
+        when(matchRepo.findMatchPage(filter, null, null, 3)).thenReturn(List.of(row(3L, 10L), row(3L, 11L), row(3L, 12L)));
+
+        MatchPageResponse page = service.page(filter, null, 2);
+
+        assertEquals(List.of(10L, 11L), ids(page));
+        assertEquals(MatchListingService.encodeCursor(3L, 11L), page.getNextCursor());
+    }
+
+    @Test
+    void page_seeksAfterTheCursorKey_withTheSameFilter() {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(null, 7L, 2L, null);
+        // The cursor spans tournaments, so both key columns must reach the query
+        when(matchRepo.findMatchPage(filter, 4L, 99L, 3)).thenReturn(List.of(row(4L, 120L), row(5L, 8L)));
+
+        MatchPageResponse page = service.page(filter, MatchListingService.encodeCursor(4L, 99L), 2);
+
+        assertEquals(List.of(120L, 8L), ids(page));
+        assertNull(page.getNextCursor(), "no extra row means this is the last page");
+    }
+
+    @Test
+    void page_walksTheWholeListingWithoutGapsOrRepeats() {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(null, null, null, null);
+        when(matchRepo.findMatchPage(filter, null, null, 3)).thenReturn(List.of(row(1L, 1L), row(1L, 2L), row(2L, 1L)));
+        when(matchRepo.findMatchPage(filter, 1L, 2L, 3)).thenReturn(List.of(row(2L, 1L), row(2L, 5L), row(2L, 6L)));
+        when(matchRepo.findMatchPage(filter, 2L, 5L, 3)).thenReturn(List.of(row(2L, 6L)));
+
+        MatchPageResponse first = service.page(filter, null, 2);
+        MatchPageResponse second = service.page(filter, first.getNextCursor(), 2);
+        MatchPageResponse third = service.page(filter, second.getNextCursor(), 2);
+
+        assertEquals(List.of(1L, 2L), ids(first));
+        assertEquals(List.of(1L, 5L), ids(second));
+        assertEquals(Long.valueOf(2L), second.getItems().get(0).getTournamentId());
+        assertEquals(List.of(6L), ids(third));
+        assertNull(third.getNextCursor());
+    }
+
+    @Test
+    void page_emptyResult_hasNoItemsAndNoCursor() {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(9L, null, null, MatchStatus.COMPLETED);
+        when(matchRepo.findMatchPage(filter, null, null, MatchListingService.DEFAULT_PAGE_SIZE + 1)).thenReturn(List.of());
+
+        MatchPageResponse page = service.page(filter, "", null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void page_rejectsOutOfRangeLimits() {
+        MatchListingOperations.Filter filter = new MatchListingOperations.Filter(null, null, null, null);
+        assertThrows(IllegalArgumentException.class, () -> service.page(filter, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.page(filter, null, MatchListingService.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> service.page(filter, "%%%", 10));
+    }
+
+    @Test
+    void cursor_roundTripsTheKeysetPosition() {
+        String cursor = MatchListingService.encodeCursor(12L, 987654321L);
+        long[] key = MatchListingService.decodeCursor(cursor);
+        assertEquals(12L, key[0]);
+        assertEquals(987654321L, key[1]);
+    }
+
+    @Test
+    void malformedCursor_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MatchListingService.decodeCursor("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> MatchListingService.decodeCursor(
+                MatchListingService.encodeCursor(1L, 2L).substring(1)));
+    }
+
+    private static MatchListItemDto row(long tournamentId, long id) {
+        MatchListItemDto d = new MatchListItemDto();
+        d.setTournamentId(tournamentId);
+        d.setId(id);
+        return d;
+    }
+
+    private static List<Long> ids(MatchPageResponse page) {
+        return page.getItems().stream().map(MatchListItemDto::getId).toList();
+    }
+}
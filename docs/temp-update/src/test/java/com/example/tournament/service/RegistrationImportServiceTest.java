@@ -0,0 +1,124 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.RegistrationImportResponse;
+import com.example.tournament.domain.Category;
+import com.example.tournament.repository.CategoryRepository;
+import com.example.tournament.repository.RegistrationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RegistrationImportServiceTest {
+
+    private CategoryRepository categoryRepo;
+    private RegistrationRepository registrationRepo;
+    private RegistrationImportService service;
+    private Category category;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        categoryRepo = mock(CategoryRepository.class);
+        registrationRepo = mock(RegistrationRepository.class);
+        service = new RegistrationImportService(categoryRepo, registrationRepo);
+        category = new Category();
+        var f = Category.class.getDeclaredField("id");
+        f.setAccessible(true);
+        f.set(category, 7L);
+        when(categoryRepo.findByIdAndTournamentIdForUpdate(7L, 1L)).thenReturn(Optional.of(category));
+        when(registrationRepo.allocatePlayerIds(anyInt())).thenAnswer(inv -> {
+            long[] ids = new long[(int) inv.getArgument(0)];
+            for (int i = 0; i < ids.length; i++) ids[i] = 10_000 + i;
+            return ids;
+        });
+        when(registrationRepo.insertRegistrations(anyLong(), anyLong(), anyString(), any(long[].class))).thenAnswer(inv -> {
+            int[] counts = new int[((long[]) inv.getArgument(3)).length];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+    }
+
+    @Test
+    void importsInChunksWithConstantRoundTripsPerChunk() {
+        StringBuilder csv = new StringBuilder("First Name,Last Name,Gender,Phone\n");
+        int rows = 2 * RegistrationImportService.CHUNK_SIZE + 1;
+        for (int i = 0; i < rows; i++) csv.append("P,").append(i).append(",M,+91-").append(i).append('\n');
+
+        RegistrationImportResponse resp = service.importCsv(1L, 7L, stream(csv.toString()));
+
+        assertEquals(rows, resp.getRowsRead());
+        assertEquals(rows, resp.getImported());
+        assertEquals(rows, resp.getPlayersCreated());
+        assertEquals(0, resp.getFailed());
+        verify(registrationRepo, times(3)).findPlayerIdsByPhone(anyCollection());
+        verify(registrationRepo, times(3)).allocatePlayerIds(anyInt());
+        verify(registrationRepo, times(3)).insertPlayers(anyList());
+        verify(registrationRepo, times(3)).insertRegistrations(eq(1L), eq(7L), eq("SINGLES"), any(long[].class));
+        verify(registrationRepo, never()).save(any());
+    }
+
+    @Test
+    void reportsRowsThatCannotBeRegistered() {
+        when(registrationRepo.findExistingPlayerIds(anyCollection())).thenReturn(Set.of(5L, 6L));
+        when(registrationRepo.findPlayerIdsByPhone(anyCollection())).thenReturn(Map.of("111", List.of(5L), "222", List.of(8L, 9L)));
+        when(registrationRepo.findRegisteredPlayerIds(eq(7L), anyCollection())).thenReturn(Set.of(6L));
+        String csv = "playerId,firstName,lastName,phone\n"
+                + "5,,,\n"          // line 2: existing player
+                + "6,,,\n"          // line 3: already registered
+                + "99,,,\n"         // line 4: unknown player
+                + "abc,,,\n"        // line 5: not a number
+                + ",Ann,Lee,111\n"  // line 6: phone of player 5, already in this import
+                + ",Bob,Roy,222\n"  // line 7: ambiguous phone
+                + ",,,333\n"        // line 8: unknown phone and no name
+                + ",Cy,Dee,\n";     // line 9: new player
+
+        RegistrationImportResponse resp = service.importCsv(1L, 7L, stream(csv));
+
+        assertEquals(8, resp.getRowsRead());
+        assertEquals(2, resp.getImported());
+        assertEquals(1, resp.getPlayersCreated());
+        assertEquals(6, resp.getFailed());
+        List<Integer> lines = new ArrayList<>();
+        for (RegistrationImportResponse.RowError e : resp.getErrors()) lines.add(e.getLine());
+        Collections.sort(lines);
+        assertEquals(List.of(3, 4, 5, 6, 7, 8), lines);
+        verify(registrationRepo).insertRegistrations(eq(1L), eq(7L), eq("SINGLES"), eq(new long[]{5L, 10_000L}));
+    }
+
+    @Test
+    void stopsAtTheCategoryLimit() {
+        category.setMaxParticipants(3);
+        when(registrationRepo.countRegistrations(7L)).thenReturn(2L);
+
+        RegistrationImportResponse resp = service.importCsv(1L, 7L, stream("firstName,lastName\nA,B\nC,D\n"));
+
+        assertEquals(1, resp.getImported());
+        assertEquals("Category is full", resp.getErrors().get(0).getMessage());
+        assertEquals(3, resp.getErrors().get(0).getLine());
+    }
+
+    @Test
+    void reportsRowsRegisteredConcurrentlyAsDuplicates() {
+        when(registrationRepo.findExistingPlayerIds(anyCollection())).thenReturn(Set.of(5L, 6L));
+        // Player 6 was registered after the lookup: the insert skips its row
+        when(registrationRepo.insertRegistrations(anyLong(), anyLong(), anyString(), any(long[].class))).thenReturn(new int[]{1, 0});
+
+        RegistrationImportResponse resp = service.importCsv(1L, 7L, stream("playerId\n5\n6\n"));
+
+        assertEquals(1, resp.getImported());
+        assertEquals(1, resp.getFailed());
+        assertEquals(3, resp.getErrors().get(0).getLine());
+        assertEquals("Player 6 is already registered in this category", resp.getErrors().get(0).getMessage());
+        verify(categoryRepo, never()).findByIdAndTournamentId(anyLong(), anyLong());
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
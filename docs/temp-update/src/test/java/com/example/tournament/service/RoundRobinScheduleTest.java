@@ -0,0 +1,50 @@
+package com.example.tournament.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoundRobinScheduleTest {
+
+    @Test
+    void everyPairMeetsOnce_andNobodyPlaysTwiceInARound() {
+        for (int k = 2; k <= 13; k++) {
+            long[] regs = new long[k];
+            for (int i = 0; i < k; i++) regs[i] = 100 + i;
+            Set<String> pairs = new HashSet<>();
+            Map<Integer, Set<Long>> busy = new HashMap<>();
+            int[] maxRound = {0};
+            RoundRobinSchedule.of(regs, 1).forEachFixture((g, r, pos, p1, p2) -> {
+                assertEquals(1, g);
+                assertNotEquals(p1, p2);
+                assertTrue(pairs.add(Math.min(p1, p2) + "-" + Math.max(p1, p2)), "pair repeated");
+                Set<Long> playing = busy.computeIfAbsent(r, x -> new HashSet<>());
+                assertTrue(playing.add(p1) && playing.add(p2), "participant twice in round " + r);
+                maxRound[0] = Math.max(maxRound[0], r);
+            });
+            assertEquals(RoundRobinSchedule.fixturesFor(k), pairs.size());
+            assertEquals(RoundRobinSchedule.roundsFor(k), maxRound[0]);
+        }
+    }
+
+    @Test
+    void groups_areBalanced_andSeedsSpreadSerpentine() {
+        long[] ordered = new long[10];
+        for (int i = 0; i < 10; i++) ordered[i] = i + 1; // 1..4 are the top seeds
+        RoundRobinSchedule schedule = RoundRobinSchedule.of(ordered, 4);
+        assertEquals(4, schedule.groupCount());
+        assertArrayEquals(new long[]{1, 8, 9}, schedule.group(0));
+        assertArrayEquals(new long[]{2, 7, 10}, schedule.group(1));
+        assertArrayEquals(new long[]{3, 6}, schedule.group(2));
+        assertArrayEquals(new long[]{4, 5}, schedule.group(3));
+        assertEquals(3 + 3 + 1 + 1, schedule.totalFixtures());
+    }
+
+    @Test
+    void rejectsGroupsThatCannotHoldTwoParticipants() {
+        assertThrows(IllegalArgumentException.class, () -> RoundRobinSchedule.of(new long[]{1, 2, 3}, 2));
+        assertThrows(IllegalArgumentException.class, () -> RoundRobinSchedule.of(new long[]{1, 2}, 0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.tournament.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScheduleOptimizerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 10, 26, 9, 0);
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void shortMatchesFirst_isImprovedToBalancedCourts() {
+        SchedulePlanner planner = new SchedulePlanner(new long[]{1L, 2L}, 0, 9 * 60);
+        List<SchedulePlanner.Item> items = List.of(
+                item(1, 30, new long[]{10, 11}, null), item(2, 30, new long[]{12, 13}, null),
+                item(3, 60, new long[]{14, 15}, null), item(4, 60, new long[]{16, 17}, null),
+                item(5, 60, new long[]{18, 19}, null));
+        ScheduleTimeline base = new ScheduleTimeline(DAY, 0, SchedulePlanner.PLAYER_GAP_MINUTES);
+
+        ScheduleOptimizer.Result result = new ScheduleOptimizer(planner, pool)
+                .optimize(items, base, Map.of(), Map.of(), 500, 42L);
+
+        // Greedy ends at 150 (30,60,60 | 30,60); the best split is 60,60 | 60,30,30
+        assertEquals(120, result.plan.lastEnd());
+        assertTrue(result.score < result.greedyScore);
+        assertEquals(5, result.plan.size());
+        assertTrue(base.courtFree(1L, 0, 540), "base timeline must not be touched");
+    }
+
+    @Test
+    void optimizedPlan_keepsFeederOrderAndPlayerGap() {
+        SchedulePlanner planner = new SchedulePlanner(new long[]{1L, 2L, 3L}, 0, 12 * 60);
+        List<SchedulePlanner.Item> items = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) items.add(item(i, 45, new long[]{100 + i, 200 + i}, (long) (9 + (i - 1) / 2)));
+        for (int i = 9; i <= 12; i++) items.add(item(i, 45, new long[]{100 + (i - 9) * 2 + 1, 300 + i}, (long) (13 + (i - 9) / 2)));
+        items.add(item(13, 45, new long[]{101, 400}, 15L));
+        items.add(item(14, 45, new long[]{105, 401}, 15L));
+        items.add(item(15, 45, new long[]{101, 105}, null));
+        Map<Long, List<Long>> feeders = SchedulePlanner.feedersOf(items, Map.of());
+        ScheduleTimeline base = new ScheduleTimeline(DAY, 15, SchedulePlanner.PLAYER_GAP_MINUTES);
+
+        ScheduleOptimizer.Result result = new ScheduleOptimizer(planner, pool)
+                .optimize(items, base, Map.of(), feeders, 300, 7L);
+
+        SchedulePlanner.Plan plan = result.plan;
+        assertEquals(items.size(), plan.size());
+        assertTrue(result.score <= result.greedyScore);
+        for (SchedulePlanner.Item it : items) {
+            if (it.nextMatchId != null) {
+                assertTrue(plan.startOf(it.nextMatchId) >= plan.endOf(it.matchId) + 15, "feeder " + it.matchId);
+            }
+        }
+        // Replaying the chosen placements on a fresh timeline must never hit a conflict
+        ScheduleTimeline check = new ScheduleTimeline(DAY, 15, SchedulePlanner.PLAYER_GAP_MINUTES);
+        List<Long> byStart = new ArrayList<>(plan.matchIds());
+        byStart.sort(Comparator.comparingInt(plan::startOf));
+        Map<Long, SchedulePlanner.Item> byId = new HashMap<>();
+        for (SchedulePlanner.Item it : items) byId.put(it.matchId, it);
+        for (Long id : byStart) {
+            SchedulePlanner.Item it = byId.get(id);
+            assertTrue(check.fits(plan.courtOf(id), it.playerIds, plan.startOf(id), plan.endOf(id)), "match " + id);
+            check.book(plan.courtOf(id), it.playerIds, plan.startOf(id), plan.endOf(id));
+        }
+    }
+
+    private static SchedulePlanner.Item item(long id, int duration, long[] players, Long next) {
+        return new SchedulePlanner.Item(id, 1, 1L, (int) id, next, duration, players);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.tournament.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchedulePlannerTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2025, 10, 26, 9, 0);
+
+    @Test
+    void samePlayer_keepsPlayerGap_andCourtKeepsBuffer() {
+        ScheduleTimeline timeline = new ScheduleTimeline(DAY, 15, SchedulePlanner.PLAYER_GAP_MINUTES);
+        SchedulePlanner planner = new SchedulePlanner(new long[]{1L}, 0, 9 * 60);
+        List<SchedulePlanner.Item> items = List.of(
+                item(1, 1, new long[]{10, 11}, null),
+                item(2, 1, new long[]{10, 12}, null));
+
+        SchedulePlanner.Plan plan = planner.plan(items, timeline, Map.of(), SchedulePlanner.feedersOf(items, Map.of()));
+
+        assertEquals(0, plan.startOf(1));
+        // 45 min match + 30 min player gap, rounded up to the 15-minute grid
+        assertEquals(75, plan.startOf(2));
+    }
+
+    @Test
+    void laterRound_waitsForFeedersPlusBuffer_includingAlreadyScheduledOnes() {
+        ScheduleTimeline timeline = new ScheduleTimeline(DAY, 15, SchedulePlanner.PLAYER_GAP_MINUTES);
+        timeline.book(2L, new long[]{20, 21}, 0, 100); // existing match 99 on court 2, ends at minute 100
+        SchedulePlanner planner = new SchedulePlanner(new long[]{1L, 2L}, 0, 9 * 60);
+        List<SchedulePlanner.Item> items = List.of(
+                item(1, 1, new long[]{10, 11}, 3L),
+                item(3, 2, new long[0], null));
+
+        SchedulePlanner.Plan plan = planner.plan(items, timeline, Map.of(99L, 100),
+                SchedulePlanner.feedersOf(items, Map.of(99L, 3L)));
+
+        assertEquals(0, plan.startOf(1));
+        assertEquals(1L, plan.courtOf(1));
+        assertEquals(120, plan.startOf(3)); // 100 + 15 buffer, next slot
+    }
+
+    @Test
+    void matchThatDoesNotFitTheWindow_isReportedUnplaced() {
+        ScheduleTimeline timeline = new ScheduleTimeline(DAY, 15, SchedulePlanner.PLAYER_GAP_MINUTES);
+        SchedulePlanner planner = new SchedulePlanner(new long[]{1L}, 0, 60);
+        List<SchedulePlanner.Item> items = List.of(item(1, 1, new long[]{10, 11}, null), item(2, 1, new long[]{12, 13}, null));
+        SchedulePlanner.Plan plan = planner.plan(items, timeline, Map.of(), Map.of());
+        assertEquals(1, plan.size());
+        assertEquals(List.of(2L), plan.unplacedMatchIds());
+    }
+
+    @Test
+    void busyDay_300Matches12Courts_hasNoConflicts() {
+        int courts = 12;
+        long[] courtIds = new long[courts];
+        for (int c = 0; c < courts; c++) courtIds[c] = c + 1;
+        ScheduleTimeline timeline = new ScheduleTimeline(DAY, 15, SchedulePlanner.PLAYER_GAP_MINUTES);
+        SchedulePlanner planner = new SchedulePlanner(courtIds, 0, 24 * 60);
+        Random rnd = new Random(7);
+        List<SchedulePlanner.Item> items = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            long p1 = rnd.nextInt(200);
+            long p2 = (p1 + 1 + rnd.nextInt(199)) % 200;
+            items.add(new SchedulePlanner.Item(i + 1, 1 + i / 100, 1L, i, null, 30, new long[]{p1, p2}));
+        }
+        items.sort(SchedulePlanner.BRACKET_ORDER);
+
+        SchedulePlanner.Plan plan = planner.plan(items, timeline, Map.of(), Map.of());
+
+        assertEquals(300, plan.size());
+        for (int a = 0; a < items.size(); a++) {
+            for (int b = a + 1; b < items.size(); b++) {
+                SchedulePlanner.Item x = items.get(a), y = items.get(b);
+                int xs = plan.startOf(x.matchId), xe = plan.endOf(x.matchId);
+                int ys = plan.startOf(y.matchId), ye = plan.endOf(y.matchId);
+                if (plan.courtOf(x.matchId) == plan.courtOf(y.matchId)) {
+                    assertTrue(xe + 15 <= ys || ye + 15 <= xs, "court overlap");
+                }
+                if (sharePlayer(x, y)) {
+                    assertTrue(xe + SchedulePlanner.PLAYER_GAP_MINUTES <= ys || ye + SchedulePlanner.PLAYER_GAP_MINUTES <= xs, "player gap");
+                }
+            }
+        }
+    }
+
+    private static boolean sharePlayer(SchedulePlanner.Item x, SchedulePlanner.Item y) {
+        for (long p : x.playerIds) for (long q : y.playerIds) if (p == q) return true;
+        return false;
+    }
+
+    private static SchedulePlanner.Item item(long id, int round, long[] players, Long next) {
+        return new SchedulePlanner.Item(id, round, 1L, (int) id, next, SchedulePlanner.DEFAULT_DURATION_MINUTES, players);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.tournament.service;
+
+import com.example.tournament.api.dto.StandingDto;
+import com.example.tournament.api.dto.StandingsResponse;
+import com.example.tournament.domain.Match;
+import com.example.tournament.domain.MatchStatus;
+import com.example.tournament.domain.Standing;
+import com.example.tournament.repository.MatchRepository;
+import com.example.tournament.repository.StandingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StandingsServiceTest {
+
+    private StandingRepository standingRepo;
+    private MatchRepository matchRepo;
+    private StandingsService service;
+
+    @BeforeEach
+    void setUp() {
+        standingRepo = mock(StandingRepository.class);
+        matchRepo = mock(MatchRepository.class);
+        service = new StandingsService(standingRepo, matchRepo, 100);
+        when(standingRepo.applyDelta(any(), any(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+    }
+
+    @Test
+    void applyResult_writesOneRelativeUpdatePerParticipant_andReversesWithNegativeSign() {
+        Match m = groupMatch(101L, 102L, 101L, 2, 1);
+        service.applyResult(m, 1);
+        verify(standingRepo).applyDelta(9L, 1, 101L, 1, 1, 0, 2, 1, StandingsService.POINTS_PER_WIN);
+        verify(standingRepo).applyDelta(9L, 1, 102L, 1, 0, 1, 1, 2, 0);
+
+        service.applyResult(m, -1);
+        verify(standingRepo).applyDelta(9L, 1, 101L, -1, -1, 0, -2, -1, -StandingsService.POINTS_PER_WIN);
+        verify(standingRepo).applyDelta(9L, 1, 102L, -1, 0, -1, -1, -2, 0);
+    }
+
+    @Test
+    void getStandings_sortsOncePerGroup_andOnlyReloadsTheGroupAResultTouched() {
+        when(standingRepo.findGroupNumbers(9L)).thenReturn(List.of(1, 2));
+        when(standingRepo.findByCategoryIdAndGroupNumber(9L, 1)).thenReturn(List.of(row(1, 101L, 1, 3, 4), row(1, 102L, 2, 4, 3)));
+        when(standingRepo.findByCategoryIdAndGroupNumber(9L, 2)).thenReturn(List.of(row(2, 201L, 0, 0, 0)));
+
+        StandingsResponse first = service.getStandings(9L);
+        List<StandingDto> group1 = first.getGroups().get(0).getRows();
+        assertEquals(102L, group1.get(0).getRegistrationId());
+        assertEquals(1, group1.get(0).getRank());
+        service.getStandings(9L);
+        verify(standingRepo, times(1)).findGroupNumbers(9L);
+        verify(standingRepo, times(1)).findByCategoryIdAndGroupNumber(9L, 1);
+
+        service.applyResult(groupMatch(101L, 102L, 101L, 2, 0), 1);
+        service.getStandings(9L);
+        verify(standingRepo, times(2)).findByCategoryIdAndGroupNumber(9L, 1);
+        verify(standingRepo, times(1)).findByCategoryIdAndGroupNumber(9L, 2);
+    }
+
+    @Test
+    void tieBreak_pointsThenWinsThenGameDifferenceThenGamesWon() {
+        List<StandingDto> rows = new ArrayList<>(List.of(
+                dto(1L, 4, 2, 5, 3), dto(2L, 4, 2, 6, 3), dto(3L, 4, 2, 4, 1), dto(4L, 6, 3, 0, 9)));
+        rows.sort(StandingsService.TIE_BREAK);
+        assertEquals(List.of(4L, 2L, 3L, 1L), rows.stream().map(StandingDto::getRegistrationId).toList());
+    }
+
+    @Test
+    void rebuild_recomputesFromDecidedGroupMatches() {
+        Match decided = groupMatch(101L, 102L, 102L, 0, 2);
+        Match open = groupMatch(101L, 103L, null, null, null);
+        open.setStatus(MatchStatus.SCHEDULED);
+        when(matchRepo.findByCategoryIdOrderByRoundAscPositionAsc(9L)).thenReturn(List.of(decided, open));
+
+        StandingsResponse resp = service.rebuild(9L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Standing>> rows = ArgumentCaptor.forClass(List.class);
+        verify(standingRepo).deleteAllInCategory(9L);
+        verify(standingRepo).insertStandings(rows.capture());
+        assertEquals(3, rows.getValue().size());
+        StandingDto top = resp.getGroups().get(0).getRows().get(0);
+        assertEquals(102L, top.getRegistrationId());
+        assertEquals(1, top.getWins());
+        assertEquals(2, top.getGameDifference());
+    }
+
+    private static Match groupMatch(Long p1, Long p2, Long winner, Integer s1, Integer s2) {
+        Match m = new Match();
+        m.setCategoryId(9L);
+        m.setGroupNumber(1);
+        m.setRound(1);
+        m.setPosition(0);
+        m.setParticipant1RegistrationId(p1);
+        m.setParticipant2RegistrationId(p2);
+        m.setWinnerRegistrationId(winner);
+        m.setScore1(s1);
+        m.setScore2(s2);
+        m.setStatus(MatchStatus.COMPLETED);
+        return m;
+    }
+
+    private static Standing row(int group, Long regId, int wins, int gamesFor, int gamesAgainst) {
+        Standing s = new Standing();
+        s.setCategoryId(9L);
+        s.setGroupNumber(group);
+        s.setRegistrationId(regId);
+        s.setPlayed(wins);
+        s.setWins(wins);
+        s.setPoints(wins * StandingsService.POINTS_PER_WIN);
+        s.setGamesFor(gamesFor);
+        s.setGamesAgainst(gamesAgainst);
+        return s;
+    }
+
+    private static StandingDto dto(Long regId, int points, int wins, int gamesFor, int gamesAgainst) {
+        StandingDto d = new StandingDto();
+        d.setRegistrationId(regId);
+        d.setPoints(points);
+        d.setWins(wins);
+        d.setGamesFor(gamesFor);
+        d.setGamesAgainst(gamesAgainst);
+        return d;
+    }
+}
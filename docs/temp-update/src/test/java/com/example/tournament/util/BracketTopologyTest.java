@@ -0,0 +1,49 @@
+package com.example.tournament.util;
+
+import com.example.tournament.service.BracketTopology;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BracketTopologyTest {
+
+    @Test
+    void indexArithmetic_matchesRoundAndPosition() {
+        BracketTopology t = new BracketTopology(8);
+        assertEquals(3, t.rounds());
+        assertEquals(4, t.indexOf(1, 0));
+        assertEquals(1, t.indexOf(3, 0));
+        assertEquals(2, t.roundOf(3));
+        assertEquals(1, t.positionOf(3));
+        // round 1 position 3 -> round 2 position 1, second slot (same as SeedPlacementUtil.nextFor)
+        int i = t.indexOf(1, 3);
+        assertEquals(t.indexOf(2, 1), BracketTopology.parent(i));
+        assertEquals(2, BracketTopology.winnerAdvancesAs(i));
+    }
+
+    @Test
+    void assignIds_linksEachMatchToItsParent() {
+        BracketTopology t = new BracketTopology(4);
+        t.assignIds(new long[]{100, 101, 102});
+        assertEquals(102, t.nextMatchId(t.indexOf(1, 0)));
+        assertEquals(102, t.nextMatchId(t.indexOf(1, 1)));
+        assertEquals(BracketTopology.NONE, t.nextMatchId(1));
+    }
+
+    @Test
+    void advanceByes_seatsPresentParticipantInParentSlot() {
+        BracketTopology t = new BracketTopology(4);
+        t.seat(t.indexOf(1, 0), 11, BracketTopology.NONE);
+        t.seat(t.indexOf(1, 1), 12, 13);
+        assertEquals(1, t.advanceByes());
+        assertTrue(t.isDecided(t.indexOf(1, 0)));
+        assertFalse(t.isDecided(t.indexOf(1, 1)));
+        assertEquals(11, t.participant1(1));
+        assertEquals(BracketTopology.NONE, t.participant2(1));
+    }
+
+    @Test
+    void rejectsNonPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new BracketTopology(6));
+    }
+}
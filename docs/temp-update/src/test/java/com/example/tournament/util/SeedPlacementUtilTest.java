@@ -42,4 +42,33 @@ public class SeedPlacementUtilTest {
         assertEquals(6, SeedPlacementUtil.opponentIndexForRound1(1, 8));
         assertEquals(0, SeedPlacementUtil.opponentIndexForRound1(7, 8));
     }
+
+    @Test
+    void orderBySeedOrNatural_primitive_matchesBoxedOrder() {
+        long[] regs = {10L, 20L, 30L, 40L, 50L};
+        int[] seeds = {2, 0, 1, 0, 0};
+        assertArrayEquals(new long[]{30L, 10L, 20L, 40L, 50L}, SeedPlacementUtil.orderBySeedOrNatural(regs, seeds));
+    }
+
+    @Test
+    void standardPlacement_pairsTopAndBottomSeeds() {
+        // 0-based seed indices per draw line: 1v16, 8v9, 4v13, 5v12, 2v15, 7v10, 3v14, 6v11
+        assertArrayEquals(new int[]{0, 15, 7, 8, 3, 12, 4, 11, 1, 14, 6, 9, 2, 13, 5, 10},
+                SeedPlacementUtil.standardPlacement(16));
+        // seeds 1 and 2 sit in opposite halves of the draw
+        assertTrue(SeedPlacementUtil.round1PositionOf(0, 16) < 4);
+        assertTrue(SeedPlacementUtil.round1PositionOf(1, 16) >= 4);
+    }
+
+    @Test
+    void seedsByIndex_rejectsDuplicateAndOutOfRangeSeeds() {
+        long[] regs = {10L, 20L, 30L};
+        assertThrows(IllegalArgumentException.class,
+                () -> SeedPlacementUtil.seedsByIndex(regs, new long[]{10L, 20L}, new int[]{1, 1}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SeedPlacementUtil.seedsByIndex(regs, new long[]{10L}, new int[]{4}));
+        assertThrows(IllegalArgumentException.class,
+                () -> SeedPlacementUtil.seedsByIndex(regs, new long[]{99L}, new int[]{1}));
+        assertArrayEquals(new int[]{0, 1, 2}, SeedPlacementUtil.seedsByIndex(regs, new long[]{20L, 30L}, new int[]{1, 2}));
+    }
 }